@@ -35,6 +35,28 @@ public class Configuration implements Cloneable {
     private static final String PROPERTY_NAME_SPEED_EFFECTS = "SPEED_EFFECTS";
     private static final String PROPERTY_NAME_USER_NAME = "USER_NAME";
     private static final String PROPERTY_NAME_USER_PICTURE = "USER_PICTURE";
+    private static final String PROPERTY_NAME_GAZE_SAMPLING_RATE = "GAZE_SAMPLING_RATE";
+    private static final String PROPERTY_NAME_GAZE_RECORD_FOLDER = "GAZE_RECORD_FOLDER";
+    private static final String PROPERTY_NAME_GAZE_REPLAY_FILE = "GAZE_REPLAY_FILE";
+    private static final String PROPERTY_NAME_GAZE_REPLAY_SPEED = "GAZE_REPLAY_SPEED";
+    private static final String PROPERTY_NAME_SYNTHETIC_GAZE_RATE = "SYNTHETIC_GAZE_RATE";
+    private static final String PROPERTY_NAME_SYNTHETIC_GAZE_NOISE = "SYNTHETIC_GAZE_NOISE";
+    private static final String PROPERTY_NAME_SYNTHETIC_GAZE_SEED = "SYNTHETIC_GAZE_SEED";
+    private static final String PROPERTY_NAME_GAZE_FILTERS = "GAZE_FILTERS";
+    private static final String PROPERTY_NAME_GAZE_FILTER_MEDIAN_WINDOW = "GAZE_FILTER_MEDIAN_WINDOW";
+    private static final String PROPERTY_NAME_GAZE_FILTER_KALMAN_PROCESS_NOISE = "GAZE_FILTER_KALMAN_PROCESS_NOISE";
+    private static final String PROPERTY_NAME_GAZE_FILTER_KALMAN_MEASURE_NOISE = "GAZE_FILTER_KALMAN_MEASURE_NOISE";
+    private static final String PROPERTY_NAME_GAZE_FILTER_ONE_EURO_MIN_CUTOFF = "GAZE_FILTER_ONE_EURO_MIN_CUTOFF";
+    private static final String PROPERTY_NAME_GAZE_FILTER_ONE_EURO_BETA = "GAZE_FILTER_ONE_EURO_BETA";
+    private static final String PROPERTY_NAME_FIXATION_DETECTION = "FIXATION_DETECTION";
+    private static final String PROPERTY_NAME_FIXATION_DISPERSION_THRESHOLD = "FIXATION_DISPERSION_THRESHOLD";
+    private static final String PROPERTY_NAME_FIXATION_VELOCITY_THRESHOLD = "FIXATION_VELOCITY_THRESHOLD";
+    private static final String PROPERTY_NAME_FIXATION_MIN_DURATION = "FIXATION_MIN_DURATION";
+    private static final String PROPERTY_NAME_HEATMAP_CELL_SIZE = "HEATMAP_CELL_SIZE";
+    private static final String PROPERTY_NAME_HEATMAP_KERNEL = "HEATMAP_KERNEL";
+    private static final String PROPERTY_NAME_SESSION_LOG_ENABLED = "SESSION_LOG_ENABLED";
+    private static final String PROPERTY_NAME_HEATMAP_OVERLAY_ENABLED = "HEATMAP_OVERLAY_ENABLED";
+    private static final String PROPERTY_NAME_HEATMAP_OVERLAY_RATE = "HEATMAP_OVERLAY_RATE";
 
     @Getter
     @Setter
@@ -62,6 +84,55 @@ public class Configuration implements Cloneable {
     public static final double DEFAULT_VALUE_SPEED_EFFECTS = 4;
     private static final String DEFAULT_VALUE_USER_NAME = "";
     public static final String DEFAULT_VALUE_USER_PICTURE = "";
+    /**
+     * 0 keeps the legacy fixed-sleep polling of the eye-tracker
+     */
+    private static final int DEFAULT_VALUE_GAZE_SAMPLING_RATE = 0;
+    /**
+     * empty to disable the recording of the gaze samples
+     */
+    private static final String DEFAULT_VALUE_GAZE_RECORD_FOLDER = "";
+    private static final String DEFAULT_VALUE_GAZE_REPLAY_FILE = "";
+    private static final double DEFAULT_VALUE_GAZE_REPLAY_SPEED = 1;
+    private static final int DEFAULT_VALUE_SYNTHETIC_GAZE_RATE = 500;
+    private static final double DEFAULT_VALUE_SYNTHETIC_GAZE_NOISE = 5;
+    private static final long DEFAULT_VALUE_SYNTHETIC_GAZE_SEED = 0;
+    /**
+     * comma separated list of the filters applied to the gaze samples, among median, kalman and oneEuro, empty for none
+     */
+    private static final String DEFAULT_VALUE_GAZE_FILTERS = "";
+    private static final int DEFAULT_VALUE_GAZE_FILTER_MEDIAN_WINDOW = 5;
+    private static final double DEFAULT_VALUE_GAZE_FILTER_KALMAN_PROCESS_NOISE = 5000;
+    private static final double DEFAULT_VALUE_GAZE_FILTER_KALMAN_MEASURE_NOISE = 20;
+    private static final double DEFAULT_VALUE_GAZE_FILTER_ONE_EURO_MIN_CUTOFF = 1;
+    private static final double DEFAULT_VALUE_GAZE_FILTER_ONE_EURO_BETA = 0.007;
+    /**
+     * fixation detection algorithm, IDT or IVT, empty for none
+     */
+    private static final String DEFAULT_VALUE_FIXATION_DETECTION = "";
+    private static final double DEFAULT_VALUE_FIXATION_DISPERSION_THRESHOLD = 60;
+    private static final double DEFAULT_VALUE_FIXATION_VELOCITY_THRESHOLD = 1500;
+    private static final int DEFAULT_VALUE_FIXATION_MIN_DURATION = 100;
+    /**
+     * size of the heatmap cells in pixels, 0 to derive it from the screen width and the available memory
+     */
+    private static final double DEFAULT_VALUE_HEATMAP_CELL_SIZE = 0;
+    /**
+     * DISK or GAUSSIAN
+     */
+    private static final String DEFAULT_VALUE_HEATMAP_KERNEL = "DISK";
+    /**
+     * enables the logging of every gaze sample and game event of the sessions
+     */
+    private static final boolean DEFAULT_VALUE_SESSION_LOG_ENABLED = false;
+    /**
+     * shows the heatmap building up over the game while it is played
+     */
+    private static final boolean DEFAULT_VALUE_HEATMAP_OVERLAY_ENABLED = false;
+    /**
+     * refreshes per second of the live heatmap overlay
+     */
+    private static final int DEFAULT_VALUE_HEATMAP_OVERLAY_RATE = 4;
 
     public static boolean isMouseFree = false;
 
@@ -193,6 +264,94 @@ public class Configuration implements Cloneable {
     protected final StringProperty userPictureProperty = new SimpleStringProperty(this, PROPERTY_NAME_USER_PICTURE,
             DEFAULT_VALUE_USER_PICTURE);
 
+    @Getter
+    protected final IntegerProperty gazeSamplingRateProperty = new SimpleIntegerProperty(this,
+            PROPERTY_NAME_GAZE_SAMPLING_RATE, DEFAULT_VALUE_GAZE_SAMPLING_RATE);
+
+    @Getter
+    protected final StringProperty gazeRecordFolderProperty = new SimpleStringProperty(this,
+            PROPERTY_NAME_GAZE_RECORD_FOLDER, DEFAULT_VALUE_GAZE_RECORD_FOLDER);
+
+    @Getter
+    protected final StringProperty gazeReplayFileProperty = new SimpleStringProperty(this,
+            PROPERTY_NAME_GAZE_REPLAY_FILE, DEFAULT_VALUE_GAZE_REPLAY_FILE);
+
+    @Getter
+    protected final DoubleProperty gazeReplaySpeedProperty = new SimpleDoubleProperty(this,
+            PROPERTY_NAME_GAZE_REPLAY_SPEED, DEFAULT_VALUE_GAZE_REPLAY_SPEED);
+
+    @Getter
+    protected final IntegerProperty syntheticGazeRateProperty = new SimpleIntegerProperty(this,
+            PROPERTY_NAME_SYNTHETIC_GAZE_RATE, DEFAULT_VALUE_SYNTHETIC_GAZE_RATE);
+
+    @Getter
+    protected final DoubleProperty syntheticGazeNoiseProperty = new SimpleDoubleProperty(this,
+            PROPERTY_NAME_SYNTHETIC_GAZE_NOISE, DEFAULT_VALUE_SYNTHETIC_GAZE_NOISE);
+
+    @Getter
+    protected final LongProperty syntheticGazeSeedProperty = new SimpleLongProperty(this,
+            PROPERTY_NAME_SYNTHETIC_GAZE_SEED, DEFAULT_VALUE_SYNTHETIC_GAZE_SEED);
+
+    @Getter
+    protected final StringProperty gazeFiltersProperty = new SimpleStringProperty(this,
+            PROPERTY_NAME_GAZE_FILTERS, DEFAULT_VALUE_GAZE_FILTERS);
+
+    @Getter
+    protected final IntegerProperty gazeFilterMedianWindowProperty = new SimpleIntegerProperty(this,
+            PROPERTY_NAME_GAZE_FILTER_MEDIAN_WINDOW, DEFAULT_VALUE_GAZE_FILTER_MEDIAN_WINDOW);
+
+    @Getter
+    protected final DoubleProperty gazeFilterKalmanProcessNoiseProperty = new SimpleDoubleProperty(this,
+            PROPERTY_NAME_GAZE_FILTER_KALMAN_PROCESS_NOISE, DEFAULT_VALUE_GAZE_FILTER_KALMAN_PROCESS_NOISE);
+
+    @Getter
+    protected final DoubleProperty gazeFilterKalmanMeasureNoiseProperty = new SimpleDoubleProperty(this,
+            PROPERTY_NAME_GAZE_FILTER_KALMAN_MEASURE_NOISE, DEFAULT_VALUE_GAZE_FILTER_KALMAN_MEASURE_NOISE);
+
+    @Getter
+    protected final DoubleProperty gazeFilterOneEuroMinCutoffProperty = new SimpleDoubleProperty(this,
+            PROPERTY_NAME_GAZE_FILTER_ONE_EURO_MIN_CUTOFF, DEFAULT_VALUE_GAZE_FILTER_ONE_EURO_MIN_CUTOFF);
+
+    @Getter
+    protected final DoubleProperty gazeFilterOneEuroBetaProperty = new SimpleDoubleProperty(this,
+            PROPERTY_NAME_GAZE_FILTER_ONE_EURO_BETA, DEFAULT_VALUE_GAZE_FILTER_ONE_EURO_BETA);
+
+    @Getter
+    protected final StringProperty fixationDetectionProperty = new SimpleStringProperty(this,
+            PROPERTY_NAME_FIXATION_DETECTION, DEFAULT_VALUE_FIXATION_DETECTION);
+
+    @Getter
+    protected final DoubleProperty fixationDispersionThresholdProperty = new SimpleDoubleProperty(this,
+            PROPERTY_NAME_FIXATION_DISPERSION_THRESHOLD, DEFAULT_VALUE_FIXATION_DISPERSION_THRESHOLD);
+
+    @Getter
+    protected final DoubleProperty fixationVelocityThresholdProperty = new SimpleDoubleProperty(this,
+            PROPERTY_NAME_FIXATION_VELOCITY_THRESHOLD, DEFAULT_VALUE_FIXATION_VELOCITY_THRESHOLD);
+
+    @Getter
+    protected final IntegerProperty fixationMinDurationProperty = new SimpleIntegerProperty(this,
+            PROPERTY_NAME_FIXATION_MIN_DURATION, DEFAULT_VALUE_FIXATION_MIN_DURATION);
+
+    @Getter
+    protected final DoubleProperty heatMapCellSizeProperty = new SimpleDoubleProperty(this,
+            PROPERTY_NAME_HEATMAP_CELL_SIZE, DEFAULT_VALUE_HEATMAP_CELL_SIZE);
+
+    @Getter
+    protected final StringProperty heatMapKernelProperty = new SimpleStringProperty(this,
+            PROPERTY_NAME_HEATMAP_KERNEL, DEFAULT_VALUE_HEATMAP_KERNEL);
+
+    @Getter
+    protected final BooleanProperty sessionLogEnabledProperty = new SimpleBooleanProperty(this,
+            PROPERTY_NAME_SESSION_LOG_ENABLED, DEFAULT_VALUE_SESSION_LOG_ENABLED);
+
+    @Getter
+    protected final BooleanProperty heatMapOverlayEnabledProperty = new SimpleBooleanProperty(this,
+            PROPERTY_NAME_HEATMAP_OVERLAY_ENABLED, DEFAULT_VALUE_HEATMAP_OVERLAY_ENABLED);
+
+    @Getter
+    protected final IntegerProperty heatMapOverlayRateProperty = new SimpleIntegerProperty(this,
+            PROPERTY_NAME_HEATMAP_OVERLAY_RATE, DEFAULT_VALUE_HEATMAP_OVERLAY_RATE);
+
     protected Configuration() {
 
         // Listeners
@@ -341,6 +500,191 @@ public class Configuration implements Cloneable {
             userPictureProperty.setValue(buffer);
         }
 
+        buffer = prop.getProperty(PROPERTY_NAME_GAZE_SAMPLING_RATE);
+        if (buffer != null) {
+            try {
+                gazeSamplingRateProperty.setValue(Integer.parseInt(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_GAZE_SAMPLING_RATE);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_GAZE_RECORD_FOLDER);
+        if (buffer != null) {
+            gazeRecordFolderProperty.setValue(buffer);
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_GAZE_REPLAY_FILE);
+        if (buffer != null) {
+            gazeReplayFileProperty.setValue(buffer);
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_GAZE_REPLAY_SPEED);
+        if (buffer != null) {
+            try {
+                gazeReplaySpeedProperty.setValue(Double.parseDouble(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_GAZE_REPLAY_SPEED);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_SYNTHETIC_GAZE_RATE);
+        if (buffer != null) {
+            try {
+                syntheticGazeRateProperty.setValue(Integer.parseInt(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_SYNTHETIC_GAZE_RATE);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_SYNTHETIC_GAZE_NOISE);
+        if (buffer != null) {
+            try {
+                syntheticGazeNoiseProperty.setValue(Double.parseDouble(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_SYNTHETIC_GAZE_NOISE);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_SYNTHETIC_GAZE_SEED);
+        if (buffer != null) {
+            try {
+                syntheticGazeSeedProperty.setValue(Long.parseLong(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_SYNTHETIC_GAZE_SEED);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_GAZE_FILTERS);
+        if (buffer != null) {
+            gazeFiltersProperty.setValue(buffer);
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_GAZE_FILTER_MEDIAN_WINDOW);
+        if (buffer != null) {
+            try {
+                gazeFilterMedianWindowProperty.setValue(Integer.parseInt(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_GAZE_FILTER_MEDIAN_WINDOW);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_GAZE_FILTER_KALMAN_PROCESS_NOISE);
+        if (buffer != null) {
+            try {
+                gazeFilterKalmanProcessNoiseProperty.setValue(Double.parseDouble(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_GAZE_FILTER_KALMAN_PROCESS_NOISE);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_GAZE_FILTER_KALMAN_MEASURE_NOISE);
+        if (buffer != null) {
+            try {
+                gazeFilterKalmanMeasureNoiseProperty.setValue(Double.parseDouble(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_GAZE_FILTER_KALMAN_MEASURE_NOISE);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_GAZE_FILTER_ONE_EURO_MIN_CUTOFF);
+        if (buffer != null) {
+            try {
+                gazeFilterOneEuroMinCutoffProperty.setValue(Double.parseDouble(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_GAZE_FILTER_ONE_EURO_MIN_CUTOFF);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_GAZE_FILTER_ONE_EURO_BETA);
+        if (buffer != null) {
+            try {
+                gazeFilterOneEuroBetaProperty.setValue(Double.parseDouble(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_GAZE_FILTER_ONE_EURO_BETA);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_FIXATION_DETECTION);
+        if (buffer != null) {
+            fixationDetectionProperty.setValue(buffer);
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_FIXATION_DISPERSION_THRESHOLD);
+        if (buffer != null) {
+            try {
+                fixationDispersionThresholdProperty.setValue(Double.parseDouble(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_FIXATION_DISPERSION_THRESHOLD);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_FIXATION_VELOCITY_THRESHOLD);
+        if (buffer != null) {
+            try {
+                fixationVelocityThresholdProperty.setValue(Double.parseDouble(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_FIXATION_VELOCITY_THRESHOLD);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_FIXATION_MIN_DURATION);
+        if (buffer != null) {
+            try {
+                fixationMinDurationProperty.setValue(Integer.parseInt(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_FIXATION_MIN_DURATION);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_HEATMAP_CELL_SIZE);
+        if (buffer != null) {
+            try {
+                heatMapCellSizeProperty.setValue(Double.parseDouble(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_HEATMAP_CELL_SIZE);
+            }
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_HEATMAP_KERNEL);
+        if (buffer != null) {
+            heatMapKernelProperty.setValue(buffer);
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_SESSION_LOG_ENABLED);
+        if (buffer != null) {
+            sessionLogEnabledProperty.setValue(Boolean.parseBoolean(buffer));
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_HEATMAP_OVERLAY_ENABLED);
+        if (buffer != null) {
+            heatMapOverlayEnabledProperty.setValue(Boolean.parseBoolean(buffer));
+        }
+
+        buffer = prop.getProperty(PROPERTY_NAME_HEATMAP_OVERLAY_RATE);
+        if (buffer != null) {
+            try {
+                heatMapOverlayRateProperty.setValue(Integer.parseInt(buffer));
+            } catch (NumberFormatException e) {
+                log.warn("NumberFormatException while parsing value '{}' for property {}", buffer,
+                        PROPERTY_NAME_HEATMAP_OVERLAY_RATE);
+            }
+        }
+
     }
 
     private Properties toProperties() {
@@ -378,6 +722,43 @@ public class Configuration implements Cloneable {
         properties.setProperty(PROPERTY_NAME_WHITE_BCKGRD, Boolean.toString(whiteBackgroundProperty.getValue()));
         properties.setProperty(PROPERTY_NAME_USER_NAME, this.userNameProperty.getValue());
         properties.setProperty(PROPERTY_NAME_USER_PICTURE, this.userPictureProperty.getValue());
+        properties.setProperty(PROPERTY_NAME_GAZE_SAMPLING_RATE,
+                Integer.toString(this.gazeSamplingRateProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_GAZE_RECORD_FOLDER, this.gazeRecordFolderProperty.getValue());
+        properties.setProperty(PROPERTY_NAME_GAZE_REPLAY_FILE, this.gazeReplayFileProperty.getValue());
+        properties.setProperty(PROPERTY_NAME_GAZE_REPLAY_SPEED, Double.toString(gazeReplaySpeedProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_SYNTHETIC_GAZE_RATE,
+                Integer.toString(syntheticGazeRateProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_SYNTHETIC_GAZE_NOISE,
+                Double.toString(syntheticGazeNoiseProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_SYNTHETIC_GAZE_SEED, Long.toString(syntheticGazeSeedProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_GAZE_FILTERS, this.gazeFiltersProperty.getValue());
+        properties.setProperty(PROPERTY_NAME_GAZE_FILTER_MEDIAN_WINDOW,
+                Integer.toString(this.gazeFilterMedianWindowProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_GAZE_FILTER_KALMAN_PROCESS_NOISE,
+                Double.toString(this.gazeFilterKalmanProcessNoiseProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_GAZE_FILTER_KALMAN_MEASURE_NOISE,
+                Double.toString(this.gazeFilterKalmanMeasureNoiseProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_GAZE_FILTER_ONE_EURO_MIN_CUTOFF,
+                Double.toString(this.gazeFilterOneEuroMinCutoffProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_GAZE_FILTER_ONE_EURO_BETA,
+                Double.toString(this.gazeFilterOneEuroBetaProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_FIXATION_DETECTION, this.fixationDetectionProperty.getValue());
+        properties.setProperty(PROPERTY_NAME_FIXATION_DISPERSION_THRESHOLD,
+                Double.toString(this.fixationDispersionThresholdProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_FIXATION_VELOCITY_THRESHOLD,
+                Double.toString(this.fixationVelocityThresholdProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_FIXATION_MIN_DURATION,
+                Integer.toString(this.fixationMinDurationProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_HEATMAP_CELL_SIZE,
+                Double.toString(this.heatMapCellSizeProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_HEATMAP_KERNEL, this.heatMapKernelProperty.getValue());
+        properties.setProperty(PROPERTY_NAME_SESSION_LOG_ENABLED,
+                Boolean.toString(this.sessionLogEnabledProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_HEATMAP_OVERLAY_ENABLED,
+                Boolean.toString(this.heatMapOverlayEnabledProperty.getValue()));
+        properties.setProperty(PROPERTY_NAME_HEATMAP_OVERLAY_RATE,
+                Integer.toString(this.heatMapOverlayRateProperty.getValue()));
         /*
          * properties.setProperty(PROPERTY_NAME_GAZE_MENU, Boolean.toString(this.gazeMenuProperty.getValue()));
          */
@@ -494,6 +875,94 @@ public class Configuration implements Cloneable {
         return userPictureProperty.getValue();
     }
 
+    public Integer getGazeSamplingRate() {
+        return gazeSamplingRateProperty.getValue();
+    }
+
+    public String getGazeRecordFolder() {
+        return gazeRecordFolderProperty.getValue();
+    }
+
+    public String getGazeReplayFile() {
+        return gazeReplayFileProperty.getValue();
+    }
+
+    public Double getGazeReplaySpeed() {
+        return gazeReplaySpeedProperty.getValue();
+    }
+
+    public Integer getSyntheticGazeRate() {
+        return syntheticGazeRateProperty.getValue();
+    }
+
+    public Double getSyntheticGazeNoise() {
+        return syntheticGazeNoiseProperty.getValue();
+    }
+
+    public Long getSyntheticGazeSeed() {
+        return syntheticGazeSeedProperty.getValue();
+    }
+
+    public String getGazeFilters() {
+        return gazeFiltersProperty.getValue();
+    }
+
+    public Integer getGazeFilterMedianWindow() {
+        return gazeFilterMedianWindowProperty.getValue();
+    }
+
+    public Double getGazeFilterKalmanProcessNoise() {
+        return gazeFilterKalmanProcessNoiseProperty.getValue();
+    }
+
+    public Double getGazeFilterKalmanMeasureNoise() {
+        return gazeFilterKalmanMeasureNoiseProperty.getValue();
+    }
+
+    public Double getGazeFilterOneEuroMinCutoff() {
+        return gazeFilterOneEuroMinCutoffProperty.getValue();
+    }
+
+    public Double getGazeFilterOneEuroBeta() {
+        return gazeFilterOneEuroBetaProperty.getValue();
+    }
+
+    public String getFixationDetection() {
+        return fixationDetectionProperty.getValue();
+    }
+
+    public Double getFixationDispersionThreshold() {
+        return fixationDispersionThresholdProperty.getValue();
+    }
+
+    public Double getFixationVelocityThreshold() {
+        return fixationVelocityThresholdProperty.getValue();
+    }
+
+    public Integer getFixationMinDuration() {
+        return fixationMinDurationProperty.getValue();
+    }
+
+    public Double getHeatMapCellSize() {
+        return heatMapCellSizeProperty.getValue();
+    }
+
+    public String getHeatMapKernel() {
+        return heatMapKernelProperty.getValue();
+    }
+
+    public Boolean isSessionLogEnabled() {
+        return sessionLogEnabledProperty.getValue();
+    }
+
+    public Boolean isHeatMapOverlayEnabled() {
+        return heatMapOverlayEnabledProperty.getValue();
+    }
+
+    public Integer getHeatMapOverlayRate() {
+        return heatMapOverlayRateProperty.getValue();
+    }
+
     public void setUserName(String newName) {
         userNameProperty.setValue(newName);
     }
@@ -1,5 +1,5 @@
 package net.gazeplay.commons.gaze;
 
 public enum EyeTracker {
-    mouse_control, tobii_eyeX_4C, eyetribe
+    mouse_control, tobii_eyeX_4C, eyetribe, replay, synthetic
 }
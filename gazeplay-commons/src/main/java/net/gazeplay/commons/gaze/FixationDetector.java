@@ -0,0 +1,258 @@
+package net.gazeplay.commons.gaze;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Incremental fixation detector, fed with the gaze samples one by one.
+ *
+ * Two classic algorithms are available. I-DT groups consecutive samples whose dispersion (width plus height of their
+ * bounding box) stays below a threshold. I-VT groups consecutive samples whose point to point velocity stays below a
+ * threshold. In both cases a fixation starts once such a group lasts at least the minimum duration, and ends on the
+ * first sample breaking the group, or on an invalid sample. The move between two fixations is reported as a saccade,
+ * unless invalid samples (blink, eyes lost) occurred in between.
+ *
+ * Not thread-safe : it must always be fed from the same thread.
+ */
+public class FixationDetector {
+
+    public enum Algorithm {
+        IDT, IVT
+    }
+
+    @Getter
+    private final Algorithm algorithm;
+
+    /**
+     * maximum dispersion of a fixation for I-DT, in pixels
+     */
+    private final double dispersionThreshold;
+
+    /**
+     * maximum velocity within a fixation for I-VT, in pixels per second
+     */
+    private final double velocityThreshold;
+
+    private final long minDurationNanos;
+
+    private final FixationListener listener;
+
+    // samples of the current group, only kept for I-DT until the fixation starts
+
+    private long[] windowTimes = new long[64];
+
+    private double[] windowXs = new double[64];
+
+    private double[] windowYs = new double[64];
+
+    private int windowStart;
+
+    private int windowEnd;
+
+    // current group
+
+    private boolean inGroup;
+
+    private long groupStartTime;
+
+    private long groupLastTime;
+
+    private double minX;
+
+    private double maxX;
+
+    private double minY;
+
+    private double maxY;
+
+    private double sumX;
+
+    private double sumY;
+
+    private long count;
+
+    private boolean fixation;
+
+    private long previousTime;
+
+    private double previousX;
+
+    private double previousY;
+
+    /**
+     * end time of the previous fixation, or -1 if there is none or if the eyes have been lost since
+     */
+    private long previousFixationEndTime = -1;
+
+    /**
+     * @param minDurationMillis
+     *            minimum duration of a fixation
+     */
+    public FixationDetector(Algorithm algorithm, double dispersionThreshold, double velocityThreshold,
+            long minDurationMillis, FixationListener listener) {
+        this.algorithm = algorithm;
+        this.dispersionThreshold = dispersionThreshold;
+        this.velocityThreshold = velocityThreshold;
+        this.minDurationNanos = TimeUnit.MILLISECONDS.toNanos(minDurationMillis);
+        this.listener = listener;
+    }
+
+    /**
+     * @param time
+     *            time of the sample, in nanoseconds
+     */
+    public void onSample(long time, double x, double y, boolean valid) {
+        if (!valid) {
+            endGroup();
+            previousFixationEndTime = -1;
+            previousTime = 0;
+            return;
+        }
+
+        final boolean hasPrevious = previousTime != 0;
+        final long dt = time - previousTime;
+        final double velocity = hasPrevious && dt > 0
+                ? Math.hypot(x - previousX, y - previousY) * TimeUnit.SECONDS.toNanos(1) / dt : 0;
+        previousTime = time;
+        previousX = x;
+        previousY = y;
+
+        if (algorithm == Algorithm.IVT) {
+            if (velocity > velocityThreshold) {
+                endGroup();
+                return;
+            }
+            addToGroup(time, x, y);
+        } else {
+            if (inGroup && dispersionWith(x, y) > dispersionThreshold) {
+                if (fixation) {
+                    endGroup();
+                } else {
+                    // slides the window until the dispersion gets below the threshold again
+                    shrinkWindow(x, y);
+                }
+            }
+            addToGroup(time, x, y);
+        }
+
+        if (!fixation && groupLastTime - groupStartTime >= minDurationNanos) {
+            startFixation();
+        }
+    }
+
+    /**
+     * Ends the current fixation, if any, for instance at the end of the sample stream
+     */
+    public void flush() {
+        endGroup();
+    }
+
+    private void addToGroup(long time, double x, double y) {
+        if (!inGroup) {
+            inGroup = true;
+            groupStartTime = time;
+            minX = maxX = x;
+            minY = maxY = y;
+            sumX = sumY = 0;
+            count = 0;
+        }
+        groupLastTime = time;
+        minX = Math.min(minX, x);
+        maxX = Math.max(maxX, x);
+        minY = Math.min(minY, y);
+        maxY = Math.max(maxY, y);
+        sumX += x;
+        sumY += y;
+        count++;
+        if (algorithm == Algorithm.IDT && !fixation) {
+            pushToWindow(time, x, y);
+        }
+    }
+
+    private double dispersionWith(double x, double y) {
+        return Math.max(maxX, x) - Math.min(minX, x) + Math.max(maxY, y) - Math.min(minY, y);
+    }
+
+    private void startFixation() {
+        fixation = true;
+        windowStart = windowEnd = 0;
+        final double x = sumX / count;
+        final double y = sumY / count;
+        if (previousFixationEndTime >= 0) {
+            listener.saccade(groupStartTime, x, y, toMillis(groupStartTime - previousFixationEndTime));
+        }
+        listener.fixationStarted(groupStartTime, x, y);
+    }
+
+    private void endGroup() {
+        if (fixation) {
+            listener.fixationEnded(groupLastTime, sumX / count, sumY / count,
+                    toMillis(groupLastTime - groupStartTime));
+            previousFixationEndTime = groupLastTime;
+        }
+        fixation = false;
+        inGroup = false;
+        windowStart = windowEnd = 0;
+    }
+
+    private void pushToWindow(long time, double x, double y) {
+        if (windowEnd == windowTimes.length) {
+            final int size = windowEnd - windowStart;
+            if (size * 2 > windowTimes.length) {
+                final int capacity = windowTimes.length * 2;
+                windowTimes = Arrays.copyOf(windowTimes, capacity);
+                windowXs = Arrays.copyOf(windowXs, capacity);
+                windowYs = Arrays.copyOf(windowYs, capacity);
+            }
+            System.arraycopy(windowTimes, windowStart, windowTimes, 0, size);
+            System.arraycopy(windowXs, windowStart, windowXs, 0, size);
+            System.arraycopy(windowYs, windowStart, windowYs, 0, size);
+            windowStart = 0;
+            windowEnd = size;
+        }
+        windowTimes[windowEnd] = time;
+        windowXs[windowEnd] = x;
+        windowYs[windowEnd] = y;
+        windowEnd++;
+    }
+
+    /**
+     * Drops the oldest samples of the window until the new sample fits in it, then recomputes the group
+     */
+    private void shrinkWindow(double x, double y) {
+        while (windowStart < windowEnd) {
+            windowStart++;
+            recomputeGroup();
+            if (!inGroup || dispersionWith(x, y) <= dispersionThreshold) {
+                return;
+            }
+        }
+    }
+
+    private void recomputeGroup() {
+        if (windowStart == windowEnd) {
+            inGroup = false;
+            return;
+        }
+        groupStartTime = windowTimes[windowStart];
+        minX = maxX = windowXs[windowStart];
+        minY = maxY = windowYs[windowStart];
+        sumX = sumY = 0;
+        for (int i = windowStart; i < windowEnd; i++) {
+            minX = Math.min(minX, windowXs[i]);
+            maxX = Math.max(maxX, windowXs[i]);
+            minY = Math.min(minY, windowYs[i]);
+            maxY = Math.max(maxY, windowYs[i]);
+            sumX += windowXs[i];
+            sumY += windowYs[i];
+        }
+        count = windowEnd - windowStart;
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+}
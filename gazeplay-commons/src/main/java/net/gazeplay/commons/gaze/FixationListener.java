@@ -0,0 +1,18 @@
+package net.gazeplay.commons.gaze;
+
+/**
+ * Receives the fixations and saccades found by a {@link FixationDetector}, on the thread feeding the detector. Times
+ * are in the time base of the samples, durations in milliseconds.
+ */
+public interface FixationListener {
+
+    void fixationStarted(long time, double x, double y);
+
+    void fixationEnded(long time, double x, double y, long durationMillis);
+
+    /**
+     * A saccade between two fixations, reported when the second one starts, at its position
+     */
+    void saccade(long time, double x, double y, long durationMillis);
+
+}
@@ -2,6 +2,9 @@ package net.gazeplay.commons.gaze;
 
 import javafx.geometry.Point2D;
 
+/**
+ * Receives the position on screen of every valid gaze sample, once per sample, on the gaze hit-test thread
+ */
 public interface GazeMotionListener {
 
     void gazeMoved(Point2D position);
@@ -1,17 +1,29 @@
 package net.gazeplay.commons.gaze;
 
+import javafx.animation.AnimationTimer;
 import javafx.collections.ObservableList;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+
+import java.util.Arrays;
 
 /**
  * Created by schwab on 10/09/2016.
+ *
+ * Lights up the cells of a second screen where the gaze or the mouse goes, each cell fading back to black over
+ * {@link #lightingLength} seconds. The light of the cells is kept in a float buffer, decayed on each animation frame
+ * and written into a single image of one pixel per cell, scaled up to the screen.
  */
 @Slf4j
 public class SecondScreen implements GazeMotionListener {
@@ -22,11 +34,37 @@ public class SecondScreen implements GazeMotionListener {
 
     private final Stage stage2;
 
-    private final Lighting[][] lightings;
+    private final int columns;
+
+    private final int rows;
+
+    /**
+     * light of each cell, row by row, from 1 when just lit to 0 when back to black
+     */
+    private final float[] intensities;
+
+    private final int[] pixels;
+
+    private final WritableImage image;
 
-    private SecondScreen(Stage stage2, Lighting[][] lightings) {
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            update(now);
+        }
+    };
+
+    private long lastUpdateTime = -1;
+
+    private SecondScreen(Stage stage2, int columns, int rows) {
         this.stage2 = stage2;
-        this.lightings = lightings;
+        this.columns = columns;
+        this.rows = rows;
+        this.intensities = new float[columns * rows];
+        this.pixels = new int[columns * rows];
+        this.image = new WritableImage(columns, rows);
+        Arrays.fill(pixels, 0xFF000000);
+        image.getPixelWriter().setPixels(0, 0, columns, rows, PixelFormat.getIntArgbInstance(), pixels, 0, columns);
     }
 
     public static SecondScreen launch() {
@@ -53,48 +91,83 @@ public class SecondScreen implements GazeMotionListener {
         Group root = new Group();
         Scene scene = new Scene(root, screen1.getBounds().getWidth(), screen1.getBounds().getHeight(), Color.BLACK);
 
-        Lighting[][] lightings = makeLighting(root, screen2.getBounds());
+        SecondScreen sc = makeLighting(root, stage2, screen2.getBounds());
 
         stage2.setScene(scene);
 
         stage2.show();
 
-        SecondScreen sc = new SecondScreen(stage2, lightings);
+        sc.timer.start();
         return sc;
     }
 
-    private static Lighting[][] makeLighting(Group root, Rectangle2D screen2Bounds) {
+    private static SecondScreen makeLighting(Group root, Stage stage2, Rectangle2D screen2Bounds) {
 
         int width = (int) screen2Bounds.getWidth();
         int height = (int) screen2Bounds.getHeight();
 
-        final Lighting[][] lightings = new Lighting[width / pixelWidth][height / pixelWidth];
+        SecondScreen sc = new SecondScreen(stage2, width / pixelWidth, height / pixelWidth);
 
-        for (int i = 0; i < lightings.length; i++) {
-            for (int j = 0; j < lightings[i].length; j++) {
-                lightings[i][j] = new Lighting(i * pixelWidth, j * pixelWidth, pixelWidth, lightingLength,
-                        lightingColor);
-                root.getChildren().add(lightings[i][j]);
-            }
-        }
+        // one pixel per cell, scaled up without smoothing so that the cells keep their sharp edges
+        ImageView view = new ImageView(sc.image);
+        view.setSmooth(false);
+        view.setFitWidth(sc.columns * pixelWidth);
+        view.setFitHeight(sc.rows * pixelWidth);
+        view.addEventFilter(MouseEvent.MOUSE_MOVED, e -> sc.light(e.getX(), e.getY()));
+        view.addEventFilter(MouseEvent.MOUSE_ENTERED, e -> sc.light(e.getX(), e.getY()));
+        view.addEventFilter(GazeEvent.GAZE_MOVED, e -> sc.light(e.getX(), e.getY()));
+        view.addEventFilter(GazeEvent.GAZE_ENTERED, e -> sc.light(e.getX(), e.getY()));
+        root.getChildren().add(view);
 
-        return lightings;
+        return sc;
     }
 
     public void close() {
+        timer.stop();
         stage2.close();
     }
 
     public void light(javafx.geometry.Point2D rawCoordinates) {
-        int x = (int) (rawCoordinates.getX() / pixelWidth);
-        int y = (int) (rawCoordinates.getY() / pixelWidth);
-        if (x < 0 || x >= lightings.length) {
+        light(rawCoordinates.getX(), rawCoordinates.getY());
+    }
+
+    private void light(double rawX, double rawY) {
+        int x = (int) (rawX / pixelWidth);
+        int y = (int) (rawY / pixelWidth);
+        if (rawX < 0 || x >= columns) {
             return;
         }
-        if (y < 0 || y >= lightings[x].length) {
+        if (rawY < 0 || y >= rows) {
             return;
         }
-        lightings[x][y].enter();
+        intensities[y * columns + x] = 1f;
+    }
+
+    private void update(long now) {
+        final float decay = lastUpdateTime < 0 ? 0
+                : (float) ((now - lastUpdateTime) / 1_000_000_000d / lightingLength);
+        lastUpdateTime = now;
+
+        final double red = lightingColor.getRed() * 255;
+        final double green = lightingColor.getGreen() * 255;
+        final double blue = lightingColor.getBlue() * 255;
+        boolean anyLit = false;
+        for (int i = 0; i < intensities.length; i++) {
+            float intensity = intensities[i];
+            if (intensity > 0) {
+                intensity = Math.max(0, intensity - decay);
+                intensities[i] = intensity;
+                // the same linear fade from the lighting color to black as an interpolated fill
+                pixels[i] = 0xFF000000 | (int) Math.round(red * intensity) << 16
+                        | (int) Math.round(green * intensity) << 8 | (int) Math.round(blue * intensity);
+                anyLit = true;
+            }
+        }
+
+        if (anyLit) {
+            image.getPixelWriter().setPixels(0, 0, columns, rows, PixelFormat.getIntArgbInstance(), pixels, 0,
+                    columns);
+        }
     }
 
     @Override
@@ -1,15 +1,26 @@
 package net.gazeplay.commons.gaze.devicemanager;
 
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.event.EventType;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.layout.Pane;
+import javafx.stage.Window;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.gaze.FixationDetector;
+import net.gazeplay.commons.gaze.FixationListener;
 import net.gazeplay.commons.gaze.GazeMotionListener;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
  * Created by schwab on 04/10/2017.
@@ -19,19 +30,129 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
 
     private final List<GazeMotionListener> gazeMotionListeners = new CopyOnWriteArrayList<>();
 
+    private enum RegistrationOperation {
+        ADD, REMOVE, CLEAR
+    }
+
+    private static final class RegistrationRequest {
+
+        private final RegistrationOperation operation;
+
+        private final Node node;
+
+        private RegistrationRequest(RegistrationOperation operation, Node node) {
+            this.operation = operation;
+            this.node = node;
+        }
+    }
+
+    /**
+     * fixation or saccade found by the fixation detector, to be fired on the JavaFX thread
+     */
+    private static final class FixationNotification {
+
+        private final EventType<FixationEvent> eventType;
+
+        private final double x;
+
+        private final double y;
+
+        private final long duration;
+
+        /**
+         * the notification is fired once the hits of this sequence have been dispatched, so that it reaches the nodes
+         * the gaze was on at that time
+         */
+        private final long hitsSequence;
+
+        private FixationNotification(EventType<FixationEvent> eventType, double x, double y, long duration,
+                long hitsSequence) {
+            this.eventType = eventType;
+            this.x = x;
+            this.y = y;
+            this.duration = duration;
+            this.hitsSequence = hitsSequence;
+        }
+    }
+
+    /**
+     * registered event filters, only accessed from the JavaFX thread
+     */
+    private final Map<IdentityKey<Node>, GazeInfos> shapesEventFilter = new HashMap<>();
+
+    /**
+     * immutable snapshot of the registered event filters, published each time the registrations change
+     */
+    @Getter
+    private volatile Map<IdentityKey<Node>, GazeInfos> registry = Collections.emptyMap();
+
+    @Getter
+    private final Map<IdentityKey<Node>, GazeInfos> shapesEventHandler = new ConcurrentHashMap<>();
+
+    /**
+     * pending registrations of event filters, submitted from any thread and applied on the JavaFX thread
+     */
+    private final Queue<RegistrationRequest> registrationRequests = new ConcurrentLinkedQueue<>();
+
+    private final GazeHitTestStage hitTestStage;
+
+    /**
+     * scenes containing registered nodes, whose position on screen is published to the hit-test stage
+     */
+    private final Set<Scene> indexedScenes = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * registered nodes whose bounds changed since the last dispatch
+     */
+    private final Queue<GazeInfos> dirtyGazeInfos = new ConcurrentLinkedQueue<>();
+
+    /**
+     * registered nodes the gaze is currently on
+     */
+    private final Set<GazeInfos> gazedInfos = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * samples written by the device, read by the hit-test stage and by any other interested consumer
+     */
     @Getter
-    private final Map<IdentityKey<Node>, GazeInfos> shapesEventFilter = Collections
-            .synchronizedMap(new HashMap<IdentityKey<Node>, GazeInfos>());
+    private final GazeSampleRingBuffer gazeSamples = new GazeSampleRingBuffer();
+
+    /**
+     * sequence of the next hit-tested sample to dispatch, only accessed from the JavaFX thread
+     */
+    private long nextHitsSequence = 0;
+
+    private final GazeHitTestStage.GazeSampleHits sampleHits = new GazeHitTestStage.GazeSampleHits();
+
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean(false);
 
+    private final Runnable dispatchTask = this::dispatchPendingHits;
+
+    private final List<GazeInfos> candidates = new ArrayList<>();
+
+    private final Queue<FixationNotification> fixationNotifications = new ConcurrentLinkedQueue<>();
+
+    /**
+     * number of dispatches run on the JavaFX thread so far
+     */
     @Getter
-    private final Map<IdentityKey<Node>, GazeInfos> shapesEventHandler = Collections
-            .synchronizedMap(new HashMap<IdentityKey<Node>, GazeInfos>());
+    private volatile long dispatchesCount = 0;
 
-    private final List<Node> toRemove = new LinkedList<Node>();
-    private final List<Node> toAdd = new LinkedList<Node>();
+    /**
+     * number of hit-tested samples overwritten before the JavaFX thread could dispatch their events
+     */
+    @Getter
+    private volatile long droppedSamplesCount = 0;
+
+    private long candidateStamp = 0;
 
     public AbstractGazeDeviceManager() {
+        this(UniformGridHitTestIndex::new);
+    }
 
+    AbstractGazeDeviceManager(Supplier<GazeHitTestIndex> hitTestIndexFactory) {
+        this.hitTestStage = new GazeHitTestStage(hitTestIndexFactory, gazeSamples, this::scheduleDispatch,
+                this::notifyAllGazeMotionListeners);
     }
 
     @Override
@@ -50,131 +171,390 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
         this.gazeMotionListeners.remove(listener);
     }
 
-    private void notifyAllGazeMotionListeners(Point2D position) {
+    /**
+     * Called on the hit-test stage thread, once for each valid sample, after it has been filtered
+     */
+    private void notifyAllGazeMotionListeners(double screenX, double screenY) {
+        if (gazeMotionListeners.isEmpty()) {
+            return;
+        }
+        final Point2D position = new Point2D(screenX, screenY);
         for (GazeMotionListener l : this.gazeMotionListeners) {
             l.gazeMoved(position);
         }
     }
 
+    /**
+     * Sets the filter applied to the samples by the hit-test stage. The samples are written raw in the ring buffer, so
+     * that the recordings and the session logs keep them unfiltered.
+     *
+     * @param gazeFilter
+     *            the filter, or null to hit-test the raw samples
+     */
+    public void setGazeFilter(GazeFilter gazeFilter) {
+        hitTestStage.setGazeFilter(gazeFilter);
+    }
+
+    public GazeFilter getGazeFilter() {
+        return hitTestStage.getGazeFilter();
+    }
+
+    /**
+     * Enables the detection of the fixations and saccades, which are then fired as FIXATION_START, FIXATION_END and
+     * SACCADE fixation events on the registered nodes the gaze is on. The detection runs on the hit-test stage thread.
+     *
+     * @param algorithm
+     *            the detection algorithm, or null to disable the detection
+     */
+    public void setFixationDetection(FixationDetector.Algorithm algorithm, double dispersionThreshold,
+            double velocityThreshold, long minDurationMillis) {
+        if (algorithm == null) {
+            hitTestStage.setFixationDetector(null);
+            return;
+        }
+        hitTestStage.setFixationDetector(new FixationDetector(algorithm, dispersionThreshold, velocityThreshold,
+                minDurationMillis, new FixationListener() {
+                    @Override
+                    public void fixationStarted(long time, double x, double y) {
+                        notifyFixation(FixationEvent.FIXATION_START, x, y, 0);
+                    }
+
+                    @Override
+                    public void fixationEnded(long time, double x, double y, long durationMillis) {
+                        notifyFixation(FixationEvent.FIXATION_END, x, y, durationMillis);
+                    }
+
+                    @Override
+                    public void saccade(long time, double x, double y, long durationMillis) {
+                        notifyFixation(FixationEvent.SACCADE, x, y, durationMillis);
+                    }
+                }));
+    }
+
+    /**
+     * Called on the hit-test stage thread, before the hit-test of the sample which triggered the notification
+     */
+    private void notifyFixation(EventType<FixationEvent> eventType, double x, double y, long duration) {
+        fixationNotifications.add(new FixationNotification(eventType, x, y, duration,
+                hitTestStage.getPublishedHitsSequence()));
+        scheduleDispatch();
+    }
+
     @Override
     public void addEventFilter(Node gs) {
-        toAdd.add(gs);
+        submitRegistrationRequest(new RegistrationRequest(RegistrationOperation.ADD, gs));
     }
 
-    public void add() {
-        synchronized (shapesEventFilter) {
-            List<Node> temp = new LinkedList<Node>();
-            temp.addAll(toAdd);
-            for (Node node : temp) {
-                shapesEventFilter.put(new IdentityKey<>(node), new GazeInfos(node));
-                toAdd.remove(node);
-            }
-        }
+    @Override
+    public void removeEventFilter(Node gs) {
+        submitRegistrationRequest(new RegistrationRequest(RegistrationOperation.REMOVE, gs));
     }
 
     @Override
     public void addEventHandler(Node gs) {
-        synchronized (shapesEventFilter) {
-            shapesEventHandler.put(new IdentityKey<>(gs), new GazeInfos(gs));
+        final GazeInfos gi = new GazeInfos(gs);
+        shapesEventHandler.put(gi.getIdentityKey(), gi);
+    }
+
+    @Override
+    public void removeEventHandler(Node gs) {
+        GazeInfos removed = shapesEventHandler.remove(new IdentityKey<>(gs));
+        if (removed == null) {
+            log.warn("EventHandler to remove not found");
         }
     }
 
+    /**
+     * Clear all Nodes in both EventFilter and EventHandler. There is no more gaze event after this function is called
+     */
     @Override
-    public void removeEventFilter(Node gs) {
-        toRemove.add(gs);
-        if (gs instanceof Pane) {
-            for (Node child : ((Pane) gs).getChildren()) {
-                removeEventFilter(child);
-            }
+    public void clear() {
+        shapesEventHandler.clear();
+        gazeMotionListeners.clear();
+        hitTestStage.clear();
+        submitRegistrationRequest(new RegistrationRequest(RegistrationOperation.CLEAR, null));
+        if (Platform.isFxApplicationThread()) {
+            applyRegistrationRequests();
         }
     }
 
-    public void delete() {
-        synchronized (shapesEventFilter) {
-            List<Node> temp = new LinkedList<Node>();
-            temp.addAll(toRemove);
-            for (Node node : temp) {
-                GazeInfos removed = shapesEventFilter.remove(new IdentityKey<>(node));
-                if (removed == null) {
+    /**
+     * Can be called from any thread, never blocks. The request is applied on the JavaFX thread, at the latest on the
+     * next dispatch.
+     */
+    private void submitRegistrationRequest(RegistrationRequest request) {
+        registrationRequests.add(request);
+        scheduleDispatch();
+    }
+
+    /**
+     * Applies the pending registration requests, in the order they were submitted, then publishes the new registry
+     * snapshot if anything changed.
+     */
+    private void applyRegistrationRequests() {
+        boolean changed = false;
+        RegistrationRequest request;
+        while ((request = registrationRequests.poll()) != null) {
+            switch (request.operation) {
+            case ADD:
+                register(request.node);
+                break;
+            case REMOVE:
+                if (!unregister(request.node)) {
                     log.warn("EventFilter to remove not found");
-                } else {
-                    if (removed.isOn()) {
-                        Platform.runLater(() -> removed.getNode()
-                                .fireEvent(new GazeEvent(GazeEvent.GAZE_EXITED, System.currentTimeMillis(), 0, 0)));
-                    }
                 }
-                toRemove.remove(node);
+                break;
+            case CLEAR:
+                for (GazeInfos gi : shapesEventFilter.values()) {
+                    unregister(gi);
+                }
+                shapesEventFilter.clear();
+                gazedInfos.clear();
+                dirtyGazeInfos.clear();
+                indexedScenes.clear();
+                nextHitsSequence = hitTestStage.getPublishedHitsSequence() + 1;
+                break;
             }
+            changed = true;
+        }
+        if (changed) {
+            registry = Collections.unmodifiableMap(new HashMap<>(shapesEventFilter));
         }
     }
 
-    @Override
-    public void removeEventHandler(Node gs) {
-        synchronized (shapesEventFilter) {
-            GazeInfos removed = shapesEventHandler.remove(new IdentityKey<>(gs));
-            if (removed == null) {
-                log.warn("EventHandler to remove not found");
+    /**
+     * Registers the node and, for a Pane, all its descendants. Children added to a registered Pane later on are
+     * registered as well, as they are added.
+     */
+    private void register(Node node) {
+        final GazeInfos gi = new GazeInfos(node);
+        if (shapesEventFilter.putIfAbsent(gi.getIdentityKey(), gi) != null) {
+            return;
+        }
+
+        InvalidationListener boundsInvalidationListener = observable -> markBoundsDirty(gi);
+        gi.setBoundsInvalidationListener(boundsInvalidationListener);
+        node.sceneProperty().addListener(boundsInvalidationListener);
+        node.boundsInLocalProperty().addListener(boundsInvalidationListener);
+        node.localToSceneTransformProperty().addListener(boundsInvalidationListener);
+        markBoundsDirty(gi);
+
+        if (node instanceof Pane) {
+            ListChangeListener<Node> childrenListener = change -> {
+                while (change.next()) {
+                    for (Node child : change.getAddedSubList()) {
+                        addEventFilter(child);
+                    }
+                }
+            };
+            gi.setChildrenListener(childrenListener);
+            ((Pane) node).getChildren().addListener(childrenListener);
+            for (Node child : ((Pane) node).getChildren()) {
+                register(child);
             }
         }
     }
 
     /**
-     * Clear all Nodes in both EventFilter and EventHandler. There is no more gaze event after this function is called
+     * Unregisters the node and, for a Pane, all its descendants
+     * 
+     * @return false if the node was not registered
      */
-    @Override
-    public void clear() {
-        synchronized (shapesEventFilter) {
-            shapesEventFilter.clear();
-            shapesEventHandler.clear();
-            gazeMotionListeners.clear();
+    private boolean unregister(Node node) {
+        if (node instanceof Pane) {
+            for (Node child : ((Pane) node).getChildren()) {
+                unregister(child);
+            }
+        }
+        final GazeInfos removed = shapesEventFilter.remove(new IdentityKey<>(node));
+        if (removed == null) {
+            return false;
+        }
+        unregister(removed);
+        if (removed.isOn()) {
+            node.fireEvent(new GazeEvent(GazeEvent.GAZE_EXITED, System.currentTimeMillis(), 0, 0));
         }
+        return true;
     }
 
-    synchronized void onGazeUpdate(Point2D gazePositionOnScreen) {
+    private void unregister(GazeInfos gi) {
+        gi.setRemoved(true);
+        final Node node = gi.getNode();
 
-        // notifyAllGazeMotionListeners(gazePositionOnScreen);
+        InvalidationListener boundsInvalidationListener = gi.getBoundsInvalidationListener();
+        if (boundsInvalidationListener != null) {
+            node.sceneProperty().removeListener(boundsInvalidationListener);
+            node.boundsInLocalProperty().removeListener(boundsInvalidationListener);
+            node.localToSceneTransformProperty().removeListener(boundsInvalidationListener);
+        }
+        if (gi.getChildrenListener() != null) {
+            ((Pane) node).getChildren().removeListener(gi.getChildrenListener());
+        }
 
-        final double positionX = gazePositionOnScreen.getX();
-        final double positionY = gazePositionOnScreen.getY();
+        hitTestStage.publishBounds(gi, null, null);
+        gazedInfos.remove(gi);
+    }
 
-        add();
-        delete();
+    private void markBoundsDirty(GazeInfos gi) {
+        if (!gi.isBoundsDirty()) {
+            gi.setBoundsDirty(true);
+            dirtyGazeInfos.add(gi);
+        }
+    }
 
-        Collection<GazeInfos> c = shapesEventFilter.values();
+    /**
+     * Must always be called from the same thread, the device one, see {@link #onGazeUpdate(double, double)}. The
+     * hit-test is run by the gaze hit-test stage, and the resulting gaze events are dispatched in batch on the JavaFX
+     * thread.
+     */
+    void onGazeUpdate(Point2D gazePositionOnScreen) {
+        onGazeUpdate(gazePositionOnScreen.getX(), gazePositionOnScreen.getY());
+    }
 
-        synchronized (shapesEventFilter) {
-            Iterator<GazeInfos> i = c.iterator();
+    /**
+     * Must always be called from the same thread, the device one, as it is the only producer of the gaze samples ring
+     * buffer.
+     */
+    void onGazeUpdate(double positionX, double positionY) {
+        onGazeUpdate(System.nanoTime(), positionX, positionY);
+    }
 
-            while (i.hasNext()) {
-                GazeInfos gi = i.next();
+    /**
+     * Same as {@link #onGazeUpdate(double, double)}, for a sample taken at the given time rather than now, in the
+     * {@link System#nanoTime()} time base, as when a recording is replayed faster than it was recorded
+     */
+    void onGazeUpdate(long timestampNanos, double positionX, double positionY) {
+        final boolean valid = !Double.isNaN(positionX) && !Double.isNaN(positionY);
 
-                final Node node = gi.getNode();
+        gazeSamples.write(timestampNanos, positionX, positionY, valid);
+        hitTestStage.onSamplesAvailable();
+    }
 
-                EventFire(positionX, positionY, gi, node);
-                // log.info("Fire : "+node+" then recursion !");
-                recursiveEventFire(positionX, positionY, node);
+    private void scheduleDispatch() {
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            Platform.runLater(dispatchTask);
+        }
+    }
 
+    /**
+     * Dispatches, on the JavaFX thread, the gaze events of all the samples hit-tested since the previous dispatch.
+     * GAZE_ENTERED and GAZE_EXITED are fired in the samples order, GAZE_MOVED is only fired once per node, for the
+     * latest sample on it.
+     */
+    private void dispatchPendingHits() {
+        dispatchScheduled.set(false);
+        dispatchesCount++;
+
+        applyRegistrationRequests();
+        refreshDirtyBounds();
+        publishSceneOrigins();
+
+        while (nextHitsSequence <= hitTestStage.getPublishedHitsSequence()) {
+            final long sequence = Math.max(nextHitsSequence, hitTestStage.getOldestReadableHitsSequence());
+            droppedSamplesCount += sequence - nextHitsSequence;
+            nextHitsSequence = sequence + 1;
+            if (!hitTestStage.readHits(sequence, sampleHits)) {
+                log.debug("gaze events dispatch is late, skipping overwritten samples");
+                droppedSamplesCount++;
+                continue;
             }
+            collectCandidates(sampleHits);
+            for (int i = 0; i < candidates.size(); i++) {
+                final GazeInfos gi = candidates.get(i);
+                // an event handler may have unregistered it meanwhile
+                if (!gi.isRemoved()) {
+                    EventFire(sampleHits.x, sampleHits.y, gi, gi.getNode());
+                }
+            }
+            candidates.clear();
+            fireFixationNotifications(sequence);
+        }
+        Arrays.fill(sampleHits.hits, null);
+        fireFixationNotifications(nextHitsSequence - 1);
 
+        for (GazeInfos gi : gazedInfos) {
+            if (gi.isMovePending()) {
+                gi.setMovePending(false);
+                candidates.add(gi);
+            }
+        }
+        for (int i = 0; i < candidates.size(); i++) {
+            final GazeInfos gi = candidates.get(i);
+            gi.getNode().fireEvent(new GazeEvent(GazeEvent.GAZE_MOVED, gi.getTime(), gi.getMoveX(), gi.getMoveY()));
         }
+        candidates.clear();
     }
 
-    public void recursiveEventFire(double positionX, double positionY, Node node) {
-        if (node instanceof Pane) {
-            for (Node child : ((Pane) node).getChildren()) {
-                if (!shapesEventFilter.containsKey(new IdentityKey<>(child))) {
-                    // log.info("child : "+child+" added !");
-                    addEventFilter(child);
-                }
-                // log.info("child : "+child+" fired !");
-                GazeInfos gi = shapesEventFilter.get(new IdentityKey<>(child));
-                if (gi != null) {
-                    EventFire(positionX, positionY, gi, child);
+    /**
+     * Fires the fixation notifications up to the given hits sequence on the registered nodes the gaze is on
+     */
+    private void fireFixationNotifications(long hitsSequence) {
+        FixationNotification notification;
+        while ((notification = fixationNotifications.peek()) != null && notification.hitsSequence <= hitsSequence) {
+            fixationNotifications.poll();
+            // an event handler may unregister nodes meanwhile
+            candidates.addAll(gazedInfos);
+            for (int i = 0; i < candidates.size(); i++) {
+                final GazeInfos gi = candidates.get(i);
+                if (!gi.isRemoved()) {
+                    gi.getNode().fireEvent(new FixationEvent(notification.eventType, System.currentTimeMillis(),
+                            notification.x, notification.y, notification.duration));
                 }
-                recursiveEventFire(positionX, positionY, child);
+            }
+            candidates.clear();
+        }
+    }
+
+    /**
+     * Collects the nodes which may be under the gaze, plus the ones the gaze was on until now, as those may need to
+     * receive a GAZE_EXITED event.
+     */
+    private void collectCandidates(GazeHitTestStage.GazeSampleHits sampleHits) {
+        final long stamp = ++candidateStamp;
+
+        for (int i = 0; i < sampleHits.hitsCount; i++) {
+            final GazeInfos gi = sampleHits.hits[i];
+            if (gi.getCandidateStamp() != stamp && !gi.isRemoved()) {
+                gi.setCandidateStamp(stamp);
+                candidates.add(gi);
+            }
+        }
+        for (GazeInfos gi : gazedInfos) {
+            if (gi.getCandidateStamp() != stamp) {
+                gi.setCandidateStamp(stamp);
+                candidates.add(gi);
+            }
+        }
+    }
+
+    private void refreshDirtyBounds() {
+        GazeInfos gi;
+        while ((gi = dirtyGazeInfos.poll()) != null) {
+            gi.setBoundsDirty(false);
+            if (gi.isRemoved()) {
+                continue;
+            }
+            final Node node = gi.getNode();
+            final Scene scene = node.getScene();
+            if (scene == null) {
+                hitTestStage.publishBounds(gi, null, null);
+                continue;
+            }
+            indexedScenes.add(scene);
+            hitTestStage.publishBounds(gi, scene,
+                    node.getLocalToSceneTransform().transform(node.getBoundsInLocal()));
+        }
+    }
 
+    private void publishSceneOrigins() {
+        final Map<Scene, double[]> sceneOrigins = new HashMap<>();
+        for (Scene scene : indexedScenes) {
+            final Window window = scene.getWindow();
+            if (window != null) {
+                sceneOrigins.put(scene, new double[] { window.getX() + scene.getX(), window.getY() + scene.getY() });
             }
         }
+        hitTestStage.publishSceneOrigins(sceneOrigins);
     }
 
     public void EventFire(double positionX, double positionY, GazeInfos gi, Node node) {
@@ -185,14 +565,15 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
 
             if (localPosition != null && node.contains(localPosition)) {
                 if (gi.isOn()) {
-                    Platform.runLater(() -> node
-                            .fireEvent(new GazeEvent(GazeEvent.GAZE_MOVED, gi.getTime(), positionX, positionY)));
+                    gi.setMovePending(true);
+                    gi.setMoveX(positionX);
+                    gi.setMoveY(positionY);
                 } else {
 
                     gi.setOn(true);
                     gi.setTime(System.currentTimeMillis());
-                    Platform.runLater(() -> node
-                            .fireEvent(new GazeEvent(GazeEvent.GAZE_ENTERED, gi.getTime(), positionX, positionY)));
+                    gazedInfos.add(gi);
+                    node.fireEvent(new GazeEvent(GazeEvent.GAZE_ENTERED, gi.getTime(), positionX, positionY));
                 }
             } else {// gaze is not on the shape
 
@@ -200,8 +581,9 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
 
                     gi.setOn(false);
                     gi.setTime(-1);
-                    Platform.runLater(() -> node
-                            .fireEvent(new GazeEvent(GazeEvent.GAZE_EXITED, gi.getTime(), positionX, positionY)));
+                    gi.setMovePending(false);
+                    gazedInfos.remove(gi);
+                    node.fireEvent(new GazeEvent(GazeEvent.GAZE_EXITED, gi.getTime(), positionX, positionY));
                 } else {// gaze was not on the shape previously
                     // nothing to do
 
@@ -0,0 +1,68 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.event.EventTarget;
+import javafx.event.EventType;
+import javafx.scene.input.InputEvent;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Fixations and saccades of the gaze, fired on the registered nodes the gaze is on when the fixation detection is
+ * enabled. They are not gaze events, so that the handlers of {@link GazeEvent#ANY} do not take them for gaze moves.
+ */
+@ToString
+public class FixationEvent extends InputEvent {
+
+    public static final EventType<FixationEvent> ANY = new EventType<>(InputEvent.ANY, "FIXATION");
+
+    /**
+     * the gaze started to fixate the node, after the minimum fixation duration
+     */
+    public static final EventType<FixationEvent> FIXATION_START = new EventType<>(FixationEvent.ANY,
+            "FIXATION_START");
+
+    /**
+     * the fixation on the node ended, the duration of the fixation is given
+     */
+    public static final EventType<FixationEvent> FIXATION_END = new EventType<>(FixationEvent.ANY, "FIXATION_END");
+
+    /**
+     * the gaze jumped onto the node from a previous fixation, the duration of the saccade is given
+     */
+    public static final EventType<FixationEvent> SACCADE = new EventType<>(FixationEvent.ANY, "SACCADE");
+
+    @Getter
+    private final long time;
+
+    @Getter
+    private final double x;
+
+    @Getter
+    private final double y;
+
+    /**
+     * duration of the fixation or of the saccade, in milliseconds
+     */
+    @Getter
+    private final long duration;
+
+    public FixationEvent(EventType<FixationEvent> et, long time, double x, double y, long duration) {
+        super(et);
+        this.time = time;
+        this.x = x;
+        this.y = y;
+        this.duration = duration;
+    }
+
+    @Override
+    public FixationEvent copyFor(Object newSource, EventTarget newTarget) {
+        return (FixationEvent) super.copyFor(newSource, newTarget);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public EventType<? extends FixationEvent> getEventType() {
+        return (EventType<? extends FixationEvent>) super.getEventType();
+    }
+
+}
@@ -22,4 +22,9 @@ public interface GazeDeviceManager {
     void removeEventHandler(Node gs);
 
     void clear();
+
+    /**
+     * @return the samples written by the device, which any consumer can read at its own pace
+     */
+    GazeSampleRingBuffer getGazeSamples();
 }
@@ -1,9 +1,14 @@
 package net.gazeplay.commons.gaze.devicemanager;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gaze.EyeTracker;
+import net.gazeplay.commons.gaze.FixationDetector;
+import net.gazeplay.commons.utils.games.Utils;
+
+import java.io.File;
 
 /**
  * Created by schwab on 16/08/2016.
@@ -14,6 +19,14 @@ public class GazeDeviceManagerFactory {
     @Getter
     private static final GazeDeviceManagerFactory instance = new GazeDeviceManagerFactory();
 
+    /**
+     * set by the application when its main window gets minimized or restored, so that the eye-tracker polling can slow
+     * down meanwhile
+     */
+    @Getter
+    @Setter
+    private volatile boolean applicationMinimized = false;
+
     private GazeDeviceManagerFactory() {
     }
 
@@ -24,7 +37,7 @@ public class GazeDeviceManagerFactory {
         final EyeTracker eyeTracker = EyeTracker.valueOf(eyetrackerConfigValue);
         log.info("Eye-tracker = " + eyeTracker);
 
-        final GazeDeviceManager gazeDeviceManager;
+        final AbstractGazeDeviceManager gazeDeviceManager;
 
         switch (eyeTracker) {
         case tobii_eyeX_4C:
@@ -33,6 +46,14 @@ public class GazeDeviceManagerFactory {
         case eyetribe:
             gazeDeviceManager = new EyeTribeGazeDeviceManager();
             break;
+        case replay:
+            gazeDeviceManager = new ReplayGazeDeviceManager(new File(config.getGazeReplayFile()),
+                    config.getGazeReplaySpeed());
+            break;
+        case synthetic:
+            gazeDeviceManager = new SyntheticGazeDeviceManager(config.getSyntheticGazeRate(),
+                    config.getSyntheticGazeNoise(), config.getSyntheticGazeSeed());
+            break;
         default:
             gazeDeviceManager = new AbstractGazeDeviceManager() {
                 @Override
@@ -48,8 +69,34 @@ public class GazeDeviceManagerFactory {
             };
         }
 
-        gazeDeviceManager.init();
-        return gazeDeviceManager;
+        gazeDeviceManager.setGazeFilter(GazeFilters.fromConfiguration(config));
+
+        final String fixationDetection = config.getFixationDetection();
+        if (fixationDetection != null && !fixationDetection.trim().isEmpty()) {
+            try {
+                gazeDeviceManager.setFixationDetection(
+                        FixationDetector.Algorithm.valueOf(fixationDetection.trim().toUpperCase()),
+                        config.getFixationDispersionThreshold(), config.getFixationVelocityThreshold(),
+                        config.getFixationMinDuration());
+            } catch (IllegalArgumentException e) {
+                log.warn("Unknown fixation detection algorithm : {}", fixationDetection);
+            }
+        }
+
+        final GazeDeviceManager result;
+        final String gazeRecordFolder = config.getGazeRecordFolder();
+        if (gazeRecordFolder == null || gazeRecordFolder.isEmpty()) {
+            result = gazeDeviceManager;
+        } else {
+            File recordFolder = new File(gazeRecordFolder);
+            boolean recordFolderCreated = recordFolder.mkdirs();
+            log.debug("recordFolderCreated = {}", recordFolderCreated);
+            File recordingFile = new File(recordFolder, Utils.now() + GazeRecordingFormat.FILE_EXTENSION);
+            result = new RecordingGazeDeviceManager(gazeDeviceManager, recordingFile);
+        }
+
+        result.init();
+        return result;
     }
 
 }
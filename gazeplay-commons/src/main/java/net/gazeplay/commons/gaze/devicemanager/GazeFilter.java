@@ -0,0 +1,17 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+/**
+ * Filter applied in place to the gaze samples, on the hit-test stage thread, after they are read from the gaze sample
+ * ring buffer. Implementations are stateful and are only called from a single thread.
+ */
+public interface GazeFilter {
+
+    /**
+     * Filters the position of the sample in place. An invalid sample is left unchanged and resets the filter, as the
+     * following samples are not related to the previous ones.
+     */
+    void filter(GazeSample sample);
+
+    void reset();
+
+}
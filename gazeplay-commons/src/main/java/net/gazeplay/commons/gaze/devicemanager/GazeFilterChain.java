@@ -0,0 +1,30 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import java.util.List;
+
+/**
+ * Applies several gaze filters in turn
+ */
+public class GazeFilterChain implements GazeFilter {
+
+    private final GazeFilter[] filters;
+
+    public GazeFilterChain(List<GazeFilter> filters) {
+        this.filters = filters.toArray(new GazeFilter[0]);
+    }
+
+    @Override
+    public void filter(GazeSample sample) {
+        for (GazeFilter filter : filters) {
+            filter.filter(sample);
+        }
+    }
+
+    @Override
+    public void reset() {
+        for (GazeFilter filter : filters) {
+            filter.reset();
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.configuration.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the gaze filter chain described in the configuration
+ */
+@Slf4j
+public final class GazeFilters {
+
+    public static final String MEDIAN = "median";
+
+    public static final String KALMAN = "kalman";
+
+    public static final String ONE_EURO = "oneEuro";
+
+    /**
+     * used when two samples have the same timestamp
+     */
+    private static final double MIN_ELAPSED_SECONDS = 1e-4;
+
+    private GazeFilters() {
+    }
+
+    /**
+     * @return the filter chain, or null if no filter is configured
+     */
+    public static GazeFilter fromConfiguration(Configuration config) {
+        final String gazeFilters = config.getGazeFilters();
+        if (gazeFilters == null || gazeFilters.trim().isEmpty()) {
+            return null;
+        }
+
+        final List<GazeFilter> filters = new ArrayList<>();
+        for (String name : gazeFilters.split(",")) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (MEDIAN.equalsIgnoreCase(name)) {
+                final int medianWindow = config.getGazeFilterMedianWindow();
+                if (medianWindow < 1) {
+                    log.warn("Invalid median gaze filter window : {}, filter skipped", medianWindow);
+                } else {
+                    filters.add(new MedianGazeFilter(medianWindow));
+                }
+            } else if (KALMAN.equalsIgnoreCase(name)) {
+                filters.add(new KalmanGazeFilter(config.getGazeFilterKalmanProcessNoise(),
+                        config.getGazeFilterKalmanMeasureNoise()));
+            } else if (ONE_EURO.equalsIgnoreCase(name)) {
+                filters.add(new OneEuroGazeFilter(config.getGazeFilterOneEuroMinCutoff(),
+                        config.getGazeFilterOneEuroBeta()));
+            } else {
+                log.warn("Unknown gaze filter : {}", name);
+            }
+        }
+
+        if (filters.isEmpty()) {
+            return null;
+        }
+        log.info("Gaze filters = {}", gazeFilters);
+        if (filters.size() == 1) {
+            return filters.get(0);
+        }
+        return new GazeFilterChain(filters);
+    }
+
+    static double elapsedSeconds(long previousTimestamp, long timestamp) {
+        return Math.max(MIN_ELAPSED_SECONDS, (timestamp - previousTimestamp) / 1e9);
+    }
+
+}
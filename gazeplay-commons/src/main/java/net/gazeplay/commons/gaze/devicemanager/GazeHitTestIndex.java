@@ -0,0 +1,31 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.geometry.Bounds;
+
+import java.util.Collection;
+
+/**
+ * Spatial index over the bounds (in scene coordinates) of the nodes registered on a gaze device manager. It is used to
+ * narrow down the nodes which need a precise hit-test for a given gaze position, instead of testing every registered
+ * node on every gaze sample.
+ */
+interface GazeHitTestIndex {
+
+    /**
+     * Inserts the entry, or moves it if it was already indexed with different bounds
+     */
+    void update(GazeInfos gazeInfos, Bounds sceneBounds);
+
+    void remove(GazeInfos gazeInfos);
+
+    /**
+     * Adds to the result every entry whose bounds may contain the given point. The result may contain false positives,
+     * but never misses an entry whose bounds contain the point.
+     */
+    void query(double sceneX, double sceneY, Collection<GazeInfos> result);
+
+    boolean isEmpty();
+
+    void clear();
+
+}
@@ -0,0 +1,316 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.geometry.Bounds;
+import javafx.scene.Scene;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.gaze.FixationDetector;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Gaze processing stage running the broad phase of the hit-test on its own thread, so that device threads never wait
+ * for the JavaFX thread and the JavaFX thread only does the precise hit-test on a handful of candidates.
+ *
+ * The stage reads the samples from the gaze sample ring buffer and works on a snapshot of the node bounds, published
+ * from the JavaFX thread with {@link #publishBounds(GazeInfos, Scene, Bounds)} and {@link #publishSceneOrigins(Map)}.
+ * Its results are written in a preallocated ring of {@link GazeSampleHits}, read back with
+ * {@link #readHits(long, GazeSampleHits)}. Its only thread is started on demand and stops after a short idle period.
+ *
+ * Each valid sample is also reported once, filtered, to a {@link SampleListener}, whether it hits a node or not.
+ */
+@Slf4j
+class GazeHitTestStage {
+
+    private static final int HITS_CAPACITY = 64;
+
+    /**
+     * Receives the position on screen of each valid sample, on the stage thread
+     */
+    interface SampleListener {
+
+        void onSample(double screenX, double screenY);
+
+    }
+
+    /**
+     * Result of the broad phase for one gaze sample
+     */
+    static final class GazeSampleHits {
+
+        double x;
+
+        double y;
+
+        /**
+         * registered nodes whose bounds contain the gaze position
+         */
+        GazeInfos[] hits = new GazeInfos[16];
+
+        int hitsCount;
+
+        private void add(GazeInfos gi) {
+            if (hitsCount == hits.length) {
+                hits = Arrays.copyOf(hits, hitsCount * 2);
+            }
+            hits[hitsCount++] = gi;
+        }
+
+        private void copyTo(GazeSampleHits target) {
+            target.x = x;
+            target.y = y;
+            // the slot may be concurrently overwritten, which is detected by the caller afterwards
+            final GazeInfos[] hits = this.hits;
+            final int hitsCount = Math.min(this.hitsCount, hits.length);
+            if (target.hits.length < hitsCount) {
+                target.hits = new GazeInfos[hits.length];
+            }
+            System.arraycopy(hits, 0, target.hits, 0, hitsCount);
+            target.hitsCount = hitsCount;
+        }
+    }
+
+    private static final class BoundsUpdate {
+
+        private final GazeInfos gazeInfos;
+
+        private final Scene scene;
+
+        private final Bounds sceneBounds;
+
+        private BoundsUpdate(GazeInfos gazeInfos, Scene scene, Bounds sceneBounds) {
+            this.gazeInfos = gazeInfos;
+            this.scene = scene;
+            this.sceneBounds = sceneBounds;
+        }
+    }
+
+    private static final BoundsUpdate CLEAR = new BoundsUpdate(null, null, null);
+
+    private final ExecutorService executorService = new ThreadPoolExecutor(0, 1, 5, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), new CustomThreadFactory("GazeHitTest", createThreadFactory()));
+
+    private final Supplier<GazeHitTestIndex> hitTestIndexFactory;
+
+    private final GazeSampleRingBuffer gazeSamples;
+
+    /**
+     * called on the stage thread each time new hits are published
+     */
+    private final Runnable onHitsPublished;
+
+    private final SampleListener sampleListener;
+
+    private final Queue<BoundsUpdate> boundsUpdates = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+    private final Runnable drainTask = this::drain;
+
+    private volatile Map<Scene, double[]> sceneOrigins = Collections.emptyMap();
+
+    /**
+     * applied to every sample on the stage thread, before the fixation detection and the hit-test, none if null
+     */
+    @Getter
+    @Setter
+    private volatile GazeFilter gazeFilter;
+
+    /**
+     * fed with every sample on the stage thread, before its hit-test, none if null
+     */
+    @Setter
+    private volatile FixationDetector fixationDetector;
+
+    private final GazeSampleHits[] hitsRing = new GazeSampleHits[HITS_CAPACITY];
+
+    private volatile long publishedHitsSequence = -1;
+
+    // the following fields are only accessed from the stage thread
+
+    private final Map<Scene, GazeHitTestIndex> hitTestIndexes = new HashMap<>();
+
+    private final List<GazeInfos> queryResult = new ArrayList<>();
+
+    private final GazeSample sample = new GazeSample();
+
+    private long nextSampleSequence = 0;
+
+    GazeHitTestStage(Supplier<GazeHitTestIndex> hitTestIndexFactory, GazeSampleRingBuffer gazeSamples,
+            Runnable onHitsPublished, SampleListener sampleListener) {
+        this.hitTestIndexFactory = hitTestIndexFactory;
+        this.gazeSamples = gazeSamples;
+        this.onHitsPublished = onHitsPublished;
+        this.sampleListener = sampleListener;
+        for (int i = 0; i < HITS_CAPACITY; i++) {
+            hitsRing[i] = new GazeSampleHits();
+        }
+    }
+
+    private static GroupingThreadFactory createThreadFactory() {
+        GroupingThreadFactory threadFactory = new GroupingThreadFactory("GazeHitTest");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    /**
+     * Can be called from any thread, to notify that new samples have been written in the ring buffer
+     */
+    void onSamplesAvailable() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            executorService.execute(drainTask);
+        }
+    }
+
+    /**
+     * Publishes the bounds of a registered node, or its removal from any index when the scene is null
+     */
+    void publishBounds(GazeInfos gazeInfos, Scene scene, Bounds sceneBounds) {
+        boundsUpdates.add(new BoundsUpdate(gazeInfos, scene, sceneBounds));
+    }
+
+    /**
+     * Publishes the position on screen of the origin of each scene containing registered nodes
+     */
+    void publishSceneOrigins(Map<Scene, double[]> sceneOrigins) {
+        this.sceneOrigins = sceneOrigins;
+    }
+
+    /**
+     * Drops all the indexed bounds, and the samples not hit-tested yet
+     */
+    void clear() {
+        boundsUpdates.add(CLEAR);
+    }
+
+    long getPublishedHitsSequence() {
+        return publishedHitsSequence;
+    }
+
+    /**
+     * Copies the hits of the given sequence into the target
+     *
+     * @return false if they have not been published yet, or have already been overwritten
+     */
+    boolean readHits(long sequence, GazeSampleHits target) {
+        if (sequence > publishedHitsSequence) {
+            return false;
+        }
+        hitsRing[(int) (sequence % HITS_CAPACITY)].copyTo(target);
+        return sequence >= getOldestReadableHitsSequence();
+    }
+
+    long getOldestReadableHitsSequence() {
+        // keeps a margin of one slot, which may be being written
+        return Math.max(0, publishedHitsSequence - HITS_CAPACITY + 2);
+    }
+
+    private void drain() {
+        do {
+            while (nextSampleSequence <= gazeSamples.getPublishedSequence()) {
+                applyBoundsUpdates();
+                final long sequence = Math.max(nextSampleSequence, gazeSamples.getOldestReadableSequence());
+                nextSampleSequence = sequence + 1;
+                if (!gazeSamples.read(sequence, sample)) {
+                    log.debug("gaze hit-test stage is late, skipping overwritten samples");
+                    continue;
+                }
+                final GazeFilter gazeFilter = this.gazeFilter;
+                if (gazeFilter != null) {
+                    gazeFilter.filter(sample);
+                }
+                final FixationDetector fixationDetector = this.fixationDetector;
+                if (fixationDetector != null) {
+                    fixationDetector.onSample(sample.getTimestamp(), sample.getX(), sample.getY(), sample.isValid());
+                }
+                if (sample.isValid()) {
+                    sampleListener.onSample(sample.getX(), sample.getY());
+                    hitTest(sample.getX(), sample.getY());
+                } else {
+                    // the gaze is on no node, so that the nodes it was on receive GAZE_EXITED
+                    publishNoHits();
+                }
+                onHitsPublished.run();
+            }
+            drainScheduled.set(false);
+        } while (nextSampleSequence <= gazeSamples.getPublishedSequence() && drainScheduled.compareAndSet(false, true));
+    }
+
+    private void applyBoundsUpdates() {
+        BoundsUpdate update;
+        while ((update = boundsUpdates.poll()) != null) {
+            if (update == CLEAR) {
+                hitTestIndexes.clear();
+                nextSampleSequence = gazeSamples.getPublishedSequence() + 1;
+                continue;
+            }
+            final GazeInfos gi = update.gazeInfos;
+            final Scene previousScene = gi.getIndexedScene();
+            if (previousScene != null && (previousScene != update.scene || gi.isRemoved())) {
+                final GazeHitTestIndex previousIndex = hitTestIndexes.get(previousScene);
+                if (previousIndex != null) {
+                    previousIndex.remove(gi);
+                    if (previousIndex.isEmpty()) {
+                        hitTestIndexes.remove(previousScene);
+                    }
+                }
+                gi.setIndexedScene(null);
+            }
+            if (update.scene == null || gi.isRemoved()) {
+                continue;
+            }
+            gi.setSceneBounds(update.sceneBounds);
+            hitTestIndexes.computeIfAbsent(update.scene, s -> hitTestIndexFactory.get()).update(gi,
+                    update.sceneBounds);
+            gi.setIndexedScene(update.scene);
+        }
+    }
+
+    private void publishNoHits() {
+        final long sequence = publishedHitsSequence + 1;
+        resetHits(sequence, Double.NaN, Double.NaN);
+        publishedHitsSequence = sequence;
+    }
+
+    private GazeSampleHits resetHits(long sequence, double screenX, double screenY) {
+        final GazeSampleHits sampleHits = hitsRing[(int) (sequence % HITS_CAPACITY)];
+        sampleHits.x = screenX;
+        sampleHits.y = screenY;
+        Arrays.fill(sampleHits.hits, 0, sampleHits.hitsCount, null);
+        sampleHits.hitsCount = 0;
+        return sampleHits;
+    }
+
+    private void hitTest(double screenX, double screenY) {
+        final long sequence = publishedHitsSequence + 1;
+        final GazeSampleHits sampleHits = resetHits(sequence, screenX, screenY);
+
+        final Map<Scene, double[]> sceneOrigins = this.sceneOrigins;
+        for (Map.Entry<Scene, GazeHitTestIndex> entry : hitTestIndexes.entrySet()) {
+            final double[] origin = sceneOrigins.get(entry.getKey());
+            if (origin == null) {
+                continue;
+            }
+            final double sceneX = screenX - origin[0];
+            final double sceneY = screenY - origin[1];
+            entry.getValue().query(sceneX, sceneY, queryResult);
+            for (int i = 0; i < queryResult.size(); i++) {
+                final GazeInfos gi = queryResult.get(i);
+                final Bounds sceneBounds = gi.getSceneBounds();
+                if (sceneBounds != null && sceneBounds.contains(sceneX, sceneY)) {
+                    sampleHits.add(gi);
+                }
+            }
+            queryResult.clear();
+        }
+
+        publishedHitsSequence = sequence;
+    }
+
+}
@@ -1,6 +1,10 @@
 package net.gazeplay.commons.gaze.devicemanager;
 
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Bounds;
 import javafx.scene.Node;
+import javafx.scene.Scene;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -12,6 +16,12 @@ class GazeInfos {
     @Getter
     private final Node node;
 
+    /**
+     * key of the node in the registration maps, created once
+     */
+    @Getter
+    private final IdentityKey<Node> identityKey;
+
     @Getter
     @Setter
     private long time;
@@ -20,12 +30,71 @@ class GazeInfos {
     @Setter
     private boolean on;
 
+    /**
+     * the node bounds need to be recomputed before the next hit-test
+     */
+    @Getter
+    @Setter
+    private volatile boolean boundsDirty;
+
+    /**
+     * the node is no longer registered, pending bounds updates must be ignored
+     */
+    @Getter
+    @Setter
+    private volatile boolean removed;
+
+    /**
+     * scene of the hit-test index in which the node bounds are currently indexed, only used by the hit-test stage
+     */
+    @Getter
+    @Setter
+    private Scene indexedScene;
+
+    /**
+     * indexed bounds of the node, in scene coordinates, only used by the hit-test stage
+     */
+    @Getter
+    @Setter
+    private Bounds sceneBounds;
+
+    /**
+     * a GAZE_MOVED event is to be fired at the end of the current dispatch
+     */
+    @Getter
+    @Setter
+    private boolean movePending;
+
+    @Getter
+    @Setter
+    private double moveX;
+
+    @Getter
+    @Setter
+    private double moveY;
+
+    /**
+     * identifies the last gaze update in which this entry has been collected as a hit-test candidate
+     */
+    @Getter
+    @Setter
+    private long candidateStamp;
+
+    @Getter
+    @Setter
+    private InvalidationListener boundsInvalidationListener;
+
+    @Getter
+    @Setter
+    private ListChangeListener<Node> childrenListener;
+
     GazeInfos(Node node) {
         this(node, 0, false);
     }
 
     private GazeInfos(Node node, long time, boolean on) {
         this.node = node;
+        this.identityKey = new IdentityKey<>(node);
         this.time = time;
         this.on = on;
     }
@@ -0,0 +1,67 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary format of the gaze recordings.
+ *
+ * A header (magic number, version, recording start time as epoch milliseconds) is followed by one fixed size record
+ * per sample : the delay since the previous sample in microseconds (int), the x and y screen positions (float) and the
+ * validity of the sample (byte). That is 13 bytes per sample, about 1.5 kB per second at 120 Hz.
+ */
+final class GazeRecordingFormat {
+
+    static final String FILE_EXTENSION = ".gazerec";
+
+    private static final int MAGIC = 0x475A5243; // "GZRC"
+
+    private static final short VERSION = 1;
+
+    private GazeRecordingFormat() {
+    }
+
+    static void writeHeader(DataOutput out, long startTimeMillis) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(startTimeMillis);
+    }
+
+    /**
+     * @return the recording start time, as epoch milliseconds
+     */
+    static long readHeader(DataInput in) throws IOException {
+        final int magic = in.readInt();
+        if (magic != MAGIC) {
+            throw new IOException("not a gaze recording");
+        }
+        final short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("unsupported gaze recording version : " + version);
+        }
+        return in.readLong();
+    }
+
+    static void writeSample(DataOutput out, long delayNanos, double x, double y, boolean valid) throws IOException {
+        out.writeInt((int) Math.min(Integer.MAX_VALUE, Math.max(0, delayNanos / 1000)));
+        out.writeFloat((float) x);
+        out.writeFloat((float) y);
+        out.writeByte(valid ? 1 : 0);
+    }
+
+    /**
+     * Reads the next sample into the target. The timestamp of the target is set to the delay since the previous
+     * sample, in nanoseconds.
+     *
+     * @throws java.io.EOFException
+     *             at the end of the recording
+     */
+    static void readSample(DataInput in, GazeSample target) throws IOException {
+        target.timestamp = in.readInt() * 1000L;
+        target.x = in.readFloat();
+        target.y = in.readFloat();
+        target.valid = in.readByte() != 0;
+    }
+
+}
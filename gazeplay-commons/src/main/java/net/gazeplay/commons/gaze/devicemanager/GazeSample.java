@@ -0,0 +1,34 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Mutable holder of one gaze sample, filled by {@link GazeSampleRingBuffer#read(long, GazeSample)}. Consumers are
+ * expected to reuse the same instance for all the samples they read.
+ */
+@ToString
+public class GazeSample {
+
+    /**
+     * time of the sample, in the {@link System#nanoTime()} time base
+     */
+    @Getter
+    long timestamp;
+
+    /**
+     * position on screen
+     */
+    @Getter
+    double x;
+
+    @Getter
+    double y;
+
+    /**
+     * false when the eye-tracker lost the eyes (blink, user looking away)
+     */
+    @Getter
+    boolean valid;
+
+}
@@ -0,0 +1,103 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import lombok.Getter;
+
+/**
+ * Preallocated ring buffer of gaze samples, stored in primitive arrays so that no object is allocated per sample.
+ *
+ * There must be a single producer (the device thread), but there can be any number of consumers, each one reading
+ * the samples at its own pace with its own cursor. A consumer which is late by more than the capacity loses the oldest
+ * samples, which is detected by {@link #read(long, GazeSample)}.
+ */
+public class GazeSampleRingBuffer {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    @Getter
+    private final int capacity;
+
+    private final int mask;
+
+    private final long[] timestamps;
+
+    private final double[] xs;
+
+    private final double[] ys;
+
+    private final boolean[] valids;
+
+    /**
+     * sequence number of the last written sample, -1 if none
+     */
+    private volatile long publishedSequence = -1;
+
+    public GazeSampleRingBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity
+     *            must be a power of two
+     */
+    public GazeSampleRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two : " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.timestamps = new long[capacity];
+        this.xs = new double[capacity];
+        this.ys = new double[capacity];
+        this.valids = new boolean[capacity];
+    }
+
+    /**
+     * Must only be called from the producer thread
+     *
+     * @return the sequence number of the written sample
+     */
+    public long write(long timestamp, double x, double y, boolean valid) {
+        final long sequence = publishedSequence + 1;
+        final int index = (int) (sequence & mask);
+        timestamps[index] = timestamp;
+        xs[index] = x;
+        ys[index] = y;
+        valids[index] = valid;
+        publishedSequence = sequence;
+        return sequence;
+    }
+
+    /**
+     * @return the sequence number of the last written sample, -1 if none
+     */
+    public long getPublishedSequence() {
+        return publishedSequence;
+    }
+
+    /**
+     * @return the sequence number of the oldest sample which can still be read
+     */
+    public long getOldestReadableSequence() {
+        // keeps a margin of one slot, which may be being written
+        return Math.max(0, publishedSequence - capacity + 2);
+    }
+
+    /**
+     * Copies the sample into the target
+     *
+     * @return false if the sample has not been written yet, or has already been overwritten
+     */
+    public boolean read(long sequence, GazeSample target) {
+        if (sequence > publishedSequence) {
+            return false;
+        }
+        final int index = (int) (sequence & mask);
+        target.timestamp = timestamps[index];
+        target.x = xs[index];
+        target.y = ys[index];
+        target.valid = valids[index];
+        // the copy is only consistent if the producer did not start overwriting the slot meanwhile
+        return sequence >= getOldestReadableSequence();
+    }
+
+}
@@ -0,0 +1,157 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Paces a polling loop at a target rate, using absolute deadlines so that the time spent between two ticks (device
+ * call, processing) does not add up into a drift, as it does with a fixed sleep.
+ *
+ * The rate is lowered when the polled values stop changing (user away, tracker lost), and further when the application
+ * is minimized. It gets back to the target rate as soon as a changed value is reported. The achieved rate and the
+ * jitter (lateness of the ticks against their deadline) are logged periodically.
+ */
+@Slf4j
+class GazeSamplingScheduler {
+
+    private static final long IDLE_DELAY_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    private static final int IDLE_RATE = 10;
+
+    private static final int MINIMIZED_RATE = 2;
+
+    private static final long REPORT_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final long targetPeriodNanos;
+
+    private final long idlePeriodNanos;
+
+    private final long minimizedPeriodNanos;
+
+    private final BooleanSupplier minimizedSupplier;
+
+    private long nextDeadline;
+
+    private long lastChangeTime;
+
+    private long reportStartTime;
+
+    private long reportTicks;
+
+    private long reportJitterSumNanos;
+
+    private long reportJitterMaxNanos;
+
+    /**
+     * achieved rate over the last report period, in Hz
+     */
+    @Getter
+    private volatile double achievedRate;
+
+    /**
+     * mean lateness of the ticks over the last report period, in microseconds
+     */
+    @Getter
+    private volatile double meanJitterMicros;
+
+    /**
+     * @param targetRate
+     *            target number of ticks per second
+     * @param minimizedSupplier
+     *            tells whether the application is currently minimized
+     */
+    GazeSamplingScheduler(int targetRate, BooleanSupplier minimizedSupplier) {
+        if (targetRate <= 0) {
+            throw new IllegalArgumentException("targetRate must be positive : " + targetRate);
+        }
+        this.targetPeriodNanos = TimeUnit.SECONDS.toNanos(1) / targetRate;
+        this.idlePeriodNanos = Math.max(targetPeriodNanos, TimeUnit.SECONDS.toNanos(1) / IDLE_RATE);
+        this.minimizedPeriodNanos = Math.max(idlePeriodNanos, TimeUnit.SECONDS.toNanos(1) / MINIMIZED_RATE);
+        this.minimizedSupplier = minimizedSupplier;
+    }
+
+    void start() {
+        final long now = System.nanoTime();
+        nextDeadline = now;
+        lastChangeTime = now;
+        reportStartTime = now;
+        reportTicks = 0;
+        reportJitterSumNanos = 0;
+        reportJitterMaxNanos = 0;
+    }
+
+    /**
+     * Reports whether the value polled on the last tick differed from the previous one
+     */
+    void onSample(boolean changed) {
+        if (changed) {
+            final long now = System.nanoTime();
+            if (now - lastChangeTime > IDLE_DELAY_NANOS) {
+                // back from idle, do not wait for the end of the long idle period
+                nextDeadline = now;
+            }
+            lastChangeTime = now;
+        }
+    }
+
+    /**
+     * Parks the calling thread until the next tick deadline
+     *
+     * @return false if the thread has been interrupted
+     */
+    boolean awaitNextTick() {
+        final long period = currentPeriod();
+        nextDeadline += period;
+
+        long remaining;
+        while ((remaining = nextDeadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                return false;
+            }
+        }
+
+        final long now = System.nanoTime();
+        final long lateness = now - nextDeadline;
+        if (lateness > period) {
+            // too late to catch up without a burst of ticks, start again from now
+            nextDeadline = now;
+        }
+        recordTick(now, lateness);
+        return true;
+    }
+
+    private long currentPeriod() {
+        if (minimizedSupplier.getAsBoolean()) {
+            return minimizedPeriodNanos;
+        }
+        if (System.nanoTime() - lastChangeTime > IDLE_DELAY_NANOS) {
+            return idlePeriodNanos;
+        }
+        return targetPeriodNanos;
+    }
+
+    private void recordTick(long now, long lateness) {
+        reportTicks++;
+        reportJitterSumNanos += lateness;
+        reportJitterMaxNanos = Math.max(reportJitterMaxNanos, lateness);
+
+        final long elapsed = now - reportStartTime;
+        if (elapsed >= REPORT_PERIOD_NANOS) {
+            achievedRate = reportTicks * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            meanJitterMicros = reportJitterSumNanos / (reportTicks * 1000d);
+            log.info("gaze sampling : achieved rate = {} Hz (target {} Hz), mean jitter = {} us, max jitter = {} us",
+                    String.format("%.1f", achievedRate), TimeUnit.SECONDS.toNanos(1) / targetPeriodNanos,
+                    String.format("%.0f", meanJitterMicros), reportJitterMaxNanos / 1000);
+            reportStartTime = now;
+            reportTicks = 0;
+            reportJitterSumNanos = 0;
+            reportJitterMaxNanos = 0;
+        }
+    }
+
+}
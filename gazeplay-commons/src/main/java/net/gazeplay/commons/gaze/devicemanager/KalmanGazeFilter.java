@@ -0,0 +1,100 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+/**
+ * Kalman filter with a constant velocity model, run independently on each axis
+ */
+public class KalmanGazeFilter implements GazeFilter {
+
+    private static final class Axis {
+
+        private boolean initialized;
+
+        private double position;
+
+        private double velocity;
+
+        // covariance matrix of the estimation
+        private double p00;
+
+        private double p01;
+
+        private double p11;
+
+        private double filter(double measure, double dt, double accelerationVariance, double measureVariance) {
+            if (!initialized) {
+                initialized = true;
+                position = measure;
+                velocity = 0;
+                p00 = measureVariance;
+                p01 = 0;
+                p11 = measureVariance;
+                return measure;
+            }
+
+            // prediction
+            position += velocity * dt;
+            final double dt2 = dt * dt;
+            p00 += dt * (2 * p01 + dt * p11) + accelerationVariance * dt2 * dt2 / 4;
+            p01 += dt * p11 + accelerationVariance * dt2 * dt / 2;
+            p11 += accelerationVariance * dt2;
+
+            // correction
+            final double innovation = measure - position;
+            final double innovationVariance = p00 + measureVariance;
+            final double k0 = p00 / innovationVariance;
+            final double k1 = p01 / innovationVariance;
+            position += k0 * innovation;
+            velocity += k1 * innovation;
+            p11 -= k1 * p01;
+            p01 -= k0 * p01;
+            p00 -= k0 * p00;
+            return position;
+        }
+    }
+
+    /**
+     * variance of the gaze acceleration, in (pixels / s^2)^2
+     */
+    private final double accelerationVariance;
+
+    /**
+     * variance of the eye-tracker measure noise, in pixels^2
+     */
+    private final double measureVariance;
+
+    private final Axis xAxis = new Axis();
+
+    private final Axis yAxis = new Axis();
+
+    private long previousTimestamp;
+
+    /**
+     * @param processNoise
+     *            standard deviation of the gaze acceleration, in pixels / s^2
+     * @param measureNoise
+     *            standard deviation of the eye-tracker measure noise, in pixels
+     */
+    public KalmanGazeFilter(double processNoise, double measureNoise) {
+        this.accelerationVariance = processNoise * processNoise;
+        this.measureVariance = measureNoise * measureNoise;
+    }
+
+    @Override
+    public void filter(GazeSample sample) {
+        if (!sample.valid) {
+            reset();
+            return;
+        }
+        final double dt = GazeFilters.elapsedSeconds(previousTimestamp, sample.timestamp);
+        previousTimestamp = sample.timestamp;
+        sample.x = xAxis.filter(sample.x, dt, accelerationVariance, measureVariance);
+        sample.y = yAxis.filter(sample.y, dt, accelerationVariance, measureVariance);
+    }
+
+    @Override
+    public void reset() {
+        xAxis.initialized = false;
+        yAxis.initialized = false;
+    }
+
+}
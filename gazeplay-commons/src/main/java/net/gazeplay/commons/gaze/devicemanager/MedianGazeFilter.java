@@ -0,0 +1,66 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+/**
+ * Replaces each coordinate by its median over the last samples, which removes isolated outliers without blurring the
+ * saccades, at the price of a delay of half the window.
+ */
+public class MedianGazeFilter implements GazeFilter {
+
+    private final double[] xWindow;
+
+    private final double[] yWindow;
+
+    private final double[] sorted;
+
+    private int count;
+
+    private int next;
+
+    public MedianGazeFilter(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be positive : " + windowSize);
+        }
+        this.xWindow = new double[windowSize];
+        this.yWindow = new double[windowSize];
+        this.sorted = new double[windowSize];
+    }
+
+    @Override
+    public void filter(GazeSample sample) {
+        if (!sample.valid) {
+            reset();
+            return;
+        }
+        xWindow[next] = sample.x;
+        yWindow[next] = sample.y;
+        next = (next + 1) % xWindow.length;
+        count = Math.min(count + 1, xWindow.length);
+
+        sample.x = median(xWindow);
+        sample.y = median(yWindow);
+    }
+
+    private double median(double[] window) {
+        // insertion sort, the window is small
+        for (int i = 0; i < count; i++) {
+            final double value = window[i];
+            int j = i - 1;
+            while (j >= 0 && sorted[j] > value) {
+                sorted[j + 1] = sorted[j];
+                j--;
+            }
+            sorted[j + 1] = value;
+        }
+        if ((count & 1) == 1) {
+            return sorted[count / 2];
+        }
+        return (sorted[count / 2 - 1] + sorted[count / 2]) / 2;
+    }
+
+    @Override
+    public void reset() {
+        count = 0;
+        next = 0;
+    }
+
+}
@@ -0,0 +1,82 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+/**
+ * One Euro filter (Casiez et al., 2012) : a low-pass filter whose cutoff frequency increases with the speed of the
+ * gaze, so that the jitter is removed during fixations while saccades are followed with little lag.
+ */
+public class OneEuroGazeFilter implements GazeFilter {
+
+    private static final double DERIVATE_CUTOFF = 1;
+
+    private static final class Axis {
+
+        private boolean initialized;
+
+        private double value;
+
+        private double derivate;
+
+        private double filter(double raw, double dt, double minCutoff, double beta) {
+            if (!initialized) {
+                initialized = true;
+                value = raw;
+                derivate = 0;
+                return raw;
+            }
+            final double rawDerivate = (raw - value) / dt;
+            derivate = lowPass(rawDerivate, derivate, alpha(DERIVATE_CUTOFF, dt));
+            final double cutoff = minCutoff + beta * Math.abs(derivate);
+            value = lowPass(raw, value, alpha(cutoff, dt));
+            return value;
+        }
+
+        private static double lowPass(double raw, double previous, double alpha) {
+            return previous + alpha * (raw - previous);
+        }
+
+        private static double alpha(double cutoff, double dt) {
+            final double tau = 1 / (2 * Math.PI * cutoff);
+            return 1 / (1 + tau / dt);
+        }
+    }
+
+    /**
+     * cutoff frequency at low speed, in Hz : the lower, the less jitter during fixations
+     */
+    private final double minCutoff;
+
+    /**
+     * speed coefficient : the higher, the less lag during fast movements
+     */
+    private final double beta;
+
+    private final Axis xAxis = new Axis();
+
+    private final Axis yAxis = new Axis();
+
+    private long previousTimestamp;
+
+    public OneEuroGazeFilter(double minCutoff, double beta) {
+        this.minCutoff = minCutoff;
+        this.beta = beta;
+    }
+
+    @Override
+    public void filter(GazeSample sample) {
+        if (!sample.valid) {
+            reset();
+            return;
+        }
+        final double dt = GazeFilters.elapsedSeconds(previousTimestamp, sample.timestamp);
+        previousTimestamp = sample.timestamp;
+        sample.x = xAxis.filter(sample.x, dt, minCutoff, beta);
+        sample.y = yAxis.filter(sample.y, dt, minCutoff, beta);
+    }
+
+    @Override
+    public void reset() {
+        xAxis.initialized = false;
+        yAxis.initialized = false;
+    }
+
+}
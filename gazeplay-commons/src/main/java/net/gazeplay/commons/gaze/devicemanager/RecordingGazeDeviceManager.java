@@ -0,0 +1,168 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.scene.Node;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.gaze.GazeMotionListener;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+
+import java.io.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorates a gaze device manager to stream all its gaze samples to a recording file, which can be played back later
+ * with {@link ReplayGazeDeviceManager}.
+ *
+ * The samples are read from the gaze samples ring buffer of the decorated manager, by a background task, so the
+ * device thread never waits for the disk.
+ */
+@Slf4j
+public class RecordingGazeDeviceManager implements GazeDeviceManager {
+
+    private static final long DRAIN_PERIOD_MILLIS = 100;
+
+    private final AbstractGazeDeviceManager delegate;
+
+    private final File recordingFile;
+
+    private final GazeSample sample = new GazeSample();
+
+    private ScheduledExecutorService executorService;
+
+    private DataOutputStream out;
+
+    private long nextSequence;
+
+    private long previousTimestamp;
+
+    private boolean firstSample;
+
+    public RecordingGazeDeviceManager(AbstractGazeDeviceManager delegate, File recordingFile) {
+        this.delegate = delegate;
+        this.recordingFile = recordingFile;
+    }
+
+    @Override
+    public void init() {
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(recordingFile)));
+            GazeRecordingFormat.writeHeader(out, System.currentTimeMillis());
+        } catch (IOException e) {
+            log.error("Failed to create gaze recording file {}", recordingFile, e);
+            out = null;
+        }
+
+        if (out != null) {
+            log.info("Recording gaze samples to {}", recordingFile);
+            nextSequence = delegate.getGazeSamples().getPublishedSequence() + 1;
+            firstSample = true;
+
+            GroupingThreadFactory threadFactory = new GroupingThreadFactory("GazeRecording");
+            threadFactory.setDaemon(true);
+            executorService = Executors.newSingleThreadScheduledExecutor(
+                    new CustomThreadFactory("GazeRecording", threadFactory));
+            executorService.scheduleWithFixedDelay(this::drain, DRAIN_PERIOD_MILLIS, DRAIN_PERIOD_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+
+        delegate.init();
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+
+        if (executorService != null) {
+            executorService.shutdown();
+            try {
+                executorService.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executorService = null;
+        }
+        synchronized (this) {
+            if (out != null) {
+                drain();
+            }
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    log.error("Failed to close gaze recording file {}", recordingFile, e);
+                }
+                out = null;
+            }
+        }
+    }
+
+    private synchronized void drain() {
+        if (out == null) {
+            return;
+        }
+        final GazeSampleRingBuffer gazeSamples = delegate.getGazeSamples();
+        try {
+            while (nextSequence <= gazeSamples.getPublishedSequence()) {
+                final long sequence = Math.max(nextSequence, gazeSamples.getOldestReadableSequence());
+                if (sequence != nextSequence) {
+                    log.warn("gaze recording is late, {} samples lost", sequence - nextSequence);
+                }
+                nextSequence = sequence + 1;
+                if (!gazeSamples.read(sequence, sample)) {
+                    continue;
+                }
+                final long delay = firstSample ? 0 : sample.getTimestamp() - previousTimestamp;
+                firstSample = false;
+                previousTimestamp = sample.getTimestamp();
+                GazeRecordingFormat.writeSample(out, delay, sample.getX(), sample.getY(), sample.isValid());
+            }
+            out.flush();
+        } catch (IOException e) {
+            log.error("Failed to write gaze recording file {}, recording stopped", recordingFile, e);
+            out = null;
+        }
+    }
+
+    @Override
+    public void addGazeMotionListener(GazeMotionListener listener) {
+        delegate.addGazeMotionListener(listener);
+    }
+
+    @Override
+    public void removeGazeMotionListener(GazeMotionListener listener) {
+        delegate.removeGazeMotionListener(listener);
+    }
+
+    @Override
+    public void addEventFilter(Node gs) {
+        delegate.addEventFilter(gs);
+    }
+
+    @Override
+    public void addEventHandler(Node gs) {
+        delegate.addEventHandler(gs);
+    }
+
+    @Override
+    public void removeEventFilter(Node gs) {
+        delegate.removeEventFilter(gs);
+    }
+
+    @Override
+    public void removeEventHandler(Node gs) {
+        delegate.removeEventHandler(gs);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public GazeSampleRingBuffer getGazeSamples() {
+        return delegate.getGazeSamples();
+    }
+
+}
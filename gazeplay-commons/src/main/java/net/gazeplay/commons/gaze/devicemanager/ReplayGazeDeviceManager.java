@@ -0,0 +1,96 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Plays back a gaze recording made with {@link RecordingGazeDeviceManager}, as if the samples came from an
+ * eye-tracker, so that sessions can be reproduced without any tracker attached.
+ *
+ * The samples are fed with their recorded timing divided by the speed : 1 for real time, more to accelerate, or 0 to
+ * feed them as fast as possible. Whatever the speed, they are stamped with their recorded timing, so that the filters
+ * and the fixation detection see the session as it was recorded.
+ */
+@Slf4j
+public class ReplayGazeDeviceManager extends AbstractGazeDeviceManager {
+
+    private final File recordingFile;
+
+    private final double speed;
+
+    private volatile boolean stopRequested = false;
+
+    private Thread replayThread;
+
+    public ReplayGazeDeviceManager(File recordingFile, double speed) {
+        super();
+        this.recordingFile = recordingFile;
+        this.speed = speed;
+    }
+
+    @Override
+    public void init() {
+        GroupingThreadFactory threadFactory = new GroupingThreadFactory("GazeReplay");
+        threadFactory.setDaemon(true);
+        replayThread = threadFactory.newThread(this::replay);
+        replayThread.start();
+    }
+
+    @Override
+    public void destroy() {
+        stopRequested = true;
+        Thread replayThread = this.replayThread;
+        if (replayThread != null) {
+            replayThread.interrupt();
+        }
+    }
+
+    private void replay() {
+        log.info("Replaying gaze recording {} at speed {}", recordingFile, speed);
+        final GazeSample sample = new GazeSample();
+        long samplesCount = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(recordingFile)))) {
+            GazeRecordingFormat.readHeader(in);
+
+            long deadline = System.nanoTime();
+            // the timeline of the recording, rebuilt from the recorded delays
+            long timestamp = deadline;
+            while (!stopRequested) {
+                try {
+                    GazeRecordingFormat.readSample(in, sample);
+                } catch (EOFException e) {
+                    break;
+                }
+                timestamp += sample.getTimestamp();
+
+                if (speed > 0) {
+                    deadline += (long) (sample.getTimestamp() / speed);
+                    long remaining;
+                    while ((remaining = deadline - System.nanoTime()) > 0 && !stopRequested) {
+                        LockSupport.parkNanos(this, remaining);
+                    }
+                }
+
+                if (sample.isValid()) {
+                    onGazeUpdate(timestamp, sample.getX(), sample.getY());
+                } else {
+                    onGazeUpdate(timestamp, Double.NaN, Double.NaN);
+                }
+                samplesCount++;
+
+                if (speed <= 0 && (samplesCount & 0xFF) == 0) {
+                    // as fast as possible, but leave the consumers a chance to keep up with the ring buffer
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(1));
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to replay gaze recording {}", recordingFile, e);
+        }
+        log.info("Gaze recording replay ended after {} samples", samplesCount);
+    }
+
+}
@@ -0,0 +1,83 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.geometry.Rectangle2D;
+import javafx.stage.Screen;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+
+/**
+ * Feeds a synthetic gaze trace as if it came from an eye-tracker, at a configurable rate of up to 1 kHz, so that the
+ * behaviour of the games under high sample rates can be measured without any hardware.
+ *
+ * The achieved rate is logged periodically, and the number of JavaFX dispatches and of samples dropped because the
+ * JavaFX thread could not keep up are logged when the device manager is destroyed.
+ */
+@Slf4j
+public class SyntheticGazeDeviceManager extends AbstractGazeDeviceManager {
+
+    public static final int MAX_SAMPLING_RATE = 1000;
+
+    private final int samplingRate;
+
+    @Getter
+    private final SyntheticGazeTrace trace;
+
+    private volatile boolean stopRequested = false;
+
+    private Thread generatorThread;
+
+    private long samplesCount;
+
+    public SyntheticGazeDeviceManager(int samplingRate, double noise, long seed) {
+        super();
+        this.samplingRate = Math.max(1, Math.min(MAX_SAMPLING_RATE, samplingRate));
+        if (this.samplingRate != samplingRate) {
+            log.warn("synthetic gaze sampling rate {} out of range, using {} Hz", samplingRate, this.samplingRate);
+        }
+        Rectangle2D screenBounds = Screen.getPrimary().getBounds();
+        this.trace = new SyntheticGazeTrace(screenBounds.getWidth(), screenBounds.getHeight(), seed);
+        this.trace.setNoise(noise);
+    }
+
+    @Override
+    public void init() {
+        GroupingThreadFactory threadFactory = new GroupingThreadFactory("SyntheticGaze");
+        threadFactory.setDaemon(true);
+        generatorThread = threadFactory.newThread(this::generate);
+        generatorThread.start();
+    }
+
+    @Override
+    public void destroy() {
+        stopRequested = true;
+        Thread generatorThread = this.generatorThread;
+        if (generatorThread != null) {
+            generatorThread.interrupt();
+            try {
+                generatorThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("synthetic gaze : {} samples generated, {} JavaFX dispatches, {} samples dropped", samplesCount,
+                getDispatchesCount(), getDroppedSamplesCount());
+    }
+
+    private void generate() {
+        log.info("generating synthetic gaze samples at {} Hz", samplingRate);
+        final GazeSamplingScheduler scheduler = new GazeSamplingScheduler(samplingRate, () -> false);
+        final double period = 1d / samplingRate;
+        final GazeSample sample = new GazeSample();
+
+        scheduler.start();
+        while (!stopRequested && scheduler.awaitNextTick()) {
+            trace.next(period, sample);
+            // a synthetic trace never goes idle
+            scheduler.onSample(true);
+            onGazeUpdate(sample.getX(), sample.getY());
+            samplesCount++;
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Random;
+
+/**
+ * Generates a plausible gaze trace on a screen : fixations, saccades with a minimum-jerk profile, smooth pursuits and
+ * blinks, with a gaussian noise on top of the valid samples.
+ *
+ * The trace only depends on the seed, the parameters and the sampling period, not on the wall clock, so that a given
+ * configuration always produces the same samples.
+ */
+public class SyntheticGazeTrace {
+
+    private enum Movement {
+        FIXATION, SACCADE, PURSUIT, BLINK
+    }
+
+    private final Random random;
+
+    private final double screenWidth;
+
+    private final double screenHeight;
+
+    /**
+     * minimum duration of a fixation, in seconds
+     */
+    @Getter
+    @Setter
+    private double minFixationDuration = 0.15;
+
+    /**
+     * maximum duration of a fixation, in seconds
+     */
+    @Getter
+    @Setter
+    private double maxFixationDuration = 0.6;
+
+    /**
+     * approximate number of pixels per degree of visual angle, used to compute the saccade durations
+     */
+    @Getter
+    @Setter
+    private double pixelsPerDegree = 40;
+
+    /**
+     * probability for a fixation to be followed by a smooth pursuit instead of a saccade
+     */
+    @Getter
+    @Setter
+    private double pursuitProbability = 0.1;
+
+    /**
+     * speed of the smooth pursuits, in pixels per second
+     */
+    @Getter
+    @Setter
+    private double pursuitSpeed = 400;
+
+    /**
+     * probability for a fixation to be followed by a blink
+     */
+    @Getter
+    @Setter
+    private double blinkProbability = 0.05;
+
+    /**
+     * minimum duration of a blink, in seconds
+     */
+    @Getter
+    @Setter
+    private double minBlinkDuration = 0.1;
+
+    /**
+     * maximum duration of a blink, in seconds
+     */
+    @Getter
+    @Setter
+    private double maxBlinkDuration = 0.25;
+
+    /**
+     * standard deviation of the noise added to the valid samples, in pixels
+     */
+    @Getter
+    @Setter
+    private double noise = 5;
+
+    private Movement movement = Movement.FIXATION;
+
+    /**
+     * elapsed time in the current movement, in seconds
+     */
+    private double movementTime = 0;
+
+    private double movementDuration;
+
+    private double startX;
+
+    private double startY;
+
+    private double targetX;
+
+    private double targetY;
+
+    private double x;
+
+    private double y;
+
+    public SyntheticGazeTrace(double screenWidth, double screenHeight, long seed) {
+        this.random = new Random(seed);
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.x = screenWidth / 2;
+        this.y = screenHeight / 2;
+        this.movementDuration = nextFixationDuration();
+    }
+
+    /**
+     * Advances the trace and writes the resulting sample into the target, its timestamp being left unchanged
+     *
+     * @param period
+     *            time elapsed since the previous sample, in seconds
+     */
+    public void next(double period, GazeSample target) {
+        movementTime += period;
+        while (movementTime >= movementDuration) {
+            movementTime -= movementDuration;
+            endMovement();
+        }
+
+        final double progress = movementTime / movementDuration;
+        switch (movement) {
+        case SACCADE:
+            interpolate(minimumJerk(progress));
+            break;
+        case PURSUIT:
+            interpolate(progress);
+            break;
+        default:
+            break;
+        }
+
+        if (movement == Movement.BLINK) {
+            target.x = Double.NaN;
+            target.y = Double.NaN;
+            target.valid = false;
+        } else {
+            target.x = clamp(x + random.nextGaussian() * noise, screenWidth);
+            target.y = clamp(y + random.nextGaussian() * noise, screenHeight);
+            target.valid = true;
+        }
+    }
+
+    private void endMovement() {
+        if (movement == Movement.SACCADE || movement == Movement.PURSUIT) {
+            x = targetX;
+            y = targetY;
+        }
+
+        if (movement != Movement.FIXATION) {
+            movement = Movement.FIXATION;
+            movementDuration = nextFixationDuration();
+            return;
+        }
+
+        final double draw = random.nextDouble();
+        if (draw < blinkProbability) {
+            movement = Movement.BLINK;
+            movementDuration = uniform(minBlinkDuration, maxBlinkDuration);
+            return;
+        }
+
+        startX = x;
+        startY = y;
+        targetX = random.nextDouble() * screenWidth;
+        targetY = random.nextDouble() * screenHeight;
+        final double distance = Math.hypot(targetX - startX, targetY - startY);
+        if (draw < blinkProbability + pursuitProbability) {
+            movement = Movement.PURSUIT;
+            movementDuration = Math.max(distance / pursuitSpeed, 0.05);
+        } else {
+            movement = Movement.SACCADE;
+            // main sequence : about 21 ms plus 2.2 ms per degree of amplitude
+            movementDuration = 0.021 + 0.0022 * distance / pixelsPerDegree;
+        }
+    }
+
+    private void interpolate(double ratio) {
+        x = startX + (targetX - startX) * ratio;
+        y = startY + (targetY - startY) * ratio;
+    }
+
+    private double nextFixationDuration() {
+        return uniform(minFixationDuration, maxFixationDuration);
+    }
+
+    private double uniform(double min, double max) {
+        // never zero, the trace would not progress
+        return Math.max(0.001, min + random.nextDouble() * Math.max(0, max - min));
+    }
+
+    private static double minimumJerk(double t) {
+        return t * t * t * (10 - t * (15 - 6 * t));
+    }
+
+    private static double clamp(double value, double max) {
+        return Math.max(0, Math.min(max, value));
+    }
+
+}
@@ -4,7 +4,6 @@ import com.sun.glass.ui.Screen;
 import javafx.application.Platform;
 import javafx.concurrent.Service;
 import javafx.concurrent.Task;
-import javafx.geometry.Point2D;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.commons.configuration.Configuration;
 import tobii.Tobii;
@@ -40,41 +39,11 @@ public class TobiiGazeDeviceManager extends AbstractGazeDeviceManager {
 
                     @Override
                     protected Void call() {
-                        while (!stopRequested) {
-                            float[] pointAsFloatArray = Tobii.gazePosition();
-
-                            final float xRatio = pointAsFloatArray[0];
-                            final float yRatio = pointAsFloatArray[1];
-
-                            final double positionX = xRatio * screenWidth;
-                            final double positionY = yRatio * screenHeight;
-
-                            if (config.isGazeMouseEnable() && !config.isMouseFree) {
-                                Platform.runLater(() -> {
-                                    try {
-                                        Robot robot = new Robot();
-                                        robot.mouseMove((int) positionX, (int) positionY);
-                                    } catch (AWTException e) {
-                                        // TODO Auto-generated catch block
-                                        e.printStackTrace();
-                                    }
-                                });
-                            }
-
-                            Point2D point = new Point2D(positionX, positionY);
-                            Platform.runLater(() -> onGazeUpdate(point));
-
-                            // sleep is mandatory to avoid too much calls to gazePosition()
-                            try {
-                                Thread.sleep(10);
-                                if (config.isGazeMenuEnable()) {
-                                    Thread.sleep(10);
-                                }
-                            } catch (InterruptedException e) {
-                                // TODO Auto-generated catch block
-                                e.printStackTrace();
-                            }
-
+                        final int samplingRate = config.getGazeSamplingRate();
+                        if (samplingRate > 0) {
+                            pollWithScheduler(samplingRate, screenWidth, screenHeight);
+                        } else {
+                            pollWithFixedSleep(screenWidth, screenHeight);
                         }
                         return null;
                     }
@@ -85,6 +54,74 @@ public class TobiiGazeDeviceManager extends AbstractGazeDeviceManager {
         calculateService.start();
     }
 
+    private void pollWithFixedSleep(int screenWidth, int screenHeight) {
+        while (!stopRequested) {
+            float[] pointAsFloatArray = Tobii.gazePosition();
+
+            final float xRatio = pointAsFloatArray[0];
+            final float yRatio = pointAsFloatArray[1];
+
+            onGazePosition(xRatio * screenWidth, yRatio * screenHeight);
+
+            // sleep is mandatory to avoid too much calls to gazePosition()
+            try {
+                Thread.sleep(10);
+                if (config.isGazeMenuEnable()) {
+                    Thread.sleep(10);
+                }
+            } catch (InterruptedException e) {
+                // TODO Auto-generated catch block
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Polls at the given rate using deadlines, and skips the samples identical to the previous one, as the tracker
+     * keeps returning its last position when it has nothing new.
+     */
+    private void pollWithScheduler(int samplingRate, int screenWidth, int screenHeight) {
+        log.info("polling Tobii eye-tracker at {} Hz", samplingRate);
+        final GazeDeviceManagerFactory factory = GazeDeviceManagerFactory.getInstance();
+        final GazeSamplingScheduler scheduler = new GazeSamplingScheduler(samplingRate,
+                factory::isApplicationMinimized);
+
+        float previousXRatio = Float.NaN;
+        float previousYRatio = Float.NaN;
+
+        scheduler.start();
+        while (!stopRequested && scheduler.awaitNextTick()) {
+            float[] pointAsFloatArray = Tobii.gazePosition();
+
+            final float xRatio = pointAsFloatArray[0];
+            final float yRatio = pointAsFloatArray[1];
+
+            final boolean changed = xRatio != previousXRatio || yRatio != previousYRatio;
+            scheduler.onSample(changed);
+            if (changed) {
+                previousXRatio = xRatio;
+                previousYRatio = yRatio;
+                onGazePosition(xRatio * screenWidth, yRatio * screenHeight);
+            }
+        }
+    }
+
+    private void onGazePosition(double positionX, double positionY) {
+        if (config.isGazeMouseEnable() && !config.isMouseFree) {
+            Platform.runLater(() -> {
+                try {
+                    Robot robot = new Robot();
+                    robot.mouseMove((int) positionX, (int) positionY);
+                } catch (AWTException e) {
+                    // TODO Auto-generated catch block
+                    e.printStackTrace();
+                }
+            });
+        }
+
+        onGazeUpdate(positionX, positionY);
+    }
+
     @Override
     public void destroy() {
         stopRequested = true;
@@ -0,0 +1,227 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.geometry.Bounds;
+
+import java.util.*;
+
+/**
+ * Hit-test index which buckets the entries in a uniform grid of square cells. Entries covering too many cells (typically
+ * full screen backgrounds) are kept aside and returned for every query.
+ */
+class UniformGridHitTestIndex implements GazeHitTestIndex {
+
+    static final double DEFAULT_CELL_SIZE = 128;
+
+    private static final int MAX_CELLS_PER_ENTRY = 256;
+
+    private static final int[] OVERSIZED = new int[0];
+
+    private final double cellSize;
+
+    private final CellMap cells = new CellMap();
+
+    private final List<GazeInfos> oversizedEntries = new ArrayList<>();
+
+    /**
+     * cells range (minX, minY, maxX, maxY) covered by each entry, or {@link #OVERSIZED}
+     */
+    private final Map<GazeInfos, int[]> entriesCells = new IdentityHashMap<>();
+
+    UniformGridHitTestIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    UniformGridHitTestIndex(double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    @Override
+    public void update(GazeInfos gazeInfos, Bounds sceneBounds) {
+        remove(gazeInfos);
+        if (sceneBounds == null || sceneBounds.isEmpty()) {
+            return;
+        }
+
+        final int minX = toCell(sceneBounds.getMinX());
+        final int minY = toCell(sceneBounds.getMinY());
+        final int maxX = toCell(sceneBounds.getMaxX());
+        final int maxY = toCell(sceneBounds.getMaxY());
+
+        final long cellsCount = ((long) maxX - minX + 1) * ((long) maxY - minY + 1);
+        if (cellsCount > MAX_CELLS_PER_ENTRY) {
+            oversizedEntries.add(gazeInfos);
+            entriesCells.put(gazeInfos, OVERSIZED);
+            return;
+        }
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                cells.getOrCreate(cellKey(x, y)).add(gazeInfos);
+            }
+        }
+        entriesCells.put(gazeInfos, new int[] { minX, minY, maxX, maxY });
+    }
+
+    @Override
+    public void remove(GazeInfos gazeInfos) {
+        final int[] range = entriesCells.remove(gazeInfos);
+        if (range == null) {
+            return;
+        }
+        if (range == OVERSIZED) {
+            oversizedEntries.remove(gazeInfos);
+            return;
+        }
+        for (int x = range[0]; x <= range[2]; x++) {
+            for (int y = range[1]; y <= range[3]; y++) {
+                final long key = cellKey(x, y);
+                final List<GazeInfos> cell = cells.get(key);
+                if (cell != null) {
+                    cell.remove(gazeInfos);
+                    if (cell.isEmpty()) {
+                        cells.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void query(double sceneX, double sceneY, Collection<GazeInfos> result) {
+        // added one by one, as addAll would copy the lists into temporary arrays
+        for (int i = 0; i < oversizedEntries.size(); i++) {
+            result.add(oversizedEntries.get(i));
+        }
+        final List<GazeInfos> cell = cells.get(cellKey(toCell(sceneX), toCell(sceneY)));
+        if (cell != null) {
+            for (int i = 0; i < cell.size(); i++) {
+                result.add(cell.get(i));
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entriesCells.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        cells.clear();
+        oversizedEntries.clear();
+        entriesCells.clear();
+    }
+
+    private int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Map from the cell keys to the entries of the cells, with open addressing on primitive keys so that the queries do
+     * not box the keys. The free slots are the ones without value.
+     */
+    static final class CellMap {
+
+        static final int INITIAL_CAPACITY = 64;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+
+        private Object[] values = new Object[INITIAL_CAPACITY];
+
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        List<GazeInfos> get(long key) {
+            final int mask = keys.length - 1;
+            for (int slot = slot(key, mask); values[slot] != null; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return (List<GazeInfos>) values[slot];
+                }
+            }
+            return null;
+        }
+
+        List<GazeInfos> getOrCreate(long key) {
+            final List<GazeInfos> existing = get(key);
+            if (existing != null) {
+                return existing;
+            }
+            // kept at most half full
+            if (2 * (size + 1) > keys.length) {
+                resize(2 * keys.length);
+            }
+            final List<GazeInfos> created = new ArrayList<>(4);
+            insert(key, created);
+            size++;
+            return created;
+        }
+
+        void remove(long key) {
+            final int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (values[slot] != null && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (values[slot] == null) {
+                return;
+            }
+            values[slot] = null;
+            size--;
+
+            // the following entries of the run are moved back, so that their probing does not stop at the free slot
+            int free = slot;
+            for (int next = (slot + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+                final int home = slot(keys[next], mask);
+                final boolean reachable = free <= next ? home <= free || home > next : home <= free && home > next;
+                if (reachable) {
+                    keys[free] = keys[next];
+                    values[free] = values[next];
+                    values[next] = null;
+                    free = next;
+                }
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            keys = new long[INITIAL_CAPACITY];
+            values = new Object[INITIAL_CAPACITY];
+            size = 0;
+        }
+
+        private void resize(int capacity) {
+            final long[] oldKeys = keys;
+            final Object[] oldValues = values;
+            keys = new long[capacity];
+            values = new Object[capacity];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null) {
+                    insert(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private void insert(long key, Object value) {
+            final int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        static int slot(long key, int mask) {
+            final long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+
+}
@@ -1,15 +1,13 @@
 package net.gazeplay.commons.utils;
 
-import javafx.animation.Interpolator;
-import javafx.embed.swing.SwingFXUtils;
-import javafx.scene.image.PixelWriter;
+import javafx.scene.image.PixelFormat;
 import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
+import lombok.Getter;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.stream.IntStream;
 
 /**
  * Creates a heatmap image from a given 2D array
@@ -19,32 +17,50 @@ public class HeatMap {
     /**
      * Default colors, in case the default constructor is called
      */
-    private static final Color[] defaultColors = { Color.DARKBLUE, Color.GREEN, Color.YELLOW, Color.RED };
+    static final Color[] defaultColors = { Color.DARKBLUE, Color.GREEN, Color.YELLOW, Color.RED };
 
     /**
-     * Writable image used to create the heatmap image
+     * Number of entries of the color lookup table
      */
-    private WritableImage image;
+    static final int LUT_SIZE = 1024;
+
+    /**
+     * Number of rows rendered by each parallel task
+     */
+    private static final int STRIPE_HEIGHT = 64;
+
+    @Getter
+    private final int width;
+
+    @Getter
+    private final int height;
+
     /**
-     * Array of the different colors used to interpolate
+     * Pixels of the heatmap, packed as ARGB, row by row
      */
-    private Color[] colors;
+    @Getter
+    private final int[] pixels;
+
     /**
      * Maximum value of the data
      */
-    private double maxValue;
+    @Getter
+    private final double maxValue;
+
     /**
      * Minimum value of the data
      */
-    private double minValue;
+    @Getter
+    private final double minValue;
+
     /**
-     * Value interval between each color
+     * Created on demand by {@link #getImage()}
      */
-    private double subdivisionValue;
+    private WritableImage image;
 
     /**
      * Default constructor, uses dark blue, green, yellow, and red as color variants.
-     * 
+     *
      * @param data
      *            monitor data
      */
@@ -55,74 +71,105 @@ public class HeatMap {
     /**
      * Custom colors constructor, builds a heatmap from the given data, by interpolating the values through the given
      * colors.
-     * 
+     *
      * @param data
      *            monitor data
      * @param colors
      *            custom colors for the heatmap, must be on order from minimum to maximum.
      */
     public HeatMap(double[][] data, Color[] colors) {
-        this.image = new WritableImage(data[0].length, data.length);
-        this.colors = colors;
-
-        // Computing max and min values
-        minValue = Double.MAX_VALUE;
-        maxValue = Double.MIN_VALUE;
-        for (int x = 0; x < data.length; x++) {
-            for (int y = 0; y < data[x].length; y++) {
-                if (data[x][y] > maxValue) {
-                    maxValue = data[x][y];
-                }
-                if (data[x][y] < minValue) {
-                    minValue = data[x][y];
-                }
-            }
+        this(flatten(data), data.length, data[0].length, colors);
+    }
+
+    /**
+     * Builds a heatmap from data stored row by row in a flat array
+     */
+    public HeatMap(double[] data, int height, int width) {
+        this(data, height, width, defaultColors);
+    }
+
+    public HeatMap(double[] data, int height, int width, Color[] colors) {
+        this.width = width;
+        this.height = height;
+        this.pixels = new int[width * height];
+
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (int i = 0; i < width * height; i++) {
+            min = Math.min(min, data[i]);
+            max = Math.max(max, data[i]);
         }
-        subdivisionValue = (maxValue - minValue) / (this.colors.length - 1);
+        this.minValue = min;
+        this.maxValue = max;
 
-        // Create heatmap pixel per pixel
-        PixelWriter pxWriter = image.getPixelWriter();
-        for (int x = 0; x < data.length; x++) {
-            for (int y = 0; y < data[x].length; y++) {
-                pxWriter.setColor(y, x, getColor(data[x][y]));
+        final int[] lut = createLookUpTable(colors);
+        final double scale = max > min ? (LUT_SIZE - 1) / (max - min) : 0;
+
+        // each stripe of rows is rendered by its own task
+        final int stripes = (height + STRIPE_HEIGHT - 1) / STRIPE_HEIGHT;
+        IntStream.range(0, stripes).parallel().forEach(stripe -> {
+            final int start = stripe * STRIPE_HEIGHT * width;
+            final int end = Math.min(height, (stripe + 1) * STRIPE_HEIGHT) * width;
+            for (int i = start; i < end; i++) {
+                pixels[i] = lut[(int) ((data[i] - min) * scale)];
             }
+        });
+    }
+
+    private static double[] flatten(double[][] data) {
+        final int width = data[0].length;
+        final double[] result = new double[data.length * width];
+        for (int row = 0; row < data.length; row++) {
+            System.arraycopy(data[row], 0, result, row * width, width);
         }
+        return result;
+    }
+
+    /**
+     * Interpolates linearly the colors, evenly spread from the minimum to the maximum value, into packed ARGB values
+     */
+    static int[] createLookUpTable(Color[] colors) {
+        final int[] lut = new int[LUT_SIZE];
+        final int subdivisions = colors.length - 1;
+        for (int i = 0; i < LUT_SIZE; i++) {
+            final double position = subdivisions == 0 ? 0 : (double) i / (LUT_SIZE - 1) * subdivisions;
+            final int index = Math.min((int) position, Math.max(0, subdivisions - 1));
+            final Color from = colors[index];
+            final Color to = colors[Math.min(index + 1, subdivisions)];
+            final double ratio = position - index;
+            lut[i] = toArgb(from.getRed() + (to.getRed() - from.getRed()) * ratio,
+                    from.getGreen() + (to.getGreen() - from.getGreen()) * ratio,
+                    from.getBlue() + (to.getBlue() - from.getBlue()) * ratio);
+        }
+        return lut;
+    }
+
+    private static int toArgb(double red, double green, double blue) {
+        return 0xFF000000 | (int) Math.round(red * 255) << 16 | (int) Math.round(green * 255) << 8
+                | (int) Math.round(blue * 255);
     }
 
     /**
-     * Computes the correct color of the value, by interpolating between the 2 colors in the right subdivision.
-     * 
-     * @param value
-     *            the value of the pixel (in data).
-     * @return the resulting color after interpolation.
+     * @return the heatmap as a JavaFX image, created on the first call
      */
-    private Color getColor(double value) {
-        double compValue = minValue + subdivisionValue;
-        int i = 0; // Once out of the loop, will be the index of the starting color of the interpolation
-        while (compValue < maxValue && value >= compValue) { // Finding the right subdivision, in order to get the
-                                                             // colors between which the values is located
-            i++;
-            compValue += subdivisionValue;
+    public WritableImage getImage() {
+        if (image == null) {
+            image = new WritableImage(width, height);
+            image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0,
+                    width);
         }
-        double red = Interpolator.LINEAR.interpolate(colors[i].getRed(), colors[i + 1].getRed(),
-                (value % subdivisionValue) / subdivisionValue);
-        double green = Interpolator.LINEAR.interpolate(colors[i].getGreen(), colors[i + 1].getGreen(),
-                (value % subdivisionValue) / subdivisionValue);
-        double blue = Interpolator.LINEAR.interpolate(colors[i].getBlue(), colors[i + 1].getBlue(),
-                (value % subdivisionValue) / subdivisionValue);
-        return Color.color(red, green, blue);
+        return image;
     }
 
     /**
      * Saves the heatmap to a PNG file
-     * 
+     *
      * @param outputFile
      *            The output file (Must be open and writable)
      */
     public void saveToFile(File outputFile) {
-        BufferedImage bImage = SwingFXUtils.fromFXImage(image, null);
         try {
-            ImageIO.write(bImage, "png", outputFile);
+            PngWriter.write(pixels, width, height, false, outputFile);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
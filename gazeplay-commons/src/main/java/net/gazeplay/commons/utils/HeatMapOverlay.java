@@ -0,0 +1,118 @@
+package net.gazeplay.commons.utils;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import net.gazeplay.commons.utils.stats.HeatMapAccumulator;
+
+/**
+ * Shows the heatmap building up over a game while it is played.
+ *
+ * The heatmap is a single image of one pixel per cell, scaled over the scene. At most a given number of times per
+ * second, only the cells changed since the previous refresh are copied from the accumulator and written into the
+ * image. The colours are scaled to the next power of two of the highest value, so that the whole image is only
+ * recoloured when the highest value doubles. The transparency decreases with the value, so that the low cells leave
+ * the game visible.
+ */
+public class HeatMapOverlay extends ImageView {
+
+    private static final double OPACITY = 0.6;
+
+    private final HeatMapAccumulator accumulator;
+
+    private final int rows;
+
+    private final int columns;
+
+    private final long periodNanos;
+
+    private final WritableImage image;
+
+    /**
+     * copy of the cells of the accumulator, up to date with the last refresh
+     */
+    private final double[] cells;
+
+    private final int[] pixels;
+
+    private final int[] dirtyBounds = new int[4];
+
+    private final int[] lut = HeatMap.createLookUpTable(HeatMap.defaultColors);
+
+    /**
+     * value shown with the highest colour
+     */
+    private double scaleMax = 0;
+
+    private long lastRefreshTime;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (now - lastRefreshTime >= periodNanos) {
+                lastRefreshTime = now;
+                refresh();
+            }
+        }
+    };
+
+    /**
+     * @param refreshRate
+     *            maximum number of refreshes per second
+     */
+    public HeatMapOverlay(HeatMapAccumulator accumulator, double refreshRate) {
+        this.accumulator = accumulator;
+        this.rows = accumulator.getRows();
+        this.columns = accumulator.getColumns();
+        this.periodNanos = (long) (1_000_000_000L / Math.max(0.1, refreshRate));
+        this.image = new WritableImage(columns, rows);
+        this.cells = new double[rows * columns];
+        this.pixels = new int[rows * columns];
+
+        setImage(image);
+        setFitWidth(columns * accumulator.getCellSize());
+        setFitHeight(rows * accumulator.getCellSize());
+        setSmooth(true);
+        setOpacity(OPACITY);
+        setMouseTransparent(true);
+    }
+
+    public void start() {
+        timer.start();
+    }
+
+    public void stop() {
+        timer.stop();
+    }
+
+    private void refresh() {
+        if (!accumulator.copyDirtyTo(cells, dirtyBounds)) {
+            return;
+        }
+
+        final double max = accumulator.getMaxValue();
+        if (max > scaleMax) {
+            // the whole image is recoloured
+            scaleMax = Math.pow(2, Math.ceil(Math.log(Math.max(1, max)) / Math.log(2)));
+            writePixels(0, 0, rows - 1, columns - 1);
+        } else {
+            writePixels(dirtyBounds[0], dirtyBounds[1], dirtyBounds[2], dirtyBounds[3]);
+        }
+    }
+
+    private void writePixels(int firstRow, int firstColumn, int lastRow, int lastColumn) {
+        final double scale = (lut.length - 1) / scaleMax;
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                final int i = row * columns + column;
+                final int index = Math.min(lut.length - 1, (int) (cells[i] * scale));
+                final int alpha = index * 255 / (lut.length - 1);
+                pixels[i] = alpha << 24 | lut[index] & 0x00FFFFFF;
+            }
+        }
+        image.getPixelWriter().setPixels(firstColumn, firstRow, lastColumn - firstColumn + 1, lastRow - firstRow + 1,
+                PixelFormat.getIntArgbInstance(), pixels, firstRow * columns + firstColumn, columns);
+    }
+
+}
@@ -0,0 +1,436 @@
+package net.gazeplay.commons.utils;
+
+import javafx.application.Platform;
+import javafx.geometry.VPos;
+import javafx.scene.Group;
+import javafx.scene.effect.GaussianBlur;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Line;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+import net.gazeplay.commons.utils.stats.HeatMapData;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Displays heatmap cells at the resolution they are displayed at, without going through an image file.
+ *
+ * The view is split into square tiles, each rendered on a background thread by interpolating the cells, and cached so
+ * that resizing or zooming back does not render them again. When the view is scaled up, the tiles are rendered at the
+ * next power of two of the scale, up to {@link #MAX_LEVEL}, so that the zoomed heatmap stays sharp.
+ *
+ * The heatmap is drawn with its axes, graduated in screen pixels, and with a legend of its colour scale on its right.
+ */
+@Slf4j
+public class HeatMapView extends Region {
+
+    private static final int TILE_SIZE = 256;
+
+    private static final int MAX_LEVEL = 3;
+
+    private static final int CACHE_CAPACITY = 128;
+
+    /**
+     * radius of the blur smoothing the heatmap, as it was drawn on the stats screen
+     */
+    private static final double BLUR_RADIUS = 10;
+
+    private static final double Y_AXIS_WIDTH = 48;
+
+    private static final double X_AXIS_HEIGHT = 24;
+
+    private static final double LEGEND_WIDTH = 72;
+
+    private static final double LEGEND_BAR_WIDTH = 12;
+
+    private static final double TICK_LENGTH = 4;
+
+    /**
+     * number of graduations aimed at on each axis
+     */
+    private static final int TICKS_COUNT = 5;
+
+    private static final Color AXIS_COLOR = Color.GRAY;
+
+    private static final ExecutorService executorService = new ThreadPoolExecutor(0, 2, 5, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), new CustomThreadFactory("HeatMapView", createThreadFactory()));
+
+    @Getter
+    private HeatMapData data;
+
+    private final int[] lut;
+
+    private double minValue;
+
+    private double maxValue;
+
+    private double lutScale;
+
+    @Getter
+    private double fitWidth;
+
+    @Getter
+    private double fitHeight;
+
+    /**
+     * incremented when the data changes, so that the tiles rendered for the previous data are ignored
+     */
+    private int generation;
+
+    /**
+     * rendered tiles, by key, least recently used first, only accessed on the JavaFX thread
+     */
+    private final Map<Long, WritableImage> cache = new LinkedHashMap<Long, WritableImage>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, WritableImage> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    /**
+     * tiles currently displayed, by key
+     */
+    private final Map<Long, ImageView> tiles = new HashMap<>();
+
+    private int tilesPixelWidth;
+
+    private int tilesPixelHeight;
+
+    private final Pane tilesPane = new Pane();
+
+    private final Group axes = new Group();
+
+    private final Group legend = new Group();
+
+    /**
+     * colour scale of the legend, from the maximum value at the top to the minimum one at the bottom
+     */
+    private final WritableImage legendImage;
+
+    private double axesContentWidth;
+
+    private double axesContentHeight;
+
+    public HeatMapView() {
+        this(HeatMap.defaultColors);
+    }
+
+    public HeatMapView(Color[] colors) {
+        this.lut = HeatMap.createLookUpTable(colors);
+        this.legendImage = new WritableImage(1, lut.length);
+        for (int i = 0; i < lut.length; i++) {
+            legendImage.getPixelWriter().setArgb(0, lut.length - 1 - i, lut[i]);
+        }
+        tilesPane.setLayoutX(Y_AXIS_WIDTH);
+        // the tiles are blurred together, and the blurred rendering is cached so that it is not computed every frame
+        tilesPane.setEffect(new GaussianBlur(BLUR_RADIUS));
+        tilesPane.setCache(true);
+        getChildren().addAll(tilesPane, axes, legend);
+        setMaxSize(USE_PREF_SIZE, USE_PREF_SIZE);
+        scaleXProperty().addListener((observable, oldValue, newValue) -> requestLayout());
+    }
+
+    private static GroupingThreadFactory createThreadFactory() {
+        GroupingThreadFactory threadFactory = new GroupingThreadFactory("HeatMapView");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    public void setData(HeatMapData data) {
+        this.data = data;
+        this.generation++;
+        cache.clear();
+        tilesPane.getChildren().clear();
+        axes.getChildren().clear();
+        legend.getChildren().clear();
+        tiles.clear();
+        tilesPixelWidth = 0;
+        tilesPixelHeight = 0;
+        axesContentWidth = 0;
+        axesContentHeight = 0;
+
+        if (data != null) {
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (double value : data.getCells()) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            minValue = min;
+            maxValue = max;
+            lutScale = max > min ? (HeatMap.LUT_SIZE - 1) / (max - min) : 0;
+        }
+        requestLayout();
+    }
+
+    public void setFitWidth(double fitWidth) {
+        this.fitWidth = fitWidth;
+        requestLayout();
+    }
+
+    public void setFitHeight(double fitHeight) {
+        this.fitHeight = fitHeight;
+        requestLayout();
+    }
+
+    /**
+     * @return the width of the heatmap within the fit size, less the axes and the legend, the cells being square
+     */
+    private double computeContentWidth() {
+        if (data == null) {
+            return 0;
+        }
+        final double availableWidth = Math.max(0, fitWidth - Y_AXIS_WIDTH - LEGEND_WIDTH);
+        final double availableHeight = Math.max(0, fitHeight - X_AXIS_HEIGHT);
+        return Math.min(availableWidth, availableHeight * data.getColumns() / data.getRows());
+    }
+
+    private double computeContentHeight() {
+        if (data == null) {
+            return 0;
+        }
+        final double availableWidth = Math.max(0, fitWidth - Y_AXIS_WIDTH - LEGEND_WIDTH);
+        final double availableHeight = Math.max(0, fitHeight - X_AXIS_HEIGHT);
+        return Math.min(availableHeight, availableWidth * data.getRows() / data.getColumns());
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return data == null ? 0 : Y_AXIS_WIDTH + computeContentWidth() + LEGEND_WIDTH;
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return data == null ? 0 : computeContentHeight() + X_AXIS_HEIGHT;
+    }
+
+    @Override
+    protected void layoutChildren() {
+        final double contentWidth = computeContentWidth();
+        final double contentHeight = computeContentHeight();
+        if (contentWidth < 1 || contentHeight < 1) {
+            return;
+        }
+
+        if (contentWidth != axesContentWidth || contentHeight != axesContentHeight) {
+            axesContentWidth = contentWidth;
+            axesContentHeight = contentHeight;
+            layoutAxes(contentWidth, contentHeight);
+            layoutLegend(contentWidth, contentHeight);
+        }
+
+        final int level = Math.min(MAX_LEVEL,
+                (int) Math.ceil(Math.log(Math.max(1, Math.abs(getScaleX()))) / Math.log(2)));
+        final int pixelWidth = (int) Math.ceil(contentWidth * (1 << level));
+        final int pixelHeight = (int) Math.ceil(contentHeight * (1 << level));
+        if (pixelWidth == tilesPixelWidth && pixelHeight == tilesPixelHeight) {
+            return;
+        }
+        tilesPixelWidth = pixelWidth;
+        tilesPixelHeight = pixelHeight;
+
+        tilesPane.getChildren().clear();
+        tiles.clear();
+        final double ratio = contentWidth / pixelWidth;
+        for (int tileY = 0; tileY * TILE_SIZE < pixelHeight; tileY++) {
+            for (int tileX = 0; tileX * TILE_SIZE < pixelWidth; tileX++) {
+                final long key = tileKey(pixelWidth, pixelHeight, tileX, tileY);
+                final ImageView tile = new ImageView();
+                tile.setLayoutX(tileX * TILE_SIZE * ratio);
+                tile.setLayoutY(tileY * TILE_SIZE * ratio);
+                tile.setFitWidth(Math.min(TILE_SIZE, pixelWidth - tileX * TILE_SIZE) * ratio);
+                tile.setFitHeight(Math.min(TILE_SIZE, pixelHeight - tileY * TILE_SIZE) * ratio);
+                tiles.put(key, tile);
+                tilesPane.getChildren().add(tile);
+
+                final WritableImage image = cache.get(key);
+                if (image != null) {
+                    tile.setImage(image);
+                } else {
+                    requestTile(key, pixelWidth, pixelHeight, tileX, tileY);
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the axes along the left and bottom sides of the heatmap, graduated in screen pixels from its top left
+     * corner
+     */
+    private void layoutAxes(double contentWidth, double contentHeight) {
+        axes.getChildren().clear();
+        axes.getChildren().add(createLine(Y_AXIS_WIDTH, 0, Y_AXIS_WIDTH, contentHeight));
+        axes.getChildren().add(createLine(Y_AXIS_WIDTH, contentHeight, Y_AXIS_WIDTH + contentWidth, contentHeight));
+
+        final double screenWidth = data.getColumns() * data.getCellSize();
+        final double xStep = computeTickStep(screenWidth);
+        for (double value = 0; value <= screenWidth; value += xStep) {
+            final double x = Y_AXIS_WIDTH + value / screenWidth * contentWidth;
+            axes.getChildren().add(createLine(x, contentHeight, x, contentHeight + TICK_LENGTH));
+            final Text label = createLabel(formatValue(value), TextAlignment.CENTER);
+            label.setLayoutX(x - label.getLayoutBounds().getWidth() / 2);
+            label.setLayoutY(contentHeight + TICK_LENGTH);
+            axes.getChildren().add(label);
+        }
+
+        final double screenHeight = data.getRows() * data.getCellSize();
+        final double yStep = computeTickStep(screenHeight);
+        for (double value = 0; value <= screenHeight; value += yStep) {
+            final double y = value / screenHeight * contentHeight;
+            axes.getChildren().add(createLine(Y_AXIS_WIDTH - TICK_LENGTH, y, Y_AXIS_WIDTH, y));
+            final Text label = createLabel(formatValue(value), TextAlignment.RIGHT);
+            label.setLayoutX(Y_AXIS_WIDTH - TICK_LENGTH - 2 - label.getLayoutBounds().getWidth());
+            label.setLayoutY(y - label.getLayoutBounds().getHeight() / 2);
+            axes.getChildren().add(label);
+        }
+    }
+
+    /**
+     * Draws the colour scale on the right of the heatmap, with the minimum, middle and maximum values
+     */
+    private void layoutLegend(double contentWidth, double contentHeight) {
+        legend.getChildren().clear();
+        final double barX = Y_AXIS_WIDTH + contentWidth + LEGEND_BAR_WIDTH;
+
+        final ImageView bar = new ImageView(legendImage);
+        bar.setPreserveRatio(false);
+        bar.setFitWidth(LEGEND_BAR_WIDTH);
+        bar.setFitHeight(contentHeight);
+        bar.setLayoutX(barX);
+        legend.getChildren().add(bar);
+
+        final double[] values = { maxValue, (minValue + maxValue) / 2, minValue };
+        for (int i = 0; i < values.length; i++) {
+            final double y = contentHeight * i / (values.length - 1);
+            legend.getChildren().add(createLine(barX + LEGEND_BAR_WIDTH, y, barX + LEGEND_BAR_WIDTH + TICK_LENGTH, y));
+            final Text label = createLabel(formatValue(values[i]), TextAlignment.LEFT);
+            label.setLayoutX(barX + LEGEND_BAR_WIDTH + TICK_LENGTH + 2);
+            label.setLayoutY(y - label.getLayoutBounds().getHeight() / 2);
+            legend.getChildren().add(label);
+        }
+    }
+
+    private static Line createLine(double startX, double startY, double endX, double endY) {
+        final Line line = new Line(startX, startY, endX, endY);
+        line.setStroke(AXIS_COLOR);
+        return line;
+    }
+
+    private static Text createLabel(String value, TextAlignment alignment) {
+        final Text label = new Text(value);
+        label.setFill(AXIS_COLOR);
+        label.setTextAlignment(alignment);
+        label.setTextOrigin(VPos.TOP);
+        return label;
+    }
+
+    /**
+     * @return a round step between the graduations, 1, 2 or 5 times a power of ten, giving about {@link #TICKS_COUNT}
+     *         graduations over the range
+     */
+    private static double computeTickStep(double range) {
+        if (range <= 0) {
+            return 1;
+        }
+        final double rawStep = range / TICKS_COUNT;
+        final double magnitude = Math.pow(10, Math.floor(Math.log10(rawStep)));
+        for (double multiple : new double[] { 1, 2, 5 }) {
+            if (multiple * magnitude >= rawStep) {
+                return multiple * magnitude;
+            }
+        }
+        return 10 * magnitude;
+    }
+
+    private static String formatValue(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < Long.MAX_VALUE) {
+            return Long.toString((long) value);
+        }
+        return String.format("%.2f", value);
+    }
+
+    private static long tileKey(int pixelWidth, int pixelHeight, int tileX, int tileY) {
+        return (long) pixelWidth << 48 | (long) pixelHeight << 32 | (long) tileX << 16 | tileY;
+    }
+
+    private void requestTile(long key, int pixelWidth, int pixelHeight, int tileX, int tileY) {
+        final HeatMapData data = this.data;
+        final int[] lut = this.lut;
+        final double minValue = this.minValue;
+        final double lutScale = this.lutScale;
+        final int generation = this.generation;
+        executorService.execute(() -> {
+            final WritableImage image = renderTile(data, lut, minValue, lutScale, pixelWidth, pixelHeight, tileX,
+                    tileY);
+            Platform.runLater(() -> {
+                if (generation != this.generation) {
+                    return;
+                }
+                cache.put(key, image);
+                final ImageView tile = tiles.get(key);
+                if (tile != null) {
+                    tile.setImage(image);
+                }
+            });
+        });
+    }
+
+    /**
+     * Renders a tile of the heatmap scaled to the given size, interpolating bilinearly between the centers of the cells
+     */
+    private static WritableImage renderTile(HeatMapData data, int[] lut, double minValue, double lutScale,
+            int pixelWidth, int pixelHeight, int tileX, int tileY) {
+        final int rows = data.getRows();
+        final int columns = data.getColumns();
+        final double[] cells = data.getCells();
+        final int width = Math.min(TILE_SIZE, pixelWidth - tileX * TILE_SIZE);
+        final int height = Math.min(TILE_SIZE, pixelHeight - tileY * TILE_SIZE);
+        final double cellsPerPixelX = (double) columns / pixelWidth;
+        final double cellsPerPixelY = (double) rows / pixelHeight;
+
+        final int[] pixels = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            final double cellY = clamp((tileY * TILE_SIZE + y + 0.5) * cellsPerPixelY - 0.5, rows - 1);
+            final int row0 = (int) cellY;
+            final int row1 = Math.min(row0 + 1, rows - 1);
+            final double fractionY = cellY - row0;
+            for (int x = 0; x < width; x++) {
+                final double cellX = clamp((tileX * TILE_SIZE + x + 0.5) * cellsPerPixelX - 0.5, columns - 1);
+                final int column0 = (int) cellX;
+                final int column1 = Math.min(column0 + 1, columns - 1);
+                final double fractionX = cellX - column0;
+
+                final double top = cells[row0 * columns + column0] * (1 - fractionX)
+                        + cells[row0 * columns + column1] * fractionX;
+                final double bottom = cells[row1 * columns + column0] * (1 - fractionX)
+                        + cells[row1 * columns + column1] * fractionX;
+                final double value = top * (1 - fractionY) + bottom * fractionY;
+                pixels[y * width + x] = lut[Math.min(lut.length - 1, (int) ((value - minValue) * lutScale))];
+            }
+        }
+
+        final WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return image;
+    }
+
+    private static double clamp(double value, double max) {
+        return Math.max(0, Math.min(max, value));
+    }
+
+}
@@ -0,0 +1,143 @@
+package net.gazeplay.commons.utils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Encodes packed ARGB pixels straight into a PNG file, without going through an AWT or JavaFX image.
+ *
+ * The image is written as 8 bits per channel RGB, or RGBA when the alpha channel is kept, each row being encoded with
+ * the Sub filter, which compresses well the smooth images such as heatmaps.
+ */
+public final class PngWriter {
+
+    private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+
+    private static final int IDAT_CHUNK_SIZE = 64 * 1024;
+
+    private static final int COLOR_TYPE_RGB = 2;
+
+    private static final int COLOR_TYPE_RGBA = 6;
+
+    private static final int FILTER_SUB = 1;
+
+    private PngWriter() {
+    }
+
+    public static void write(int[] argbPixels, int width, int height, boolean alpha, File outputFile)
+            throws IOException {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(outputFile))) {
+            write(argbPixels, width, height, alpha, out);
+        }
+    }
+
+    public static void write(int[] argbPixels, int width, int height, boolean alpha, OutputStream out)
+            throws IOException {
+        final DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.write(SIGNATURE);
+
+        final ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+        final DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.writeInt(width);
+        headerOut.writeInt(height);
+        headerOut.writeByte(8);
+        headerOut.writeByte(alpha ? COLOR_TYPE_RGBA : COLOR_TYPE_RGB);
+        headerOut.writeByte(0); // compression
+        headerOut.writeByte(0); // filter
+        headerOut.writeByte(0); // interlace
+        writeChunk(dataOut, "IHDR", header.toByteArray(), header.size());
+
+        final int channels = alpha ? 4 : 3;
+        final byte[] row = new byte[1 + width * channels];
+        row[0] = FILTER_SUB;
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try (DeflaterOutputStream idatOut = new DeflaterOutputStream(new IdatOutputStream(dataOut), deflater,
+                IDAT_CHUNK_SIZE)) {
+            for (int y = 0; y < height; y++) {
+                final int offset = y * width;
+                int previous = 0;
+                for (int x = 0, i = 1; x < width; x++) {
+                    final int pixel = argbPixels[offset + x];
+                    row[i++] = (byte) ((pixel >> 16) - (previous >> 16));
+                    row[i++] = (byte) ((pixel >> 8) - (previous >> 8));
+                    row[i++] = (byte) (pixel - previous);
+                    if (alpha) {
+                        row[i++] = (byte) ((pixel >>> 24) - (previous >>> 24));
+                    }
+                    previous = pixel;
+                }
+                idatOut.write(row);
+            }
+        } finally {
+            deflater.end();
+        }
+
+        writeChunk(dataOut, "IEND", new byte[0], 0);
+        dataOut.flush();
+    }
+
+    private static void writeChunk(DataOutputStream out, String type, byte[] data, int length) throws IOException {
+        final byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        final CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        out.writeInt(length);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+        out.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Splits the compressed stream into IDAT chunks, and leaves the underlying stream open when closed
+     */
+    private static final class IdatOutputStream extends OutputStream {
+
+        private final DataOutputStream out;
+
+        private final byte[] buffer = new byte[IDAT_CHUNK_SIZE];
+
+        private int count;
+
+        private IdatOutputStream(DataOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) {
+                flushChunk();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == buffer.length) {
+                    flushChunk();
+                }
+                final int n = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        private void flushChunk() throws IOException {
+            if (count > 0) {
+                writeChunk(out, "IDAT", buffer, count);
+                count = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flushChunk();
+        }
+    }
+
+}
@@ -1,35 +1,113 @@
 package net.gazeplay.commons.utils.games;
 
 import javafx.scene.image.Image;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Nullable;
-import java.util.Random;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.*;
 
 @Slf4j
 public abstract class AbstractImageLibrary implements ImageLibrary {
 
+    /**
+     * by default, the picked images are not picked again until half of the images have been picked since
+     */
+    public static final int DEFAULT_HISTORY_SIZE = Integer.MAX_VALUE;
+
     @Nullable
     @Setter
     private ImageLibrary fallbackImageLibrary;
 
-    private final Random random = new Random();
+    private Random random = new Random();
+
+    /**
+     * maximum number of recently picked images not to be picked again, at most half of the images so that the picks
+     * stay random
+     */
+    @Getter
+    private int historySize = DEFAULT_HISTORY_SIZE;
+
+    @Nullable
+    private RandomIndexSampler sampler;
+
+    /**
+     * size the images are loaded at, 0 to load them at their own size
+     */
+    @Getter
+    private double requestedWidth;
+
+    @Getter
+    private double requestedHeight;
+
+    /**
+     * indexes to be picked next, drawn in advance so that their images can be loaded before they are picked
+     */
+    @Nullable
+    private int[] upcomingIndexes;
 
     public abstract int getImagesCount();
 
     protected abstract Image loadImageAtIndex(int index);
 
+    /**
+     * Called with the indexes drawn for the next pick, so that their images can be loaded in advance
+     */
+    protected void prefetchImagesAtIndexes(int[] indexes) {
+    }
+
+    @Override
+    public void setRequestedImageSize(double width, double height) {
+        this.requestedWidth = width;
+        this.requestedHeight = height;
+        if (fallbackImageLibrary != null) {
+            fallbackImageLibrary.setRequestedImageSize(width, height);
+        }
+    }
+
+    /**
+     * @return an image of the fallback library, in place of a picked image which cannot be loaded, null if there is no
+     *         fallback library
+     */
+    @Nullable
+    protected Image pickFallbackImage() {
+        if (fallbackImageLibrary == null || fallbackImageLibrary.getImagesCount() == 0) {
+            return null;
+        }
+        return fallbackImageLibrary.pickRandomImage();
+    }
+
+    /**
+     * Makes the picks reproducible : the same seed gives the same images in the same order
+     */
+    public void setSeed(long seed) {
+        this.random = new Random(seed);
+        resetSampler();
+    }
+
+    public void setHistorySize(int historySize) {
+        this.historySize = historySize;
+        resetSampler();
+    }
+
+    private void resetSampler() {
+        sampler = null;
+        upcomingIndexes = null;
+    }
+
     @Override
     public Image pickRandomImage() {
-        return pickMultipleRandomDistinctImages(1).iterator().next();
+        return pickRandomDistinctImages(1).get(0);
     }
 
     @Override
     public Set<Image> pickMultipleRandomDistinctImages(int requestedPickCount) {
+        return new LinkedHashSet<>(pickRandomDistinctImages(requestedPickCount));
+    }
+
+    @Override
+    public List<Image> pickRandomDistinctImages(int requestedPickCount) {
         final int distinctImagesCount = getImagesCount();
         if (distinctImagesCount < requestedPickCount) {
 
@@ -42,18 +120,38 @@ public abstract class AbstractImageLibrary implements ImageLibrary {
                         this.getClass().getSimpleName(), requestedPickCount, distinctImagesCount,
                         defaultLibraryAvailableCount));
             }
-            Set<Image> result = collectRandom(distinctImagesCount, distinctImagesCount);
-            result.addAll(fallbackImageLibrary.pickMultipleRandomDistinctImages(defaultLibraryPickCount));
+            List<Image> result = collectRandom(distinctImagesCount, distinctImagesCount);
+            result.addAll(fallbackImageLibrary.pickRandomDistinctImages(defaultLibraryPickCount));
             return result;
 
         }
         return collectRandom(requestedPickCount, distinctImagesCount);
     }
 
-    private Set<Image> collectRandom(int limit, int distinctImagesCount) {
-        return IntStream.generate(() -> random.nextInt(distinctImagesCount)).distinct().limit(limit).boxed()
-                .peek(i -> log.debug("Picking Image at random index {} in ImageLibrary", i)).map(this::loadImageAtIndex)
-                .collect(Collectors.toSet());
+    private List<Image> collectRandom(int limit, int distinctImagesCount) {
+        if (sampler == null || sampler.getCount() != distinctImagesCount) {
+            sampler = new RandomIndexSampler(distinctImagesCount, Math.min(historySize, distinctImagesCount / 2),
+                    random);
+            upcomingIndexes = null;
+        }
+
+        final int[] indexes;
+        if (upcomingIndexes != null && upcomingIndexes.length == limit) {
+            indexes = upcomingIndexes;
+        } else {
+            indexes = sampler.sample(limit);
+        }
+
+        final List<Image> result = new ArrayList<>(limit);
+        for (int index : indexes) {
+            log.debug("Picking Image at random index {} in ImageLibrary", index);
+            result.add(loadImageAtIndex(index));
+        }
+
+        // the next pick is expected to be of the same count as this one
+        upcomingIndexes = sampler.sample(limit);
+        prefetchImagesAtIndexes(upcomingIndexes);
+        return result;
     }
 
 }
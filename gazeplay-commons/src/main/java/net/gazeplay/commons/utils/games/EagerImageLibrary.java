@@ -17,6 +17,8 @@ import java.util.List;
  * 
  * EagerImageLibrary exists essentially as an opposite of LazyImageLibrary and should generally not be used.
  * 
+ * The requested image size is ignored, as the images are loaded before it is known.
+ * 
  */
 @Slf4j
 public class EagerImageLibrary extends AbstractImageLibrary {
@@ -0,0 +1,177 @@
+package net.gazeplay.commons.utils.games;
+
+import javafx.scene.image.Image;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shared cache of the images decoded from the resources of the games, keyed by resource location and requested size,
+ * so that the same image is decoded only once however many times a game is played.
+ *
+ * The decoded images are kept in a least recently used order, within a budget of bytes estimated from their
+ * dimensions. The images evicted from the budget are still kept through soft references, and reused as long as the
+ * garbage collector does not need their memory. Images which failed to load are not cached.
+ *
+ * The cached images are shared, they must not be modified. The images of files which may change, like the images of
+ * the user, are requested with {@link #get(File, double, double, boolean, boolean)}, which keys them by modification
+ * time as well, so that a changed file is decoded again.
+ */
+@Slf4j
+public class ImageCache {
+
+    private static final long DEFAULT_BUDGET = Math.max(32L * 1024 * 1024, Runtime.getRuntime().maxMemory() / 8);
+
+    @Getter
+    private static final ImageCache instance = new ImageCache(DEFAULT_BUDGET);
+
+    private static final class SoftImageReference extends SoftReference<Image> {
+
+        private final String key;
+
+        private SoftImageReference(String key, Image image, ReferenceQueue<Image> queue) {
+            super(image, queue);
+            this.key = key;
+        }
+    }
+
+    /**
+     * maximum number of bytes of the images strongly referenced
+     */
+    @Getter
+    private final long budget;
+
+    private final LinkedHashMap<String, Image> images = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final Map<String, SoftImageReference> evictedImages = new HashMap<>();
+
+    private final ReferenceQueue<Image> clearedReferences = new ReferenceQueue<>();
+
+    @Getter
+    private long sizeInBytes;
+
+    @Getter
+    private long hitsCount;
+
+    /**
+     * images found among the evicted images, still softly referenced
+     */
+    @Getter
+    private long softHitsCount;
+
+    @Getter
+    private long missesCount;
+
+    @Getter
+    private long evictionsCount;
+
+    public ImageCache(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * @return the image at its own size, decoded on the first request
+     */
+    public Image get(String resource) {
+        return get(resource, 0, 0, false, false);
+    }
+
+    /**
+     * Same as {@link Image#Image(String, double, double, boolean, boolean)}, decoded on the first request
+     */
+    public Image get(String resource, double requestedWidth, double requestedHeight, boolean preserveRatio,
+            boolean smooth) {
+        return get(resource, resource, requestedWidth, requestedHeight, preserveRatio, smooth);
+    }
+
+    /**
+     * Same as {@link #get(String, double, double, boolean, boolean)} for an image file, decoded again once it has been
+     * modified
+     */
+    public Image get(File file, double requestedWidth, double requestedHeight, boolean preserveRatio, boolean smooth) {
+        final String resource = file.toURI().toString();
+        return get(resource + '#' + file.lastModified(), resource, requestedWidth, requestedHeight, preserveRatio,
+                smooth);
+    }
+
+    private Image get(String baseKey, String resource, double requestedWidth, double requestedHeight,
+            boolean preserveRatio, boolean smooth) {
+        final String key = requestedWidth == 0 && requestedHeight == 0 ? baseKey
+                : baseKey + '@' + requestedWidth + 'x' + requestedHeight + (preserveRatio ? 'p' : '-')
+                        + (smooth ? 's' : '-');
+
+        synchronized (this) {
+            final Image image = images.get(key);
+            if (image != null) {
+                hitsCount++;
+                return image;
+            }
+            final SoftImageReference reference = evictedImages.remove(key);
+            final Image evictedImage = reference == null ? null : reference.get();
+            if (evictedImage != null) {
+                softHitsCount++;
+                put(key, evictedImage);
+                return evictedImage;
+            }
+            missesCount++;
+        }
+
+        // decoded outside of the lock, an image requested twice at the same time is decoded twice
+        final Image image = new Image(resource, requestedWidth, requestedHeight, preserveRatio, smooth);
+        if (image.isError()) {
+            log.warn("Failed to load image {}", resource, image.getException());
+            return image;
+        }
+        synchronized (this) {
+            final Image cachedImage = images.get(key);
+            if (cachedImage != null) {
+                return cachedImage;
+            }
+            put(key, image);
+        }
+        return image;
+    }
+
+    private void put(String key, Image image) {
+        images.put(key, image);
+        sizeInBytes += sizeOf(image);
+
+        final Iterator<Map.Entry<String, Image>> iterator = images.entrySet().iterator();
+        while (sizeInBytes > budget && images.size() > 1) {
+            final Map.Entry<String, Image> eldest = iterator.next();
+            iterator.remove();
+            sizeInBytes -= sizeOf(eldest.getValue());
+            evictionsCount++;
+            evictedImages.put(eldest.getKey(),
+                    new SoftImageReference(eldest.getKey(), eldest.getValue(), clearedReferences));
+        }
+
+        SoftImageReference cleared;
+        while ((cleared = (SoftImageReference) clearedReferences.poll()) != null) {
+            evictedImages.remove(cleared.key, cleared);
+        }
+    }
+
+    private static long sizeOf(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * 4;
+    }
+
+    public synchronized void clear() {
+        images.clear();
+        evictedImages.clear();
+        sizeInBytes = 0;
+    }
+
+    public synchronized void logStatistics() {
+        log.info("image cache : {} images, {} of {} bytes, {} hits, {} soft hits, {} misses, {} evictions",
+                images.size(), sizeInBytes, budget, hitsCount, softHitsCount, missesCount, evictionsCount);
+    }
+
+}
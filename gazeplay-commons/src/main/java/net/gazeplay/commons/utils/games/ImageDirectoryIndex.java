@@ -0,0 +1,706 @@
+package net.gazeplay.commons.utils.games;
+
+import javafx.geometry.Dimension2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.configuration.Configuration;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+import net.gazeplay.commons.utils.PngWriter;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Index of the images of a directory, saved on disk, so that listing a directory of many images, possibly on a network
+ * share, does not go through the file system each time a game is launched or a round is started.
+ *
+ * When a directory is indexed for the first time, it is listed at once. Afterwards, the saved index is used at once,
+ * and the directory is listed again in the background each time a game uses it. During the game, the index is kept up
+ * to date from the changes reported by the file system, and only the changed files are read again. As the index may
+ * still list an image deleted meanwhile, the picked images are checked, see {@link #onMissingFile(File)}.
+ *
+ * For each image, the index keeps its size, its modification time, its dimensions and a thumbnail, used instead of the
+ * image when it is displayed small enough. Only the directories of the user are read and watched : the directories
+ * bundled with the games are only listed.
+ */
+@Slf4j
+public class ImageDirectoryIndex {
+
+    /**
+     * maximum width and height of the thumbnails
+     */
+    public static final int THUMBNAIL_SIZE = 256;
+
+    private static final int MAGIC = 0x475A4958; // GZIX
+
+    private static final int VERSION = 1;
+
+    /**
+     * number of thumbnails created between two saves of the index, when a directory is listed
+     */
+    private static final int SAVE_INTERVAL = 100;
+
+    private static final Map<String, ImageDirectoryIndex> indexes = new ConcurrentHashMap<>();
+
+    private static final ExecutorService executorService = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), new CustomThreadFactory("ImageDirectoryIndex", createThreadFactory()));
+
+    private static final Map<WatchKey, ImageDirectoryIndex> watchedIndexes = new ConcurrentHashMap<>();
+
+    @Nullable
+    private static WatchService watchService;
+
+    private static final AtomicBoolean indexesPruned = new AtomicBoolean();
+
+    @AllArgsConstructor
+    @Getter
+    private static final class Entry {
+
+        private final String name;
+
+        private final long size;
+
+        private final long lastModified;
+
+        /**
+         * dimensions of the image, 0 if not read yet or unreadable
+         */
+        private final int width;
+
+        private final int height;
+
+        /**
+         * dimensions of the thumbnail, 0 if there is none
+         */
+        private final int thumbnailWidth;
+
+        private final int thumbnailHeight;
+
+        private boolean isRead() {
+            return width > 0 || thumbnailWidth > 0;
+        }
+    }
+
+    @Getter
+    private final File directory;
+
+    private final File indexFile;
+
+    private final File thumbnailsDirectory;
+
+    /**
+     * images of the directory by name, guarded by this index
+     */
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private final Set<String> subdirectoryNames = new TreeSet<>();
+
+    private volatile List<File> imageFiles = Collections.emptyList();
+
+    private volatile List<File> subdirectories = Collections.emptyList();
+
+    /**
+     * false for the directories bundled with the games, which are neither read nor watched
+     */
+    private final boolean userDirectory;
+
+    /**
+     * true from the time the index is listed again for a game to the end of the game, guarded by this index
+     */
+    private boolean upToDate;
+
+    private ImageDirectoryIndex(File directory) {
+        this.directory = directory;
+        this.userDirectory = isUserDirectory(directory);
+        final String id = UUID.nameUUIDFromBytes(directory.getPath().getBytes(StandardCharsets.UTF_8)).toString();
+        final File indexesFolder = new File(getIndexesFolder());
+        this.indexFile = new File(indexesFolder, id + ".index");
+        this.thumbnailsDirectory = new File(indexesFolder, id);
+    }
+
+    /**
+     * @return the index of the directory, opened on the first call, listed again in the background on the first call
+     *         of each game
+     */
+    public static ImageDirectoryIndex forDirectory(File directory) {
+        final File absoluteDirectory = directory.getAbsoluteFile();
+        final ImageDirectoryIndex index = indexes.computeIfAbsent(absoluteDirectory.getPath(), path -> {
+            final ImageDirectoryIndex openedIndex = new ImageDirectoryIndex(absoluteDirectory);
+            openedIndex.open();
+            return openedIndex;
+        });
+        index.update();
+        return index;
+    }
+
+    /**
+     * Removes from its index an image found deleted when it was picked
+     */
+    public static void onMissingFile(File imageFile) {
+        final ImageDirectoryIndex index = findIndex(imageFile);
+        if (index != null) {
+            log.info("Image {} was deleted since its directory was listed", imageFile);
+            executorService.execute(() -> {
+                index.onChange(imageFile.getName());
+                index.publish();
+                index.save();
+            });
+        }
+    }
+
+    /**
+     * @return the thumbnail of the image, if it has one at least as large as the requested size, null otherwise
+     */
+    @Nullable
+    public static File findThumbnail(File imageFile, double requestedWidth, double requestedHeight) {
+        final ImageDirectoryIndex index = findIndex(imageFile);
+        final Entry entry = index == null ? null : index.getEntry(imageFile.getName());
+        if (entry == null || entry.getThumbnailWidth() < requestedWidth
+                || entry.getThumbnailHeight() < requestedHeight) {
+            return null;
+        }
+        return index.getThumbnailFile(entry);
+    }
+
+    /**
+     * @return the dimensions of the image, if they have been read already, null otherwise
+     */
+    @Nullable
+    public static Dimension2D findImageSize(File imageFile) {
+        final ImageDirectoryIndex index = findIndex(imageFile);
+        final Entry entry = index == null ? null : index.getEntry(imageFile.getName());
+        if (entry == null || entry.getWidth() == 0) {
+            return null;
+        }
+        return new Dimension2D(entry.getWidth(), entry.getHeight());
+    }
+
+    @Nullable
+    private static ImageDirectoryIndex findIndex(File imageFile) {
+        final File directory = imageFile.getAbsoluteFile().getParentFile();
+        return directory == null ? null : indexes.get(directory.getPath());
+    }
+
+    @Nullable
+    private synchronized Entry getEntry(String name) {
+        return entries.get(name);
+    }
+
+    /**
+     * Stops watching the directories at the end of a game, their indexes being listed again in the background the next
+     * time they are used
+     */
+    public static void stopWatching() {
+        for (ImageDirectoryIndex index : indexes.values()) {
+            synchronized (index) {
+                index.upToDate = false;
+            }
+        }
+        for (WatchKey key : watchedIndexes.keySet()) {
+            key.cancel();
+        }
+        watchedIndexes.clear();
+    }
+
+    private synchronized boolean isUpToDate() {
+        return upToDate;
+    }
+
+    public static String getIndexesFolder() {
+        return Utils.getGazePlayFolder() + "cache" + Utils.FILESEPARATOR + "images" + Utils.FILESEPARATOR;
+    }
+
+    private static GroupingThreadFactory createThreadFactory() {
+        GroupingThreadFactory threadFactory = new GroupingThreadFactory("ImageDirectoryIndex");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    /**
+     * @return the images of the directory, sorted by name
+     */
+    public List<File> getImageFiles() {
+        return imageFiles;
+    }
+
+    /**
+     * @return the sub directories of the directory, sorted by name
+     */
+    public List<File> getSubdirectories() {
+        return subdirectories;
+    }
+
+    /**
+     * @return true if the directory is in the files directory or in the directory of Where is it, both chosen by the
+     *         user
+     */
+    private static boolean isUserDirectory(File directory) {
+        final Configuration config = Configuration.getInstance();
+        return isInDirectory(directory, config.getFileDir()) || isInDirectory(directory, config.getWhereIsItDir());
+    }
+
+    private static boolean isInDirectory(File file, @Nullable String directory) {
+        if (directory == null || directory.isEmpty()) {
+            return false;
+        }
+        return file.toPath().normalize().startsWith(Paths.get(directory).toAbsolutePath().normalize());
+    }
+
+    private void open() {
+        if (!load()) {
+            // nothing to show until the directory is listed
+            list();
+        }
+    }
+
+    /**
+     * Lists the directory again in the background, and watches it until the end of the game, unless it is done already
+     */
+    private void update() {
+        synchronized (this) {
+            if (upToDate) {
+                return;
+            }
+            upToDate = true;
+        }
+        executorService.execute(() -> {
+            if (indexesPruned.compareAndSet(false, true)) {
+                pruneIndexes();
+            }
+            if (userDirectory) {
+                watch();
+            }
+            scan();
+        });
+    }
+
+    /**
+     * Lists the directory, and reads again the images changed since the last listing
+     */
+    private void scan() {
+        list();
+        if (userDirectory) {
+            readChangedImages();
+        }
+        save();
+    }
+
+    private void readChangedImages() {
+        final List<Entry> unreadEntries = new ArrayList<>();
+        synchronized (this) {
+            for (Entry entry : entries.values()) {
+                if (!entry.isRead()) {
+                    unreadEntries.add(entry);
+                }
+            }
+        }
+        int readCount = 0;
+        for (Entry entry : unreadEntries) {
+            if (!isUpToDate()) {
+                // the game ended, the remaining images are read when the directory is used again
+                break;
+            }
+            read(entry);
+            if (++readCount % SAVE_INTERVAL == 0) {
+                save();
+            }
+        }
+        pruneThumbnails();
+    }
+
+    /**
+     * Updates the names, sizes and modification times of the images, without reading them
+     */
+    private void list() {
+        final File[] files = directory.listFiles();
+        final Map<String, File> images = new HashMap<>();
+        final Set<String> directories = new TreeSet<>();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    if (!file.isHidden() && !file.getName().startsWith(".")) {
+                        directories.add(file.getName());
+                    }
+                } else if (ImageUtils.isImage(file)) {
+                    images.put(file.getName(), file);
+                }
+            }
+        } else {
+            log.warn("Cannot list images in directory {}", directory);
+        }
+
+        synchronized (this) {
+            final Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                final Entry entry = iterator.next();
+                if (!images.containsKey(entry.getName())) {
+                    iterator.remove();
+                    deleteThumbnail(entry);
+                }
+            }
+            for (File file : images.values()) {
+                update(file);
+            }
+            subdirectoryNames.clear();
+            subdirectoryNames.addAll(directories);
+            publish();
+        }
+    }
+
+    /**
+     * Updates the entry of the image if its size or modification time changed, the image being read again later
+     */
+    private synchronized Entry update(File file) {
+        final long size = file.length();
+        final long lastModified = file.lastModified();
+        final Entry entry = entries.get(file.getName());
+        if (entry != null && entry.getSize() == size && entry.getLastModified() == lastModified) {
+            return entry;
+        }
+        if (entry != null) {
+            deleteThumbnail(entry);
+        }
+        final Entry updatedEntry = new Entry(file.getName(), size, lastModified, 0, 0, 0, 0);
+        entries.put(file.getName(), updatedEntry);
+        return updatedEntry;
+    }
+
+    /**
+     * Reads the dimensions of the image, and creates its thumbnail if it is larger than the thumbnails
+     */
+    private void read(Entry entry) {
+        final File file = new File(directory, entry.getName());
+        final Image image = new Image(file.toURI().toString());
+        if (image.isError()) {
+            log.warn("Failed to read image {}", file, image.getException());
+            return;
+        }
+        final int width = (int) image.getWidth();
+        final int height = (int) image.getHeight();
+
+        int thumbnailWidth = 0;
+        int thumbnailHeight = 0;
+        if (width > THUMBNAIL_SIZE || height > THUMBNAIL_SIZE) {
+            final double scale = Math.min((double) THUMBNAIL_SIZE / width, (double) THUMBNAIL_SIZE / height);
+            final int w = Math.max(1, (int) Math.round(width * scale));
+            final int h = Math.max(1, (int) Math.round(height * scale));
+            final int[] pixels = scaleDown(image, w, h);
+            try {
+                thumbnailsDirectory.mkdirs();
+                PngWriter.write(pixels, w, h, true, getThumbnailFile(entry));
+                thumbnailWidth = w;
+                thumbnailHeight = h;
+            } catch (IOException e) {
+                log.warn("Failed to save the thumbnail of image {}", file, e);
+            }
+        }
+
+        synchronized (this) {
+            // unless the image changed meanwhile
+            if (entries.get(entry.getName()) == entry) {
+                entries.put(entry.getName(), new Entry(entry.getName(), entry.getSize(), entry.getLastModified(),
+                        width, height, thumbnailWidth, thumbnailHeight));
+            }
+        }
+    }
+
+    /**
+     * @return the ARGB pixels of the image scaled down to the given size, each pixel being the average of the pixels
+     *         it covers. The image is read a few rows at a time.
+     */
+    private static int[] scaleDown(Image image, int width, int height) {
+        final int imageWidth = (int) image.getWidth();
+        final int imageHeight = (int) image.getHeight();
+        final int[] pixels = new int[width * height];
+        final long[] sums = new long[width * 4];
+        final int[] counts = new int[width];
+        int[] rows = new int[0];
+        for (int y = 0; y < height; y++) {
+            final int fromRow = (int) ((long) y * imageHeight / height);
+            final int toRow = Math.max(fromRow + 1, (int) ((long) (y + 1) * imageHeight / height));
+            final int rowsCount = toRow - fromRow;
+            if (rows.length < rowsCount * imageWidth) {
+                rows = new int[rowsCount * imageWidth];
+            }
+            image.getPixelReader().getPixels(0, fromRow, imageWidth, rowsCount, PixelFormat.getIntArgbInstance(),
+                    rows, 0, imageWidth);
+
+            Arrays.fill(sums, 0);
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < rowsCount * imageWidth; i++) {
+                final int x = (int) ((long) (i % imageWidth) * width / imageWidth);
+                final int argb = rows[i];
+                sums[x * 4] += argb >>> 24;
+                sums[x * 4 + 1] += (argb >> 16) & 0xFF;
+                sums[x * 4 + 2] += (argb >> 8) & 0xFF;
+                sums[x * 4 + 3] += argb & 0xFF;
+                counts[x]++;
+            }
+            for (int x = 0; x < width; x++) {
+                final int count = Math.max(1, counts[x]);
+                pixels[y * width + x] = (int) (sums[x * 4] / count) << 24 | (int) (sums[x * 4 + 1] / count) << 16
+                        | (int) (sums[x * 4 + 2] / count) << 8 | (int) (sums[x * 4 + 3] / count);
+            }
+        }
+        return pixels;
+    }
+
+    private File getThumbnailFile(Entry entry) {
+        final String key = entry.getName() + '/' + entry.getSize() + '/' + entry.getLastModified();
+        return new File(thumbnailsDirectory, UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + ".png");
+    }
+
+    private void deleteThumbnail(Entry entry) {
+        if (entry.getThumbnailWidth() > 0 && !getThumbnailFile(entry).delete()) {
+            log.debug("Failed to delete the thumbnail of image {}", entry.getName());
+        }
+    }
+
+    /**
+     * Deletes the thumbnails left over by the images which changed or were deleted while they were not watched
+     */
+    private void pruneThumbnails() {
+        final File[] files = thumbnailsDirectory.listFiles();
+        if (files == null) {
+            return;
+        }
+        final Set<File> thumbnailFiles = new HashSet<>();
+        synchronized (this) {
+            for (Entry entry : entries.values()) {
+                if (entry.getThumbnailWidth() > 0) {
+                    thumbnailFiles.add(getThumbnailFile(entry));
+                }
+            }
+        }
+        for (File file : files) {
+            if (!thumbnailFiles.contains(file) && !file.delete()) {
+                log.debug("Failed to delete the thumbnail {}", file);
+            }
+        }
+    }
+
+    /**
+     * Deletes the indexes and the thumbnails of the directories which no longer exist
+     */
+    private static void pruneIndexes() {
+        final File[] indexFiles = new File(getIndexesFolder()).listFiles((dir, name) -> name.endsWith(".index"));
+        if (indexFiles == null) {
+            return;
+        }
+        for (File indexFile : indexFiles) {
+            String directoryPath = null;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+                if (in.readInt() == MAGIC && in.readInt() == VERSION) {
+                    directoryPath = in.readUTF();
+                }
+            } catch (IOException e) {
+                log.debug("Failed to read image index {}", indexFile, e);
+            }
+            if (directoryPath != null && new File(directoryPath).isDirectory()) {
+                continue;
+            }
+            log.info("Deleting image index {} of directory {}", indexFile, directoryPath);
+            final String name = indexFile.getName();
+            final File thumbnailsDirectory = new File(indexFile.getParentFile(),
+                    name.substring(0, name.length() - ".index".length()));
+            final File[] thumbnailFiles = thumbnailsDirectory.listFiles();
+            if (thumbnailFiles != null) {
+                for (File thumbnailFile : thumbnailFiles) {
+                    thumbnailFile.delete();
+                }
+            }
+            thumbnailsDirectory.delete();
+            if (!indexFile.delete()) {
+                log.debug("Failed to delete image index {}", indexFile);
+            }
+        }
+    }
+
+    private synchronized void publish() {
+        final List<File> files = new ArrayList<>(entries.size());
+        for (String name : new TreeSet<>(entries.keySet())) {
+            files.add(new File(directory, name));
+        }
+        imageFiles = Collections.unmodifiableList(files);
+
+        final List<File> directories = new ArrayList<>(subdirectoryNames.size());
+        for (String name : subdirectoryNames) {
+            directories.add(new File(directory, name));
+        }
+        subdirectories = Collections.unmodifiableList(directories);
+    }
+
+    private void watch() {
+        if (!isUpToDate()) {
+            return;
+        }
+        try {
+            final WatchKey key = directory.toPath().register(getWatchService(), StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchedIndexes.put(key, this);
+            if (!isUpToDate()) {
+                // the game ended meanwhile
+                watchedIndexes.remove(key);
+                key.cancel();
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            log.info("Changes in directory {} will only be seen when it is listed again", directory, e);
+        }
+    }
+
+    private static synchronized WatchService getWatchService() throws IOException {
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+            final Thread thread = new CustomThreadFactory("ImageDirectoryIndex-watch", createThreadFactory())
+                    .newThread(ImageDirectoryIndex::processWatchEvents);
+            thread.start();
+        }
+        return watchService;
+    }
+
+    private static void processWatchEvents() {
+        while (true) {
+            final WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            final ImageDirectoryIndex index = watchedIndexes.get(key);
+            final List<WatchEvent<?>> events = key.pollEvents();
+            if (index != null) {
+                executorService.execute(() -> index.onChanges(events));
+            }
+            if (!key.reset()) {
+                watchedIndexes.remove(key);
+            }
+        }
+    }
+
+    private void onChanges(List<WatchEvent<?>> events) {
+        if (!isUpToDate()) {
+            return;
+        }
+        for (WatchEvent<?> event : events) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // the changes are unknown
+                scan();
+                return;
+            }
+        }
+        for (WatchEvent<?> event : events) {
+            onChange(((Path) event.context()).toString());
+        }
+        publish();
+        save();
+    }
+
+    private void onChange(String name) {
+        final File file = new File(directory, name);
+        if (file.isDirectory()) {
+            if (!file.isHidden() && !name.startsWith(".")) {
+                synchronized (this) {
+                    subdirectoryNames.add(name);
+                }
+            }
+        } else if (file.exists() && ImageUtils.isImage(file)) {
+            final Entry entry = update(file);
+            if (!entry.isRead()) {
+                read(entry);
+            }
+        } else {
+            synchronized (this) {
+                subdirectoryNames.remove(name);
+                final Entry entry = entries.remove(name);
+                if (entry != null) {
+                    deleteThumbnail(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if the index was saved before
+     */
+    private boolean load() {
+        if (!indexFile.isFile()) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(directory.getPath())) {
+                log.info("Ignoring image index {} of another format or directory", indexFile);
+                return false;
+            }
+            final Map<String, Entry> loadedEntries = new HashMap<>();
+            final int entriesCount = in.readInt();
+            for (int i = 0; i < entriesCount; i++) {
+                final Entry entry = new Entry(in.readUTF(), in.readLong(), in.readLong(), in.readInt(), in.readInt(),
+                        in.readInt(), in.readInt());
+                loadedEntries.put(entry.getName(), entry);
+            }
+            final List<String> loadedSubdirectoryNames = new ArrayList<>();
+            final int subdirectoriesCount = in.readInt();
+            for (int i = 0; i < subdirectoriesCount; i++) {
+                loadedSubdirectoryNames.add(in.readUTF());
+            }
+
+            synchronized (this) {
+                entries.putAll(loadedEntries);
+                subdirectoryNames.addAll(loadedSubdirectoryNames);
+                publish();
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to load image index {}", indexFile, e);
+            return false;
+        }
+    }
+
+    private void save() {
+        final List<Entry> savedEntries;
+        final List<String> savedSubdirectoryNames;
+        synchronized (this) {
+            savedEntries = new ArrayList<>(entries.values());
+            savedSubdirectoryNames = new ArrayList<>(subdirectoryNames);
+        }
+
+        final File temporaryFile = new File(indexFile.getPath() + ".tmp");
+        indexFile.getParentFile().mkdirs();
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(directory.getPath());
+                out.writeInt(savedEntries.size());
+                for (Entry entry : savedEntries) {
+                    out.writeUTF(entry.getName());
+                    out.writeLong(entry.getSize());
+                    out.writeLong(entry.getLastModified());
+                    out.writeInt(entry.getWidth());
+                    out.writeInt(entry.getHeight());
+                    out.writeInt(entry.getThumbnailWidth());
+                    out.writeInt(entry.getThumbnailHeight());
+                }
+                out.writeInt(savedSubdirectoryNames.size());
+                for (String name : savedSubdirectoryNames) {
+                    out.writeUTF(name);
+                }
+            }
+            Files.move(temporaryFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to save image index {}", indexFile, e);
+        }
+    }
+
+}
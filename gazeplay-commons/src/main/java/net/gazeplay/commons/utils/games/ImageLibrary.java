@@ -2,6 +2,7 @@ package net.gazeplay.commons.utils.games;
 
 import javafx.scene.image.Image;
 
+import java.util.List;
 import java.util.Set;
 
 public interface ImageLibrary {
@@ -12,4 +13,17 @@ public interface ImageLibrary {
 
     Set<Image> pickMultipleRandomDistinctImages(int count);
 
+    /**
+     * @return count images picked at random among distinct images, in random order, avoiding the images picked
+     *         recently
+     */
+    List<Image> pickRandomDistinctImages(int count);
+
+    /**
+     * Sets the size the picked images are displayed at, so that they are loaded at that size rather than at their own
+     * size. The images keep their aspect ratio, fitting within that size, and are never enlarged. The libraries which
+     * load their images up front ignore it.
+     */
+    void setRequestedImageSize(double width, double height);
+
 }
@@ -61,14 +61,13 @@ public class ImageUtils {
         return loadAllAsImages(files);
     }
 
+    /**
+     * @return the images of the directory, from its index rather than from the file system
+     */
     public static List<File> listImageFiles(File directoryFile) {
         log.debug("Listing images in directory {}", directoryFile.getAbsolutePath());
-        File[] files = directoryFile.listFiles(ImageUtils::isImage);
-        if (files == null) {
-            files = new File[0];
-        }
-        List<File> result = Arrays.asList(files);
-        log.debug("Found {} files in directory {}", files.length, directoryFile.getAbsolutePath());
+        List<File> result = ImageDirectoryIndex.forDirectory(directoryFile).getImageFiles();
+        log.debug("Found {} files in directory {}", result.size(), directoryFile.getAbsolutePath());
         return result;
     }
 
@@ -84,7 +83,7 @@ public class ImageUtils {
         return new Image(file.toURI().toString());
     }
 
-    private static boolean isImage(File file) {
+    static boolean isImage(File file) {
         if (file.isDirectory()) {
             return false;
         }
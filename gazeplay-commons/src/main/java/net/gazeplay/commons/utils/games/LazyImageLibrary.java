@@ -1,17 +1,60 @@
 package net.gazeplay.commons.utils.games;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import javafx.geometry.Dimension2D;
 import javafx.scene.image.Image;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
 
 import java.io.File;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
 
+/**
+ * Loads the images when they are picked, through the shared {@link ImageCache}, fitting within the requested size if
+ * any. The thumbnails of the {@link ImageDirectoryIndex} are loaded instead of the images when they are large enough.
+ *
+ * The images of the next pick are drawn in advance and loaded on a background thread, so that starting a round does
+ * not wait for the images to be decoded.
+ */
+@Slf4j
 public class LazyImageLibrary extends AbstractImageLibrary {
 
-    private final Cache<Integer, Image> imageCache = CacheBuilder.newBuilder().maximumSize(10).weakValues().build();
+    private static final ExecutorService prefetchExecutorService = new ThreadPoolExecutor(0, 2, 5, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), new CustomThreadFactory("ImageLibrary-prefetch", createThreadFactory()));
+
+    /**
+     * image being loaded in advance, at the size requested when it was drawn
+     */
+    private static final class PrefetchedImage {
+
+        private final double requestedWidth;
+
+        private final double requestedHeight;
+
+        private final Future<Image> image;
+
+        private PrefetchedImage(double requestedWidth, double requestedHeight, Future<Image> image) {
+            this.requestedWidth = requestedWidth;
+            this.requestedHeight = requestedHeight;
+            this.image = image;
+        }
+
+        private boolean hasSize(double width, double height) {
+            return requestedWidth == width && requestedHeight == height;
+        }
+    }
+
+    private final ImageCache imageCache = ImageCache.getInstance();
+
+    /**
+     * images being loaded in advance, by index
+     */
+    private final Map<Integer, PrefetchedImage> prefetchedImages = new ConcurrentHashMap<>();
 
     private final List<File> allFiles;
 
@@ -33,6 +76,12 @@ public class LazyImageLibrary extends AbstractImageLibrary {
         setFallbackImageLibrary(defaultImageLibrary);
     }
 
+    private static GroupingThreadFactory createThreadFactory() {
+        GroupingThreadFactory threadFactory = new GroupingThreadFactory("ImageLibrary-prefetch");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
     @Override
     public int getImagesCount() {
         return allFiles.size();
@@ -40,16 +89,83 @@ public class LazyImageLibrary extends AbstractImageLibrary {
 
     @Override
     protected Image loadImageAtIndex(int index) {
-        try {
-            return imageCache.get(index, new Callable<Image>() {
-                @Override
-                public Image call() throws Exception {
-                    File file = allFiles.get(index);
-                    return ImageUtils.loadImage(file);
+        PrefetchedImage prefetchedImage = prefetchedImages.remove(index);
+        if (prefetchedImage != null && !prefetchedImage.hasSize(getRequestedWidth(), getRequestedHeight())) {
+            // the requested size changed since it was drawn
+            prefetchedImage.image.cancel(false);
+            prefetchedImage = null;
+        }
+        final File file = allFiles.get(index);
+        if (!file.exists()) {
+            // deleted since the directory was listed
+            ImageDirectoryIndex.onMissingFile(file);
+            if (prefetchedImage != null) {
+                prefetchedImage.image.cancel(false);
+                prefetchedImage = null;
+            }
+            final Image fallbackImage = pickFallbackImage();
+            if (fallbackImage != null) {
+                return fallbackImage;
+            }
+        }
+        if (prefetchedImage != null) {
+            try {
+                return prefetchedImage.image.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                log.warn("Failed to load image in advance {}", allFiles.get(index), e.getCause());
+            }
+        }
+        return loadImage(index, getRequestedWidth(), getRequestedHeight());
+    }
+
+    @Override
+    protected void prefetchImagesAtIndexes(int[] indexes) {
+        final double requestedWidth = getRequestedWidth();
+        final double requestedHeight = getRequestedHeight();
+
+        // the images drawn previously but not picked, or drawn at another size, are not needed anymore
+        final Set<Integer> upcomingIndexes = new HashSet<>();
+        for (int index : indexes) {
+            upcomingIndexes.add(index);
+        }
+        final Iterator<Map.Entry<Integer, PrefetchedImage>> iterator = prefetchedImages.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Integer, PrefetchedImage> entry = iterator.next();
+            final PrefetchedImage prefetchedImage = entry.getValue();
+            if (!upcomingIndexes.contains(entry.getKey())
+                    || !prefetchedImage.hasSize(requestedWidth, requestedHeight)) {
+                iterator.remove();
+                // not loaded at all if it is still queued
+                prefetchedImage.image.cancel(false);
+            }
+        }
+
+        for (int index : indexes) {
+            prefetchedImages.computeIfAbsent(index, i -> new PrefetchedImage(requestedWidth, requestedHeight,
+                    prefetchExecutorService.submit(() -> loadImage(i, requestedWidth, requestedHeight))));
+        }
+    }
+
+    private Image loadImage(int index, double requestedWidth, double requestedHeight) {
+        File file = allFiles.get(index);
+        double width = requestedWidth;
+        double height = requestedHeight;
+        if (width > 0 && height > 0) {
+            final Dimension2D imageSize = ImageDirectoryIndex.findImageSize(file);
+            if (imageSize != null && imageSize.getWidth() <= width && imageSize.getHeight() <= height) {
+                // small enough, loaded at its own size rather than enlarged
+                width = 0;
+                height = 0;
+            } else {
+                final File thumbnail = ImageDirectoryIndex.findThumbnail(file, width, height);
+                if (thumbnail != null) {
+                    file = thumbnail;
                 }
-            });
-        } catch (ExecutionException e) {
-            throw new RuntimeException(e);
+            }
         }
+        // keyed by modification time, as the images of the user may be replaced
+        return imageCache.get(file, width, height, true, true);
     }
 }
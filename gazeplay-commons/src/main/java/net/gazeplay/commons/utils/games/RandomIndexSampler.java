@@ -0,0 +1,117 @@
+package net.gazeplay.commons.utils.games;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws distinct random indexes between 0 and a given count, avoiding the indexes drawn recently.
+ *
+ * The indexes are kept in an array, the ones which can be drawn first, followed by the ones drawn recently. Drawing n
+ * indexes only shuffles the first n positions of the array (partial Fisher-Yates shuffle), so it costs O(n) whatever
+ * the count.
+ *
+ * The indexes drawn recently are only drawn again when there are not enough other indexes left, the oldest first.
+ */
+public class RandomIndexSampler {
+
+    private final Random random;
+
+    @Getter
+    private final int count;
+
+    private final int[] indexes;
+
+    /**
+     * position of each index in the indexes array
+     */
+    private final int[] positions;
+
+    /**
+     * number of indexes which can be drawn, at the start of the indexes array
+     */
+    private int availableCount;
+
+    /**
+     * indexes drawn recently, oldest first, in a ring
+     */
+    private final int[] history;
+
+    private int historyStart;
+
+    private int historyLength;
+
+    /**
+     * @param historySize
+     *            maximum number of recently drawn indexes to avoid, 0 to draw each time among all the indexes
+     */
+    public RandomIndexSampler(int count, int historySize, Random random) {
+        this.random = random;
+        this.count = count;
+        this.indexes = new int[count];
+        this.positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            indexes[i] = i;
+            positions[i] = i;
+        }
+        this.availableCount = count;
+        this.history = new int[Math.max(0, Math.min(historySize, count))];
+    }
+
+    /**
+     * @return distinct random indexes, in random order
+     */
+    public int[] sample(int sampleCount) {
+        if (sampleCount < 0 || sampleCount > count) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot draw %d distinct indexes among %d", sampleCount, count));
+        }
+        while (availableCount < sampleCount) {
+            releaseOldest();
+        }
+
+        for (int i = 0; i < sampleCount; i++) {
+            swap(i, i + random.nextInt(availableCount - i));
+        }
+        final int[] result = Arrays.copyOf(indexes, sampleCount);
+
+        for (int index : result) {
+            if (history.length == 0) {
+                continue;
+            }
+            if (historyLength == history.length) {
+                releaseOldest();
+            }
+            exclude(index);
+            history[(historyStart + historyLength) % history.length] = index;
+            historyLength++;
+        }
+        return result;
+    }
+
+    private void releaseOldest() {
+        final int index = history[historyStart];
+        historyStart = (historyStart + 1) % history.length;
+        historyLength--;
+        // moved to the first position after the available indexes
+        swap(positions[index], availableCount);
+        availableCount++;
+    }
+
+    private void exclude(int index) {
+        // moved to the last position of the available indexes
+        availableCount--;
+        swap(positions[index], availableCount);
+    }
+
+    private void swap(int position, int otherPosition) {
+        final int index = indexes[position];
+        final int otherIndex = indexes[otherPosition];
+        indexes[position] = otherIndex;
+        indexes[otherPosition] = index;
+        positions[otherIndex] = position;
+        positions[index] = otherPosition;
+    }
+
+}
@@ -0,0 +1,242 @@
+package net.gazeplay.commons.utils.games;
+
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.ImagePattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives access to the images of the games packed into atlases when the data module is built, so that the small images
+ * of a game are decoded at once and share the same textures.
+ *
+ * The images are shown through views onto the pages of the atlas of their directory : an {@link ImageView} with a
+ * viewport, or an {@link ImagePattern} anchored on the image. The images which are not in an atlas, because they are
+ * too large or their directory is not packed, are loaded one by one through the {@link ImageCache}, so the games do not
+ * have to know which images are packed. The packed images are not in the jar, they must be loaded through this class,
+ * and the atlas of a directory listed as packed must be found.
+ *
+ * The pages are shared, they must not be modified.
+ */
+@Slf4j
+public class SpriteAtlas {
+
+    public static final String ATLAS_DIRECTORY = "atlas/";
+
+    public static final String INDEX_FILE_NAME = "atlas.index";
+
+    /**
+     * resource listing the packed directories, absent when the images are used straight from the sources
+     */
+    public static final String PACKED_DIRECTORIES_RESOURCE = "atlases.list";
+
+    private static final Map<String, SpriteAtlas> atlases = new ConcurrentHashMap<>();
+
+    private static volatile Set<String> packedDirectories;
+
+    @AllArgsConstructor
+    @Getter
+    private static final class Sprite {
+
+        private final int page;
+
+        private final int x;
+
+        private final int y;
+
+        private final int width;
+
+        private final int height;
+    }
+
+    /**
+     * resource location of the packed directory, ending with a slash
+     */
+    @Getter
+    private final String directory;
+
+    private final Map<String, Sprite> sprites;
+
+    private SpriteAtlas(String directory, Map<String, Sprite> sprites) {
+        this.directory = directory;
+        this.sprites = sprites;
+    }
+
+    /**
+     * @return the atlas of the directory, loaded on the first call, empty if the directory is not packed
+     */
+    public static SpriteAtlas forDirectory(String directory) {
+        final String normalizedDirectory = directory.endsWith("/") ? directory : directory + "/";
+        return atlases.computeIfAbsent(normalizedDirectory, SpriteAtlas::load);
+    }
+
+    private static SpriteAtlas forResource(String resource) {
+        return forDirectory(resource.substring(0, resource.lastIndexOf('/') + 1));
+    }
+
+    /**
+     * @return a view of the image, showing the page of the atlas if the image is packed
+     */
+    public static ImageView createImageView(String resource) {
+        return forResource(resource).newImageView(getName(resource));
+    }
+
+    /**
+     * Shows the image in the view, in place of the image it showed
+     */
+    public static void setImage(ImageView imageView, String resource) {
+        forResource(resource).show(imageView, getName(resource));
+    }
+
+    /**
+     * @return a pattern filling the shapes with the image, the same as {@link ImagePattern#ImagePattern(Image)}
+     */
+    public static ImagePattern createImagePattern(String resource) {
+        return forResource(resource).newImagePattern(getName(resource));
+    }
+
+    /**
+     * @return the size of the image, without loading it if it is packed
+     */
+    public static Dimension2D getImageSize(String resource) {
+        final Sprite sprite = forResource(resource).sprites.get(getName(resource));
+        if (sprite != null) {
+            return new Dimension2D(sprite.getWidth(), sprite.getHeight());
+        }
+        final Image image = ImageCache.getInstance().get(resource);
+        return new Dimension2D(image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * @return the size of the image shown by the view, which is the size of its viewport if it shows a packed image
+     */
+    public static Dimension2D getImageSize(ImageView imageView) {
+        final Rectangle2D viewport = imageView.getViewport();
+        if (viewport != null) {
+            return new Dimension2D(viewport.getWidth(), viewport.getHeight());
+        }
+        return new Dimension2D(imageView.getImage().getWidth(), imageView.getImage().getHeight());
+    }
+
+    private static String getName(String resource) {
+        return resource.substring(resource.lastIndexOf('/') + 1);
+    }
+
+    public boolean contains(String name) {
+        return sprites.containsKey(name);
+    }
+
+    public ImageView newImageView(String name) {
+        final ImageView imageView = new ImageView();
+        show(imageView, name);
+        return imageView;
+    }
+
+    private void show(ImageView imageView, String name) {
+        final Sprite sprite = sprites.get(name);
+        if (sprite == null) {
+            imageView.setImage(ImageCache.getInstance().get(directory + name));
+            imageView.setViewport(null);
+            return;
+        }
+        imageView.setImage(getPage(sprite));
+        imageView.setViewport(new Rectangle2D(sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight()));
+    }
+
+    public ImagePattern newImagePattern(String name) {
+        final Sprite sprite = sprites.get(name);
+        if (sprite == null) {
+            return new ImagePattern(ImageCache.getInstance().get(directory + name));
+        }
+        // the page is scaled and moved so that only the image covers the bounds of the shape
+        final Image page = getPage(sprite);
+        return new ImagePattern(page, -(double) sprite.getX() / sprite.getWidth(),
+                -(double) sprite.getY() / sprite.getHeight(), page.getWidth() / sprite.getWidth(),
+                page.getHeight() / sprite.getHeight(), true);
+    }
+
+    private Image getPage(Sprite sprite) {
+        return ImageCache.getInstance().get(directory + ATLAS_DIRECTORY + "atlas-" + sprite.getPage() + ".png");
+    }
+
+    private static SpriteAtlas load(String directory) {
+        final String indexResource = directory + ATLAS_DIRECTORY + INDEX_FILE_NAME;
+        final boolean packed = getPackedDirectories().contains(directory);
+        final InputStream in = SpriteAtlas.class.getClassLoader().getResourceAsStream(indexResource);
+        if (in == null) {
+            if (packed) {
+                // the packed images are not in the jar, they cannot be loaded one by one
+                throw new IllegalStateException("Missing atlas of packed directory : " + indexResource);
+            }
+            log.debug("No atlas for {}", directory);
+            return new SpriteAtlas(directory, Collections.emptyMap());
+        }
+
+        final Map<String, Sprite> sprites = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                // page x y width height name, the name possibly containing spaces
+                final String[] fields = line.split(" ", 6);
+                sprites.put(fields[5], new Sprite(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]),
+                        Integer.parseInt(fields[2]), Integer.parseInt(fields[3]), Integer.parseInt(fields[4])));
+            }
+        } catch (IOException | RuntimeException e) {
+            if (packed) {
+                throw new IllegalStateException("Failed to load atlas of packed directory : " + indexResource, e);
+            }
+            log.warn("Failed to load atlas {}, loading its images one by one", indexResource, e);
+            return new SpriteAtlas(directory, Collections.emptyMap());
+        }
+        log.info("Loaded atlas of {} images for {}", sprites.size(), directory);
+        return new SpriteAtlas(directory, sprites);
+    }
+
+    private static Set<String> getPackedDirectories() {
+        Set<String> result = packedDirectories;
+        if (result == null) {
+            result = loadPackedDirectories();
+            packedDirectories = result;
+        }
+        return result;
+    }
+
+    private static Set<String> loadPackedDirectories() {
+        final InputStream in = SpriteAtlas.class.getClassLoader().getResourceAsStream(PACKED_DIRECTORIES_RESOURCE);
+        if (in == null) {
+            log.info("No packed directories, the images are loaded one by one");
+            return Collections.emptySet();
+        }
+        final Set<String> result = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    result.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load " + PACKED_DIRECTORIES_RESOURCE, e);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,67 @@
+package net.gazeplay.commons.utils.stats;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Append-only list of primitive longs, which avoids boxing each value
+ */
+public class GrowableLongArray {
+
+    private long[] values;
+
+    private int size;
+
+    public GrowableLongArray() {
+        this(16);
+    }
+
+    public GrowableLongArray(int initialCapacity) {
+        this.values = new long[Math.max(1, initialCapacity)];
+    }
+
+    public void add(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    public long get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * @return a read-only view of the values, boxed on access only
+     */
+    public List<Long> asList() {
+        return new AbstractList<Long>() {
+            @Override
+            public Long get(int index) {
+                return GrowableLongArray.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+}
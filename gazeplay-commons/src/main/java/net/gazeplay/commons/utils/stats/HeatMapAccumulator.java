@@ -0,0 +1,282 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Accumulates gaze and mouse positions into a heatmap, stored row by row in a flat array of cells.
+ *
+ * Each position stamps a precomputed kernel around its cell, so no distance is computed per position. Positions are
+ * only queued by the calling thread, in a preallocated ring, and are stamped on a worker thread started on demand.
+ */
+@Slf4j
+public class HeatMapAccumulator {
+
+    public enum Kernel {
+        /**
+         * every cell within the radius counts for one
+         */
+        DISK,
+        /**
+         * the weight decreases with the distance, following a gaussian whose standard deviation is half the radius
+         */
+        GAUSSIAN
+    }
+
+    private static final int QUEUE_CAPACITY = 4096;
+
+    private static final int QUEUE_MASK = QUEUE_CAPACITY - 1;
+
+    @Getter
+    private final int rows;
+
+    @Getter
+    private final int columns;
+
+    /**
+     * size of a cell, in scene pixels
+     */
+    @Getter
+    private final double cellSize;
+
+    /**
+     * radius of the kernel, in cells
+     */
+    private final int radius;
+
+    /**
+     * weights of the kernel, row by row, on a square of side 2 * radius + 1
+     */
+    private final double[] kernel;
+
+    /**
+     * cells of the heatmap, row by row, guarded by itself
+     */
+    private final double[] data;
+
+    /**
+     * positions waiting to be stamped, x and y packed in a long
+     */
+    private final long[] queue = new long[QUEUE_CAPACITY];
+
+    private final Object producerLock = new Object();
+
+    private volatile long queueHead = 0;
+
+    private volatile long queueTail = 0;
+
+    @Getter
+    private volatile long droppedPositionsCount = 0;
+
+    /**
+     * highest value of a cell
+     */
+    @Getter
+    private volatile double maxValue = 0;
+
+    /**
+     * rectangle of the cells changed since the last call to {@link #copyDirtyTo(double[], int[])}, empty when the
+     * first row is after the last one, guarded by the data
+     */
+    private int dirtyFirstRow = 0;
+
+    private int dirtyLastRow;
+
+    private int dirtyFirstColumn = 0;
+
+    private int dirtyLastColumn;
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+    private final Runnable drainTask = this::drain;
+
+    private final ExecutorService executorService = new ThreadPoolExecutor(0, 1, 5, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), new CustomThreadFactory("HeatMapAccumulator", createThreadFactory()));
+
+    /**
+     * @param width
+     *            width of the scene, in pixels
+     * @param height
+     *            height of the scene, in pixels
+     * @param cellSize
+     *            size of a cell, in scene pixels
+     * @param radius
+     *            radius of the kernel, in scene pixels
+     */
+    public HeatMapAccumulator(double width, double height, double cellSize, double radius, Kernel kernel) {
+        this.cellSize = cellSize;
+        this.rows = Math.max(1, (int) (height / cellSize));
+        this.columns = Math.max(1, (int) (width / cellSize));
+        this.radius = Math.max(0, (int) Math.round(radius / cellSize));
+        this.kernel = createKernel(this.radius, kernel);
+        this.data = new double[rows * columns];
+        this.dirtyLastRow = rows - 1;
+        this.dirtyLastColumn = columns - 1;
+        log.info("heatmap rows = {}, columns = {}, cell size = {}, kernel = {} of radius {}", rows, columns, cellSize,
+                kernel, this.radius);
+    }
+
+    private static GroupingThreadFactory createThreadFactory() {
+        GroupingThreadFactory threadFactory = new GroupingThreadFactory("HeatMapAccumulator");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private static double[] createKernel(int radius, Kernel type) {
+        final int side = 2 * radius + 1;
+        final double[] kernel = new double[side * side];
+        final double sigma = Math.max(radius / 2d, 0.5);
+        for (int i = -radius; i <= radius; i++) {
+            for (int j = -radius; j <= radius; j++) {
+                final int squaredDistance = i * i + j * j;
+                final double weight;
+                if (type == Kernel.GAUSSIAN) {
+                    weight = squaredDistance <= radius * radius
+                            ? Math.exp(-squaredDistance / (2 * sigma * sigma)) : 0;
+                } else {
+                    weight = squaredDistance < radius * radius || radius == 0 ? 1 : 0;
+                }
+                kernel[(i + radius) * side + j + radius] = weight;
+            }
+        }
+        return kernel;
+    }
+
+    /**
+     * Queues a position, in scene coordinates, to be stamped. Can be called from any thread and never blocks on the
+     * stamping. The position is dropped if the queue is full.
+     */
+    public void add(double x, double y) {
+        final long packed = ((long) (int) x << 32) | ((int) y & 0xFFFFFFFFL);
+        synchronized (producerLock) {
+            final long head = queueHead;
+            if (head - queueTail >= QUEUE_CAPACITY) {
+                droppedPositionsCount++;
+                return;
+            }
+            queue[(int) (head & QUEUE_MASK)] = packed;
+            queueHead = head + 1;
+        }
+        if (drainScheduled.compareAndSet(false, true)) {
+            executorService.execute(drainTask);
+        }
+    }
+
+    /**
+     * Waits for all the queued positions to be stamped
+     */
+    public void flush() {
+        final Future<?> done = executorService.submit(drainTask);
+        try {
+            done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Exception while flushing heatmap", e);
+        }
+    }
+
+    /**
+     * Copies the cells into the target, row by row
+     */
+    public void copyTo(double[] target) {
+        synchronized (data) {
+            System.arraycopy(data, 0, target, 0, data.length);
+        }
+    }
+
+    /**
+     * Copies into the target the cells changed since the last call, or all the cells on the first call
+     *
+     * @param bounds
+     *            receives the first row, first column, last row and last column of the copied cells
+     * @return false if no cell changed, in which case nothing is copied
+     */
+    public boolean copyDirtyTo(double[] target, int[] bounds) {
+        synchronized (data) {
+            if (dirtyFirstRow > dirtyLastRow) {
+                return false;
+            }
+            for (int row = dirtyFirstRow; row <= dirtyLastRow; row++) {
+                final int offset = row * columns + dirtyFirstColumn;
+                System.arraycopy(data, offset, target, offset, dirtyLastColumn - dirtyFirstColumn + 1);
+            }
+            bounds[0] = dirtyFirstRow;
+            bounds[1] = dirtyFirstColumn;
+            bounds[2] = dirtyLastRow;
+            bounds[3] = dirtyLastColumn;
+            dirtyFirstRow = rows;
+            dirtyLastRow = -1;
+            dirtyFirstColumn = columns;
+            dirtyLastColumn = -1;
+            return true;
+        }
+    }
+
+    /**
+     * @return a copy of the cells, indexed by row then column
+     */
+    public double[][] toArray() {
+        final double[][] result = new double[rows][columns];
+        synchronized (data) {
+            for (int row = 0; row < rows; row++) {
+                System.arraycopy(data, row * columns, result[row], 0, columns);
+            }
+        }
+        return result;
+    }
+
+    private void drain() {
+        do {
+            drainScheduled.set(false);
+            synchronized (data) {
+                long tail = queueTail;
+                final long head = queueHead;
+                while (tail < head) {
+                    final long packed = queue[(int) (tail & QUEUE_MASK)];
+                    tail++;
+                    stamp((int) (packed >> 32), (int) packed);
+                }
+                queueTail = tail;
+            }
+        } while (queueTail < queueHead && drainScheduled.compareAndSet(false, true));
+    }
+
+    private void stamp(int x, int y) {
+        final int centerRow = (int) Math.floor(y / cellSize);
+        final int centerColumn = (int) Math.floor(x / cellSize);
+        final int side = 2 * radius + 1;
+
+        final int firstRow = Math.max(0, centerRow - radius);
+        final int lastRow = Math.min(rows - 1, centerRow + radius);
+        final int firstColumn = Math.max(0, centerColumn - radius);
+        final int lastColumn = Math.min(columns - 1, centerColumn + radius);
+
+        if (firstRow > lastRow || firstColumn > lastColumn) {
+            return;
+        }
+
+        double max = maxValue;
+        for (int row = firstRow; row <= lastRow; row++) {
+            final int dataOffset = row * columns;
+            final int kernelOffset = (row - centerRow + radius) * side + radius - centerColumn;
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                final double value = data[dataOffset + column] + kernel[kernelOffset + column];
+                data[dataOffset + column] = value;
+                max = Math.max(max, value);
+            }
+        }
+        maxValue = max;
+
+        dirtyFirstRow = Math.min(dirtyFirstRow, firstRow);
+        dirtyLastRow = Math.max(dirtyLastRow, lastRow);
+        dirtyFirstColumn = Math.min(dirtyFirstColumn, firstColumn);
+        dirtyLastColumn = Math.max(dirtyLastColumn, lastColumn);
+    }
+
+}
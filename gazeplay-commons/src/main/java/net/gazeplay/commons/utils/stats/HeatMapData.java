@@ -0,0 +1,62 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+
+/**
+ * Cells of a saved heatmap, row by row, with the information needed to map them back onto the screen
+ */
+public class HeatMapData {
+
+    @Getter
+    private final int rows;
+
+    @Getter
+    private final int columns;
+
+    /**
+     * size of a cell, in scene pixels
+     */
+    @Getter
+    private final double cellSize;
+
+    /**
+     * start and end of the recording, in milliseconds since the epoch
+     */
+    @Getter
+    private final long startTime;
+
+    @Getter
+    private final long endTime;
+
+    @Getter
+    private final double[] cells;
+
+    public HeatMapData(int rows, int columns, double cellSize, long startTime, long endTime, double[] cells) {
+        if (cells.length != rows * columns) {
+            throw new IllegalArgumentException(
+                    "expected " + rows * columns + " cells for " + rows + " x " + columns + " : " + cells.length);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.cellSize = cellSize;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.cells = cells;
+    }
+
+    public double get(int row, int column) {
+        return cells[row * columns + column];
+    }
+
+    /**
+     * @return a copy of the cells, indexed by row then column
+     */
+    public double[][] toArray() {
+        final double[][] result = new double[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(cells, row * columns, result[row], 0, columns);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,254 @@
+package net.gazeplay.commons.utils.stats;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact binary format of the saved heatmaps.
+ *
+ * A fixed size header (magic, version, dimensions, cell size, start and end times, cells encoding) is followed by the
+ * deflated cells, row by row. Integral cells, as produced by the disk kernel, are stored as zigzag varint deltas from
+ * the previous cell, which are mostly zeros and small values on a heatmap. Other cells are stored as floats, each XOR-ed
+ * with the previous one.
+ *
+ * The heatmaps are no longer saved as CSV, they can be exported as CSV on demand through {@link #main(String[])}.
+ */
+public final class HeatMapFileFormat {
+
+    public static final String FILE_EXTENSION = ".heatmap";
+
+    private static final int MAGIC = 0x475A484D; // GZHM
+
+    private static final int VERSION = 1;
+
+    private static final byte ENCODING_VARINT_DELTA = 0;
+
+    private static final byte ENCODING_FLOAT_XOR = 1;
+
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 4 + 8 + 8 + 8 + 1 + 4;
+
+    private HeatMapFileFormat() {
+    }
+
+    /**
+     * Exports saved heatmaps as CSV, next to them
+     *
+     * Arguments : the heatmap files to export.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage : HeatMapFileFormat <heatmap file>...");
+        }
+        for (String arg : args) {
+            final File file = new File(arg);
+            final String name = file.getName();
+            final String baseName = name.endsWith(FILE_EXTENSION)
+                    ? name.substring(0, name.length() - FILE_EXTENSION.length()) : name;
+            exportCsv(read(file), new File(file.getAbsoluteFile().getParentFile(), baseName + ".csv"));
+        }
+    }
+
+    public static void write(HeatMapData heatMap, File file) throws IOException {
+        final double[] cells = heatMap.getCells();
+        final boolean integral = isIntegral(cells);
+
+        final ByteBuffer raw = integral ? encodeVarintDeltas(cells) : encodeFloatXors(cells);
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        final byte[] compressed;
+        try {
+            deflater.setInput(raw.array(), 0, raw.limit());
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(raw.limit() / 8 + 64);
+            final byte[] buffer = new byte[64 * 1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            compressed = out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(heatMap.getRows());
+        header.putInt(heatMap.getColumns());
+        header.putDouble(heatMap.getCellSize());
+        header.putLong(heatMap.getStartTime());
+        header.putLong(heatMap.getEndTime());
+        header.put(integral ? ENCODING_VARINT_DELTA : ENCODING_FLOAT_XOR);
+        header.putInt(raw.limit());
+        header.flip();
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer[] buffers = { header, ByteBuffer.wrap(compressed) };
+            while (buffers[1].hasRemaining()) {
+                channel.write(buffers);
+            }
+        }
+    }
+
+    public static HeatMapData read(File file) throws IOException {
+        final ByteBuffer content;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a heatmap file : " + file);
+            }
+            content = ByteBuffer.allocate((int) size);
+            while (content.hasRemaining()) {
+                if (channel.read(content) < 0) {
+                    throw new EOFException("Truncated heatmap file : " + file);
+                }
+            }
+            content.flip();
+        }
+
+        if (content.getInt() != MAGIC) {
+            throw new IOException("Not a heatmap file : " + file);
+        }
+        final int version = content.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported heatmap file version " + version + " : " + file);
+        }
+        final int rows = content.getInt();
+        final int columns = content.getInt();
+        final double cellSize = content.getDouble();
+        final long startTime = content.getLong();
+        final long endTime = content.getLong();
+        final byte encoding = content.get();
+        final int rawSize = content.getInt();
+        if (rows < 0 || columns < 0 || (long) rows * columns > Integer.MAX_VALUE || rawSize < 0) {
+            throw new IOException("Corrupted heatmap file : " + file);
+        }
+
+        final byte[] raw = new byte[rawSize];
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(content.array(), content.position(), content.remaining());
+            int inflated = 0;
+            while (inflated < rawSize) {
+                final int n = inflater.inflate(raw, inflated, rawSize - inflated);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new EOFException("Truncated heatmap file : " + file);
+                }
+                inflated += n;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted heatmap file : " + file, e);
+        } finally {
+            inflater.end();
+        }
+
+        final double[] cells = new double[rows * columns];
+        final ByteBuffer rawBuffer = ByteBuffer.wrap(raw);
+        try {
+            if (encoding == ENCODING_VARINT_DELTA) {
+                decodeVarintDeltas(rawBuffer, cells);
+            } else if (encoding == ENCODING_FLOAT_XOR) {
+                decodeFloatXors(rawBuffer, cells);
+            } else {
+                throw new IOException("Unsupported heatmap encoding " + encoding + " : " + file);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Corrupted heatmap file : " + file, e);
+        }
+        return new HeatMapData(rows, columns, cellSize, startTime, endTime, cells);
+    }
+
+    /**
+     * Exports the heatmap in the former CSV layout, one line per row, with the cells rounded down to integers
+     */
+    public static void exportCsv(HeatMapData heatMap, File file) throws IOException {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file),
+                StandardCharsets.UTF_8))) {
+            final String lineSeparator = System.lineSeparator();
+            final StringBuilder line = new StringBuilder();
+            for (int row = 0; row < heatMap.getRows(); row++) {
+                line.setLength(0);
+                for (int column = 0; column < heatMap.getColumns(); column++) {
+                    if (column > 0) {
+                        line.append(", ");
+                    }
+                    line.append((int) heatMap.get(row, column));
+                }
+                line.append(lineSeparator);
+                out.write(line.toString());
+            }
+        }
+    }
+
+    private static boolean isIntegral(double[] cells) {
+        for (double cell : cells) {
+            if (cell != Math.rint(cell) || Math.abs(cell) > Long.MAX_VALUE / 4) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ByteBuffer encodeVarintDeltas(double[] cells) {
+        // 10 bytes is the longest varint of a long
+        final ByteBuffer raw = ByteBuffer.allocate(cells.length * 10);
+        long previous = 0;
+        for (double cell : cells) {
+            final long value = (long) cell;
+            final long delta = value - previous;
+            previous = value;
+            long zigzag = (delta << 1) ^ (delta >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                raw.put((byte) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            raw.put((byte) zigzag);
+        }
+        raw.flip();
+        return raw;
+    }
+
+    private static void decodeVarintDeltas(ByteBuffer raw, double[] cells) {
+        long previous = 0;
+        for (int i = 0; i < cells.length; i++) {
+            long zigzag = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = raw.get();
+                zigzag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            final long delta = (zigzag >>> 1) ^ -(zigzag & 1);
+            previous += delta;
+            cells[i] = previous;
+        }
+    }
+
+    private static ByteBuffer encodeFloatXors(double[] cells) {
+        final ByteBuffer raw = ByteBuffer.allocate(cells.length * 4);
+        int previous = 0;
+        for (double cell : cells) {
+            final int bits = Float.floatToIntBits((float) cell);
+            raw.putInt(bits ^ previous);
+            previous = bits;
+        }
+        raw.flip();
+        return raw;
+    }
+
+    private static void decodeFloatXors(ByteBuffer raw, double[] cells) {
+        int previous = 0;
+        for (int i = 0; i < cells.length; i++) {
+            previous ^= raw.getInt();
+            cells[i] = Float.intBitsToFloat(previous);
+        }
+    }
+
+}
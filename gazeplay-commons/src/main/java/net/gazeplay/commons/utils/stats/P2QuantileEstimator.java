@@ -0,0 +1,124 @@
+package net.gazeplay.commons.utils.stats;
+
+import java.util.Arrays;
+
+/**
+ * Estimates a quantile of a stream of values in constant time and memory, with the P-square algorithm (Jain and
+ * Chlamtac, 1985), which keeps five markers whose heights are adjusted as the values come.
+ */
+public class P2QuantileEstimator {
+
+    private final double quantile;
+
+    private final double[] heights = new double[5];
+
+    private final int[] positions = new int[5];
+
+    private final double[] desiredPositions = new double[5];
+
+    private final double[] increments;
+
+    private long count;
+
+    /**
+     * @param quantile
+     *            the quantile to estimate, between 0 and 1
+     */
+    public P2QuantileEstimator(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("quantile must be between 0 and 1 : " + quantile);
+        }
+        this.quantile = quantile;
+        this.increments = new double[] { 0, quantile / 2, quantile, (1 + quantile) / 2, 1 };
+    }
+
+    public void add(double value) {
+        if (count < 5) {
+            heights[(int) count++] = value;
+            if (count == 5) {
+                Arrays.sort(heights);
+                for (int i = 0; i < 5; i++) {
+                    positions[i] = i;
+                }
+                desiredPositions[0] = 0;
+                desiredPositions[1] = 2 * quantile;
+                desiredPositions[2] = 4 * quantile;
+                desiredPositions[3] = 2 + 2 * quantile;
+                desiredPositions[4] = 4;
+            }
+            return;
+        }
+        count++;
+
+        final int cell;
+        if (value < heights[0]) {
+            heights[0] = value;
+            cell = 0;
+        } else if (value < heights[1]) {
+            cell = 0;
+        } else if (value < heights[2]) {
+            cell = 1;
+        } else if (value < heights[3]) {
+            cell = 2;
+        } else if (value <= heights[4]) {
+            cell = 3;
+        } else {
+            heights[4] = value;
+            cell = 3;
+        }
+
+        for (int i = cell + 1; i < 5; i++) {
+            positions[i]++;
+        }
+        for (int i = 0; i < 5; i++) {
+            desiredPositions[i] += increments[i];
+        }
+
+        for (int i = 1; i < 4; i++) {
+            final double delta = desiredPositions[i] - positions[i];
+            if ((delta >= 1 && positions[i + 1] - positions[i] > 1)
+                    || (delta <= -1 && positions[i - 1] - positions[i] < -1)) {
+                final int direction = delta > 0 ? 1 : -1;
+                final double parabolic = parabolic(i, direction);
+                if (heights[i - 1] < parabolic && parabolic < heights[i + 1]) {
+                    heights[i] = parabolic;
+                } else {
+                    heights[i] = linear(i, direction);
+                }
+                positions[i] += direction;
+            }
+        }
+    }
+
+    private double parabolic(int i, int d) {
+        return heights[i] + (double) d / (positions[i + 1] - positions[i - 1])
+                * ((positions[i] - positions[i - 1] + d) * (heights[i + 1] - heights[i])
+                        / (positions[i + 1] - positions[i])
+                        + (positions[i + 1] - positions[i] - d) * (heights[i] - heights[i - 1])
+                                / (positions[i] - positions[i - 1]));
+    }
+
+    private double linear(int i, int d) {
+        return heights[i] + d * (heights[i + d] - heights[i]) / (positions[i + d] - positions[i]);
+    }
+
+    /**
+     * @return the estimated quantile, exact while there are no more than five values, or NaN if there is none
+     */
+    public double getEstimate() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (count <= 5) {
+            final double[] sorted = Arrays.copyOf(heights, (int) count);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.min(count - 1, Math.round(quantile * (count - 1)))];
+        }
+        return heights[2];
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+}
@@ -1,95 +1,139 @@
 package net.gazeplay.commons.utils.stats;
 
-import lombok.Getter;
-
 import java.io.PrintWriter;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 
+/**
+ * Durations of the rounds of a game, kept as primitive longs. The average, variance and percentiles are maintained as
+ * the durations are added, so they cost nothing to read however long the session is.
+ */
 public class RoundsDurationReport {
 
-    @Getter
-    private long totalAdditiveDuration;
+    private final GrowableLongArray durationBetweenGoals = new GrowableLongArray();
+
+    private final StreamingStatistics statistics = new StreamingStatistics();
 
-    private final List<Long> durationBetweenGoals = new ArrayList<>();
+    /**
+     * sorted copy of the durations, computed on demand and dropped when a duration is added
+     */
+    private volatile long[] sortedDurations;
 
     public void addRoundDuration(long lastRoundDuration) {
         this.durationBetweenGoals.add(lastRoundDuration);
-        this.totalAdditiveDuration += lastRoundDuration;
+        this.statistics.add(lastRoundDuration);
+        this.sortedDurations = null;
+    }
+
+    public long getTotalAdditiveDuration() {
+        return statistics.getSum();
+    }
+
+    public StreamingStatistics getStatistics() {
+        return statistics;
     }
 
+    private long[] getSortedDurations() {
+        long[] sorted = sortedDurations;
+        if (sorted == null) {
+            sorted = durationBetweenGoals.toArray();
+            Arrays.sort(sorted);
+            sortedDurations = sorted;
+        }
+        return sorted;
+    }
+
+    /**
+     * @return the exact median, the average of the two central durations when their number is even
+     */
     public long computeMedianDuration() {
         int count = durationBetweenGoals.size();
         if (count == 0) {
             return 0L;
         }
 
-        List<Long> sortedList = new ArrayList<>(durationBetweenGoals);
-        Collections.sort(sortedList);
+        long[] sorted = getSortedDurations();
 
         int middle = count / 2;
 
         if (count % 2 == 0) {// number of elements is even, median is the average of the two central numbers
 
             middle -= 1;
-            return (sortedList.get(middle) + sortedList.get(middle + 1)) / 2;
+            return (sorted[middle] + sorted[middle + 1]) / 2;
 
         } else {// number of elements is odd, median is the central number
 
-            return sortedList.get(middle);
+            return sorted[middle];
         }
     }
 
+    /**
+     * @return the estimated 90th percentile, 0 if there is no round
+     */
+    public long computeP90Duration() {
+        return statistics.getCount() == 0 ? 0L : Math.round(statistics.getP90());
+    }
+
+    /**
+     * @return the estimated 99th percentile, 0 if there is no round
+     */
+    public long computeP99Duration() {
+        return statistics.getCount() == 0 ? 0L : Math.round(statistics.getP99());
+    }
+
     public long computeAverageLength() {
-        int count = durationBetweenGoals.size();
+        long count = statistics.getCount();
         if (count == 0) {
             return 0L;
         }
-        return totalAdditiveDuration / count;
+        return statistics.getSum() / count;
     }
 
     public double computeVariance() {
-        double average = computeAverageLength();
-        double sum = 0;
-        int count = durationBetweenGoals.size();
-        for (Long value : durationBetweenGoals) {
-            sum += Math.pow((value - average), 2);
-        }
-        return sum / count;
+        return statistics.getVariance();
     }
 
     public double computeSD() {
-        return Math.sqrt(computeVariance());
+        return statistics.getStandardDeviation();
     }
 
     public List<Long> getOriginalDurationsBetweenGoals() {
-        return Collections.unmodifiableList(durationBetweenGoals);
+        return durationBetweenGoals.asList();
     }
 
     public List<Long> getSortedDurationsBetweenGoals() {
         int count = durationBetweenGoals.size();
 
-        List<Long> normalList = new ArrayList<>(durationBetweenGoals);
-        List<Long> sortedList = new ArrayList<>(normalList);
-        Collections.sort(sortedList);
+        long[] sorted = getSortedDurations();
+        long[] arranged = new long[count];
 
         int j = 0;
         for (int i = 0; i < count; i++) {
             if (i % 2 == 0)
-                normalList.set(j, sortedList.get(i));
+                arranged[j] = sorted[i];
             else {
-                normalList.set(count - 1 - j, sortedList.get(i));
+                arranged[count - 1 - j] = sorted[i];
                 j++;
             }
         }
 
-        return normalList;
+        return new AbstractList<Long>() {
+            @Override
+            public Long get(int index) {
+                return arranged[index];
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
     }
 
     void printLengthBetweenGoalsToString(PrintWriter out) {
-        for (Long value : durationBetweenGoals) {
-            out.print(value);
+        for (int i = 0; i < durationBetweenGoals.size(); i++) {
+            out.print(durationBetweenGoals.get(i));
             out.print(',');
         }
     }
@@ -8,7 +8,10 @@ import java.util.Observable;
 @Data
 public class SavedStatsInfo extends Observable {
     private final File heatMapPngFile;
-    private final File heatMapCsvFile;
+    /**
+     * heatmap cells, in the {@link HeatMapFileFormat} format
+     */
+    private final File heatMapDataFile;
 
     public void notifyFilesReady() {
         this.notifyObservers();
@@ -0,0 +1,394 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.gaze.devicemanager.GazeSample;
+import net.gazeplay.commons.gaze.devicemanager.GazeSampleRingBuffer;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only log of a game session : every gaze sample and every game event (round start, goal, shot).
+ *
+ * The gaze samples are read from the gaze sample ring buffer of the device manager, and the events are queued by the
+ * game, so nothing is written on the calling threads. A background thread appends the records to the end of the file
+ * through a buffer of fixed size, so the memory used does not depend on the length of the session. The length of the
+ * valid records is committed into the header after each write, and forced to the disk every second, so that a crash
+ * loses at most the last second of the session.
+ *
+ * All times are in microseconds since the start of the session.
+ */
+@Slf4j
+public class SessionLog {
+
+    public static final String FILE_EXTENSION = ".gazelog";
+
+    public enum EventType {
+        ROUND_START(10), GOAL(11), SHOT(12), UNCOUNTED_SHOT(13);
+
+        private final byte code;
+
+        EventType(int code) {
+            this.code = (byte) code;
+        }
+
+        private static EventType fromCode(byte code) {
+            for (EventType eventType : values()) {
+                if (eventType.code == code) {
+                    return eventType;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Receives the records of a session log, in the order they were written
+     */
+    public interface Visitor {
+
+        void onSample(long time, double x, double y, boolean valid);
+
+        void onEvent(long time, EventType eventType);
+
+    }
+
+    private static final int MAGIC = 0x475A534C; // GZSL
+
+    private static final int VERSION = 1;
+
+    /**
+     * magic, version, start time, committed length
+     */
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8;
+
+    private static final int COMMITTED_LENGTH_POSITION = 16;
+
+    private static final byte TYPE_SAMPLE = 1;
+
+    private static final byte TYPE_INVALID_SAMPLE = 2;
+
+    private static final int SAMPLE_RECORD_SIZE = 1 + 8 + 4 + 4;
+
+    private static final int EVENT_RECORD_SIZE = 1 + 8;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * size of the windows mapped when reading a log
+     */
+    private static final long READ_WINDOW_SIZE = 1024 * 1024;
+
+    private static final long WRITE_PERIOD_MILLIS = 100;
+
+    private static final long FORCE_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final class Event {
+
+        private final long timestamp;
+
+        private final EventType eventType;
+
+        private Event(long timestamp, EventType eventType) {
+            this.timestamp = timestamp;
+            this.eventType = eventType;
+        }
+    }
+
+    @Getter
+    private final File file;
+
+    /**
+     * source of the gaze samples, none if null
+     */
+    private final GazeSampleRingBuffer gazeSamples;
+
+    private final Queue<Event> events = new ConcurrentLinkedQueue<>();
+
+    private final GazeSample sample = new GazeSample();
+
+    private final long startNanos = System.nanoTime();
+
+    private ScheduledExecutorService executorService;
+
+    private FileChannel channel;
+
+    /**
+     * records not written to the file yet
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    private final ByteBuffer committedLength = ByteBuffer.allocate(8);
+
+    /**
+     * length of the records written to the file so far, header included
+     */
+    private long length;
+
+    private long nextSampleSequence;
+
+    private boolean sampleRead;
+
+    private long lastForceTime;
+
+    public SessionLog(File file, GazeSampleRingBuffer gazeSamples) {
+        this.file = file;
+        this.gazeSamples = gazeSamples;
+    }
+
+    public void start() throws IOException {
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        try {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            header.putLong(System.currentTimeMillis());
+            header.putLong(HEADER_SIZE);
+            header.flip();
+            writeFully(header, 0);
+        } catch (IOException e) {
+            release();
+            throw e;
+        }
+        length = HEADER_SIZE;
+
+        if (gazeSamples != null) {
+            nextSampleSequence = gazeSamples.getPublishedSequence() + 1;
+        }
+        lastForceTime = System.nanoTime();
+
+        GroupingThreadFactory threadFactory = new GroupingThreadFactory("SessionLog");
+        threadFactory.setDaemon(true);
+        executorService = Executors.newSingleThreadScheduledExecutor(
+                new CustomThreadFactory("SessionLog", threadFactory));
+        executorService.scheduleWithFixedDelay(this::write, WRITE_PERIOD_MILLIS, WRITE_PERIOD_MILLIS,
+                TimeUnit.MILLISECONDS);
+        log.info("Logging session to {}", file);
+    }
+
+    /**
+     * Can be called from any thread, never blocks
+     */
+    public void logEvent(EventType eventType) {
+        events.add(new Event(System.nanoTime(), eventType));
+    }
+
+    public void close() {
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdown();
+        try {
+            executorService.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executorService = null;
+
+        synchronized (this) {
+            if (channel == null) {
+                return;
+            }
+            write();
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                log.error("Failed to write session log {}", file, e);
+            }
+            final long closedLength = length;
+            release();
+            log.info("Session log {} closed, {} bytes", file, closedLength);
+        }
+    }
+
+    /**
+     * Appends the pending samples and events, merged in time order
+     */
+    private synchronized void write() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            Event event = events.peek();
+            while (nextSample() || event != null) {
+                if (event != null && (!sampleRead || event.timestamp <= sample.getTimestamp())) {
+                    events.poll();
+                    ensureRemaining(EVENT_RECORD_SIZE);
+                    buffer.put(event.eventType.code);
+                    buffer.putLong(toMicros(event.timestamp));
+                    event = events.peek();
+                } else {
+                    sampleRead = false;
+                    ensureRemaining(SAMPLE_RECORD_SIZE);
+                    buffer.put(sample.isValid() ? TYPE_SAMPLE : TYPE_INVALID_SAMPLE);
+                    buffer.putLong(toMicros(sample.getTimestamp()));
+                    buffer.putFloat((float) sample.getX());
+                    buffer.putFloat((float) sample.getY());
+                }
+            }
+            flush();
+
+            committedLength.clear();
+            committedLength.putLong(length);
+            committedLength.flip();
+            writeFully(committedLength, COMMITTED_LENGTH_POSITION);
+            final long now = System.nanoTime();
+            if (now - lastForceTime >= FORCE_PERIOD_NANOS) {
+                lastForceTime = now;
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            log.error("Failed to write session log {}, logging stopped", file, e);
+            if (executorService != null) {
+                executorService.shutdown();
+            }
+            release();
+        }
+    }
+
+    /**
+     * Closes the file and drops the pending records
+     */
+    private void release() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close session log {}", file, e);
+        }
+        channel = null;
+        buffer.clear();
+        events.clear();
+        sampleRead = false;
+    }
+
+    /**
+     * Reads the next gaze sample into {@link #sample}, unless it already holds one not written yet
+     *
+     * @return true if the sample holds a gaze sample to write
+     */
+    private boolean nextSample() {
+        if (sampleRead) {
+            return true;
+        }
+        if (gazeSamples == null) {
+            return false;
+        }
+        while (nextSampleSequence <= gazeSamples.getPublishedSequence()) {
+            final long sequence = Math.max(nextSampleSequence, gazeSamples.getOldestReadableSequence());
+            if (sequence != nextSampleSequence) {
+                log.warn("session log is late, {} samples lost", sequence - nextSampleSequence);
+            }
+            nextSampleSequence = sequence + 1;
+            if (gazeSamples.read(sequence, sample)) {
+                sampleRead = true;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void ensureRemaining(int size) throws IOException {
+        if (buffer.remaining() < size) {
+            flush();
+        }
+    }
+
+    /**
+     * Appends the buffered records to the file
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        final int size = buffer.remaining();
+        writeFully(buffer, length);
+        length += size;
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source, long position) throws IOException {
+        long writePosition = position;
+        while (source.hasRemaining()) {
+            writePosition += channel.write(source, writePosition);
+        }
+    }
+
+    private long toMicros(long nanoTime) {
+        return TimeUnit.NANOSECONDS.toMicros(nanoTime - startNanos);
+    }
+
+    /**
+     * Reads the records of a session log, up to the last committed one
+     *
+     * @return the start time of the session, in milliseconds since the epoch
+     */
+    public static long read(File file, Visitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Not a session log : " + file);
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a session log : " + file);
+            }
+            final int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported session log version " + version + " : " + file);
+            }
+            final long startTime = header.getLong();
+            final long committedLength = Math.min(header.getLong(), channel.size());
+
+            long position = HEADER_SIZE;
+            while (position < committedLength) {
+                final long size = Math.min(READ_WINDOW_SIZE, committedLength - position);
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+                while (buffer.remaining() >= EVENT_RECORD_SIZE) {
+                    final int recordStart = buffer.position();
+                    final byte type = buffer.get();
+                    if (type == TYPE_SAMPLE || type == TYPE_INVALID_SAMPLE) {
+                        if (buffer.remaining() < SAMPLE_RECORD_SIZE - 1) {
+                            // continued in the next window
+                            buffer.position(recordStart);
+                            break;
+                        }
+                        final long time = buffer.getLong();
+                        final float x = buffer.getFloat();
+                        final float y = buffer.getFloat();
+                        visitor.onSample(time, x, y, type == TYPE_SAMPLE);
+                    } else {
+                        final EventType eventType = EventType.fromCode(type);
+                        if (eventType == null) {
+                            throw new IOException("Corrupted session log at " + (position + recordStart) + " : "
+                                    + file);
+                        }
+                        visitor.onEvent(buffer.getLong(), eventType);
+                    }
+                }
+                if (buffer.position() == 0) {
+                    // truncated record at the end of the file
+                    break;
+                }
+                position += buffer.position();
+            }
+            return startTime;
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Figures of one game session, as kept in the stats store
+ */
+public class SessionSummary {
+
+    @Getter
+    private final String gameName;
+
+    /**
+     * start and end of the session, in milliseconds since the epoch
+     */
+    @Getter
+    private final long startTime;
+
+    @Getter
+    private final long endTime;
+
+    @Getter
+    private final int nbGoals;
+
+    @Getter
+    private final int nbShots;
+
+    @Getter
+    private final int nbUnCountedShots;
+
+    /**
+     * sum of the durations of the rounds, in milliseconds
+     */
+    @Getter
+    private final long roundsTotalDuration;
+
+    @Getter
+    private final long roundsMedianDuration;
+
+    @Getter
+    private final long roundsP90Duration;
+
+    @Getter
+    private final double roundsStandardDeviation;
+
+    /**
+     * figures specific to the kind of game, by name
+     */
+    @Getter
+    private final SortedMap<String, Double> metrics;
+
+    public SessionSummary(String gameName, long startTime, long endTime, int nbGoals, int nbShots,
+            int nbUnCountedShots, long roundsTotalDuration, long roundsMedianDuration, long roundsP90Duration,
+            double roundsStandardDeviation) {
+        this(gameName, startTime, endTime, nbGoals, nbShots, nbUnCountedShots, roundsTotalDuration,
+                roundsMedianDuration, roundsP90Duration, roundsStandardDeviation, Collections.emptyMap());
+    }
+
+    public SessionSummary(String gameName, long startTime, long endTime, int nbGoals, int nbShots,
+            int nbUnCountedShots, long roundsTotalDuration, long roundsMedianDuration, long roundsP90Duration,
+            double roundsStandardDeviation, Map<String, Double> metrics) {
+        this.gameName = gameName;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.nbGoals = nbGoals;
+        this.nbShots = nbShots;
+        this.nbUnCountedShots = nbUnCountedShots;
+        this.roundsTotalDuration = roundsTotalDuration;
+        this.roundsMedianDuration = roundsMedianDuration;
+        this.roundsP90Duration = roundsP90Duration;
+        this.roundsStandardDeviation = roundsStandardDeviation;
+        this.metrics = Collections.unmodifiableSortedMap(new TreeMap<>(metrics));
+    }
+
+    public long computeTotalElapsedDuration() {
+        return endTime - startTime;
+    }
+
+}
@@ -10,15 +10,16 @@ import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gaze.GazeMotionListener;
-import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+import net.gazeplay.commons.gaze.devicemanager.GazeSampleRingBuffer;
 import net.gazeplay.commons.utils.HeatMap;
 import net.gazeplay.commons.utils.games.Utils;
-import org.tc33.jheatchart.HeatChart;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Created by schwab on 16/08/2017.
@@ -30,22 +31,38 @@ public class Stats implements GazeMotionListener {
     private static final int trail = 10;
     private final double heatMapPixelSize = computeHeatMapPixelSize();
     private EventHandler<MouseEvent> recordMouseMovements;
-    private EventHandler<GazeEvent> recordGazeMovements;
     private final Scene gameContextScene;
     private final LifeCycle lifeCycle = new LifeCycle();
     private final RoundsDurationReport roundsDurationReport = new RoundsDurationReport();
+    /**
+     * user the stats are recorded for, whose folder they are saved in even if the user changes meanwhile
+     */
+    @Getter
+    private final String userName = Configuration.getInstance().getUserName();
+    @Getter
     protected String gameName;
     private int nbShots = 0;
     @Getter
     protected int nbGoals = 0;
+    @Getter
     @Setter
     private long accidentalShotPreventionPeriod = 0;
     @Getter
     private int nbUnCountedShots;
-    private double[][] heatMap;
+    private volatile HeatMapAccumulator heatMap;
+    /**
+     * true while the gaze samples are added to the heatmap, between start and stop
+     */
+    private volatile boolean recordingGaze;
     @Getter
     private SavedStatsInfo savedStatsInfo;
     private Long currentRoundStartTime;
+    /**
+     * samples of the gaze device manager, to be logged in the session log
+     */
+    @Setter
+    private GazeSampleRingBuffer gazeSamples;
+    private SessionLog sessionLog;
 
     public Stats(Scene gameContextScene) {
         this(gameContextScene, null);
@@ -56,15 +73,24 @@ public class Stats implements GazeMotionListener {
         this.gameName = gameName;
     }
 
-    private static double[][] instanciateHeatMapData(Scene gameContextScene, double heatMapPixelSize) {
-        int heatMapWidth = (int) (gameContextScene.getHeight() / heatMapPixelSize);
-        int heatMapHeight = (int) (gameContextScene.getWidth() / heatMapPixelSize);
-        log.info("heatMapWidth = {}, heatMapHeight = {}", heatMapWidth, heatMapHeight);
-        return new double[heatMapWidth][heatMapHeight];
+    private static HeatMapAccumulator instanciateHeatMapData(Scene gameContextScene, double heatMapPixelSize,
+            Configuration config) {
+        final double cellSize = config.getHeatMapCellSize() > 0 ? config.getHeatMapCellSize() : heatMapPixelSize;
+        HeatMapAccumulator.Kernel kernel;
+        try {
+            kernel = HeatMapAccumulator.Kernel.valueOf(config.getHeatMapKernel().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown heatmap kernel : {}", config.getHeatMapKernel());
+            kernel = HeatMapAccumulator.Kernel.DISK;
+        }
+        // the radius is kept the same whatever the cell size
+        return new HeatMapAccumulator(gameContextScene.getWidth(), gameContextScene.getHeight(), cellSize,
+                trail * heatMapPixelSize, kernel);
     }
 
     public void notifyNewRoundReady() {
         currentRoundStartTime = System.currentTimeMillis();
+        logEvent(SessionLog.EventType.ROUND_START);
     }
 
     public void start() {
@@ -75,34 +101,67 @@ public class Stats implements GazeMotionListener {
             if (config.isHeatMapDisabled()) {
                 log.info("HeatMap is disabled, skipping instanciation of the HeatMap Data model");
             } else {
-                heatMap = instanciateHeatMapData(gameContextScene, heatMapPixelSize);
+                heatMap = instanciateHeatMapData(gameContextScene, heatMapPixelSize, config);
 
-                recordGazeMovements = e -> incHeatMap((int) e.getX(), (int) e.getY());
-                recordMouseMovements = e -> incHeatMap((int) e.getX(), (int) e.getY());
-
-                gameContextScene.addEventFilter(GazeEvent.ANY, recordGazeMovements);
+                // the gaze positions come through gazeMoved, once per sample
+                recordingGaze = true;
+                recordMouseMovements = e -> heatMap.add(e.getX(), e.getY());
                 gameContextScene.addEventFilter(MouseEvent.ANY, recordMouseMovements);
             }
+
+            if (config.isSessionLogEnabled()) {
+                startSessionLog();
+            } else {
+                log.info("Session log is disabled");
+            }
         });
         currentRoundStartTime = lifeCycle.getStartTime();
     }
 
     public void stop() {
         lifeCycle.stop(() -> {
-            if (recordGazeMovements != null) {
-                gameContextScene.removeEventFilter(GazeEvent.ANY, recordGazeMovements);
-            }
+            recordingGaze = false;
             if (recordMouseMovements != null) {
                 gameContextScene.removeEventFilter(MouseEvent.ANY, recordMouseMovements);
             }
+            if (sessionLog != null) {
+                sessionLog.close();
+                sessionLog = null;
+            }
         });
     }
 
+    private void startSessionLog() {
+        if (gameName == null) {
+            log.warn("No game name, skipping the session log");
+            return;
+        }
+        File sessionLogFile = new File(getGameStatsOfTheDayDirectory(),
+                Utils.now() + "-session" + SessionLog.FILE_EXTENSION);
+        SessionLog sessionLog = new SessionLog(sessionLogFile, gazeSamples);
+        try {
+            sessionLog.start();
+            this.sessionLog = sessionLog;
+        } catch (IOException e) {
+            log.error("Failed to create session log {}", sessionLogFile, e);
+        }
+    }
+
+    private void logEvent(SessionLog.EventType eventType) {
+        if (sessionLog != null) {
+            sessionLog.logEvent(eventType);
+        }
+    }
+
+    /**
+     * Adds each gaze sample to the heatmap, whether it is on a node of the game or not
+     */
     @Override
     public void gazeMoved(javafx.geometry.Point2D position) {
-        final int positionX = (int) position.getX();
-        final int positionY = (int) position.getY();
-        incHeatMap(positionX, positionY);
+        final HeatMapAccumulator heatMap = this.heatMap;
+        if (heatMap != null && recordingGaze) {
+            heatMap.add(position.getX(), position.getY());
+        }
     }
 
     public SavedStatsInfo saveStats() throws IOException {
@@ -110,14 +169,21 @@ public class Stats implements GazeMotionListener {
         File todayDirectory = getGameStatsOfTheDayDirectory();
         final String heatmapFilePrefix = Utils.now() + "-heatmap";
         File heatMapPngFile = new File(todayDirectory, heatmapFilePrefix + ".png");
-        File heatMapCsvFile = new File(todayDirectory, heatmapFilePrefix + ".csv");
+        File heatMapDataFile = new File(todayDirectory, heatmapFilePrefix + HeatMapFileFormat.FILE_EXTENSION);
 
-        SavedStatsInfo savedStatsInfo = new SavedStatsInfo(heatMapPngFile, heatMapCsvFile);
+        SavedStatsInfo savedStatsInfo = new SavedStatsInfo(heatMapPngFile, heatMapDataFile);
         this.savedStatsInfo = savedStatsInfo;
 
         if (this.heatMap != null) {
-            saveHeatMapAsPng(heatMapPngFile);
-            saveHeatMapAsCsv(heatMapCsvFile);
+            final HeatMapData heatMapData = createHeatMapData();
+            saveHeatMapAsPng(heatMapData, heatMapPngFile);
+            HeatMapFileFormat.write(heatMapData, heatMapDataFile);
+        }
+
+        try {
+            StatsStore.forUser(userName).append(createSessionSummary());
+        } catch (IOException e) {
+            log.error("Failed to add the session to the stats store", e);
         }
 
         savedStatsInfo.notifyFilesReady();
@@ -132,6 +198,14 @@ public class Stats implements GazeMotionListener {
         return roundsDurationReport.computeMedianDuration();
     }
 
+    public long computeRoundsDurationP90Duration() {
+        return roundsDurationReport.computeP90Duration();
+    }
+
+    public long computeRoundsDurationP99Duration() {
+        return roundsDurationReport.computeP99Duration();
+    }
+
     public long getRoundsTotalAdditiveDuration() {
         return roundsDurationReport.getTotalAdditiveDuration();
     }
@@ -153,8 +227,10 @@ public class Stats implements GazeMotionListener {
         final long currentRoundDuration = currentRoundEndTime - currentRoundStartTime;
         if (currentRoundDuration < accidentalShotPreventionPeriod) {
             nbUnCountedShots++;
+            logEvent(SessionLog.EventType.UNCOUNTED_SHOT);
         } else {
             nbGoals++;
+            logEvent(SessionLog.EventType.GOAL);
             this.roundsDurationReport.addRoundDuration(currentRoundDuration);
         }
         currentRoundStartTime = currentRoundEndTime;
@@ -171,6 +247,7 @@ public class Stats implements GazeMotionListener {
 
     public void incNbShots() {
         this.nbShots++;
+        logEvent(SessionLog.EventType.SHOT);
     }
 
     public List<Long> getSortedDurationsBetweenGoals() {
@@ -188,7 +265,7 @@ public class Stats implements GazeMotionListener {
     }
 
     File getGameStatsOfTheDayDirectory() {
-        File statsDirectory = new File(Utils.getUserStatsFolder(Configuration.getInstance().getUserName()));
+        File statsDirectory = new File(Utils.getUserStatsFolder(userName));
         File gameDirectory = new File(statsDirectory, gameName);
         File todayDirectory = new File(gameDirectory, Utils.today());
 
@@ -202,50 +279,57 @@ public class Stats implements GazeMotionListener {
         this.roundsDurationReport.printLengthBetweenGoalsToString(out);
     }
 
-    private void saveHeatMapAsCsv(File file) throws IOException {
-        try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
-            for (int i = 0; i < heatMap.length; i++) {
-                for (int j = 0; j < heatMap[0].length - 1; j++) {
-                    out.print((int) heatMap[i][j]);
-                    out.print(", ");
-                }
-                out.print((int) heatMap[i][heatMap[i].length - 1]);
-                out.println("");
-            }
-        }
+    SessionSummary createSessionSummary() {
+        final long endTime = lifeCycle.getStopTime() != null ? lifeCycle.getStopTime() : System.currentTimeMillis();
+        final Map<String, Double> metrics = new TreeMap<>();
+        addSessionMetrics(metrics);
+        return new SessionSummary(gameName, lifeCycle.getStartTime(), endTime, nbGoals, nbShots, nbUnCountedShots,
+                roundsDurationReport.getTotalAdditiveDuration(), roundsDurationReport.computeMedianDuration(),
+                roundsDurationReport.computeP90Duration(), roundsDurationReport.computeSD(), metrics);
     }
 
-    private void saveHeatMapAsPng(File outputPngFile) {
-
-        log.info(String.format("Heatmap size: %3d X %3d", heatMap[0].length, heatMap.length));
+    /**
+     * Adds the figures specific to the kind of game to the summary of the session kept in the stats store, none by
+     * default
+     *
+     * @param metrics
+     *            the figures of the session, by name
+     */
+    protected void addSessionMetrics(Map<String, Double> metrics) {
+    }
 
-        HeatMap map = new HeatMap(heatMap);
+    /**
+     * @return the heatmap being recorded, null if the heatmap is disabled or the stats are not started
+     */
+    public HeatMapAccumulator getHeatMapAccumulator() {
+        return heatMap;
+    }
 
-        try {
-            map.saveToFile(outputPngFile);
-        } catch (Exception e) {
-            log.error("Exception", e);
+    /**
+     * @return a snapshot of the heatmap, including all the positions recorded so far, null if the heatmap is disabled
+     */
+    public HeatMapData createHeatMapData() {
+        if (heatMap == null) {
+            return null;
         }
+        heatMap.flush();
+        final double[] cells = new double[heatMap.getRows() * heatMap.getColumns()];
+        heatMap.copyTo(cells);
+        final long endTime = lifeCycle.getStopTime() != null ? lifeCycle.getStopTime() : System.currentTimeMillis();
+        return new HeatMapData(heatMap.getRows(), heatMap.getColumns(), heatMap.getCellSize(),
+                lifeCycle.getStartTime(), endTime, cells);
     }
 
-    private void incHeatMap(int X, int Y) {
+    private static void saveHeatMapAsPng(HeatMapData heatMapData, File outputPngFile) {
 
-        // in heatChart, x and y are opposed
-        int x = (int) (Y / heatMapPixelSize);
-        int y = (int) (X / heatMapPixelSize);
+        log.info(String.format("Heatmap size: %3d X %3d", heatMapData.getColumns(), heatMapData.getRows()));
 
-        for (int i = -trail; i <= trail; i++)
-            for (int j = -trail; j <= trail; j++) {
+        HeatMap map = new HeatMap(heatMapData.getCells(), heatMapData.getRows(), heatMapData.getColumns());
 
-                if (Math.sqrt(i * i + j * j) < trail)
-                    inc(x + i, y + j);
-            }
-    }
-
-    private void inc(int x, int y) {
-        if (heatMap != null && x >= 0 && y >= 0 && x < heatMap.length && y < heatMap[0].length) {
-            // heatMap[heatMap[0].length - y][heatMap.length - x]++;
-            heatMap[x][y]++;
+        try {
+            map.saveToFile(outputPngFile);
+        } catch (Exception e) {
+            log.error("Exception", e);
         }
     }
 
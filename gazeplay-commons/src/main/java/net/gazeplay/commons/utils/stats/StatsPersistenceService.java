@@ -0,0 +1,134 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Saves the stats of the finished games in the background, so that going back to the menu does not wait for the
+ * heatmap and the stats files to be written.
+ *
+ * The stats of each user are saved one after the other, in the order they were submitted, by a worker of their own.
+ * At most {@link #QUEUE_CAPACITY} stats can wait for each user : beyond that, the stats are saved on the calling
+ * thread rather than dropped. Submitting the same stats again returns the pending save instead of writing the files
+ * twice. The pending saves are completed before the JVM exits.
+ */
+@Slf4j
+public class StatsPersistenceService {
+
+    public static final int QUEUE_CAPACITY = 16;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    @Getter
+    private static final StatsPersistenceService instance = new StatsPersistenceService();
+
+    /**
+     * worker of each user
+     */
+    private final Map<String, ThreadPoolExecutor> lanes = new HashMap<>();
+
+    /**
+     * save of each submitted stats, forgotten along with the stats
+     */
+    private final Map<Stats, CompletableFuture<SavedStatsInfo>> saves = new WeakHashMap<>();
+
+    private StatsPersistenceService() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "StatsPersistence-shutdown"));
+    }
+
+    /**
+     * Submits the stats to be saved, in the folder of the user they were recorded for
+     *
+     * @return completed with the saved files once they are all written, or exceptionally if the save failed
+     */
+    public synchronized CompletableFuture<SavedStatsInfo> persist(Stats stats) {
+        CompletableFuture<SavedStatsInfo> save = saves.get(stats);
+        if (save != null) {
+            return save;
+        }
+        final ThreadPoolExecutor lane = lanes.computeIfAbsent(stats.getUserName(), this::createLane);
+        save = CompletableFuture.supplyAsync(() -> {
+            try {
+                stats.saveStats();
+                return stats.getSavedStatsInfo();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, lane);
+        save.whenComplete((savedStatsInfo, throwable) -> {
+            if (throwable != null) {
+                log.error("Failed to save stats file", throwable);
+            }
+        });
+        saves.put(stats, save);
+        return save;
+    }
+
+    /**
+     * @return the save of the stats, or null if they were never submitted
+     */
+    public synchronized CompletableFuture<SavedStatsInfo> getSave(Stats stats) {
+        return saves.get(stats);
+    }
+
+    private ThreadPoolExecutor createLane(String userName) {
+        GroupingThreadFactory threadFactory = new GroupingThreadFactory("StatsPersistence");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor lane = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), new CustomThreadFactory("StatsPersistence", threadFactory),
+                (task, executor) -> {
+                    log.warn("Stats persistence queue of user '{}' is full, saving on the calling thread", userName);
+                    task.run();
+                });
+        lane.allowCoreThreadTimeOut(true);
+        return lane;
+    }
+
+    /**
+     * Waits for all the saves submitted so far to complete
+     *
+     * @return true if they all completed within the timeout
+     */
+    public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+        final CompletableFuture<?>[] pending;
+        synchronized (this) {
+            pending = saves.values().stream().filter(save -> !save.isDone()).toArray(CompletableFuture[]::new);
+        }
+        try {
+            CompletableFuture.allOf(pending).exceptionally(throwable -> null).get(timeout, unit);
+            return true;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    private void shutdown() {
+        final List<ThreadPoolExecutor> executors;
+        synchronized (this) {
+            executors = new ArrayList<>(lanes.values());
+        }
+        for (ThreadPoolExecutor executor : executors) {
+            executor.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor executor : executors) {
+                if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    log.error("Stats still being saved after {} seconds, giving up", SHUTDOWN_TIMEOUT_SECONDS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        StatsStore.closeAll();
+    }
+
+}
@@ -0,0 +1,70 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Totals of the sessions of a game over a day or a week
+ */
+public class StatsRollup {
+
+    /**
+     * first day of the period
+     */
+    @Getter
+    private final LocalDate periodStart;
+
+    @Getter
+    private int sessionsCount;
+
+    @Getter
+    private long totalElapsedDuration;
+
+    @Getter
+    private long nbGoals;
+
+    @Getter
+    private long nbShots;
+
+    @Getter
+    private long nbUnCountedShots;
+
+    @Getter
+    private long roundsTotalDuration;
+
+    StatsRollup(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    StatsRollup(StatsRollup other) {
+        this.periodStart = other.periodStart;
+        this.sessionsCount = other.sessionsCount;
+        this.totalElapsedDuration = other.totalElapsedDuration;
+        this.nbGoals = other.nbGoals;
+        this.nbShots = other.nbShots;
+        this.nbUnCountedShots = other.nbUnCountedShots;
+        this.roundsTotalDuration = other.roundsTotalDuration;
+    }
+
+    void add(SessionSummary session) {
+        sessionsCount++;
+        totalElapsedDuration += session.computeTotalElapsedDuration();
+        nbGoals += session.getNbGoals();
+        nbShots += session.getNbShots();
+        nbUnCountedShots += session.getNbUnCountedShots();
+        roundsTotalDuration += session.getRoundsTotalDuration();
+    }
+
+    public long computeAverageRoundDuration() {
+        return nbGoals == 0 ? 0L : roundsTotalDuration / nbGoals;
+    }
+
+    /**
+     * @return the percentage of shots that hit a goal, 100 when there was no shot
+     */
+    public int computeShotRatio() {
+        return nbShots == 0 ? 100 : (int) Math.min(100, nbGoals * 100 / nbShots);
+    }
+
+}
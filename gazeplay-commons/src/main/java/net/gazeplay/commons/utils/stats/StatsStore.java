@@ -0,0 +1,393 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.utils.games.Utils;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only store of the summaries of all the game sessions of a user, in a single file, so that the progress over
+ * weeks or months can be queried without going through the per-day directories.
+ *
+ * Each session is appended as a record protected by a CRC, so a record torn by a crash at the end of the file is
+ * detected and dropped when the store is opened. A corrupted record in the middle of the file is skipped, the following
+ * records being found again by their CRC. The whole file is read once when the store is opened, and the sessions are
+ * indexed by game and by day, along with daily and weekly rollups which are kept up to date as sessions are appended.
+ *
+ * The metrics specific to the kind of game are written at the end of each record, so the records written before they
+ * existed are read without any.
+ */
+@Slf4j
+public class StatsStore {
+
+    public static final String FILE_NAME = "sessions.gazestats";
+
+    private static final int MAGIC = 0x475A5354; // GZST
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 4 + 4;
+
+    /**
+     * length and CRC of the payload
+     */
+    private static final int RECORD_HEADER_SIZE = 4 + 4;
+
+    private static final int MAX_RECORD_SIZE = 64 * 1024;
+
+    private static final Map<String, StatsStore> stores = new ConcurrentHashMap<>();
+
+    @Getter
+    private final File file;
+
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final FileChannel channel;
+
+    /**
+     * sessions of each game, indexed by day
+     */
+    private final Map<String, TreeMap<LocalDate, List<SessionSummary>>> sessions = new HashMap<>();
+
+    private final Map<String, TreeMap<LocalDate, StatsRollup>> dailyRollups = new HashMap<>();
+
+    /**
+     * indexed by the monday of each week
+     */
+    private final Map<String, TreeMap<LocalDate, StatsRollup>> weeklyRollups = new HashMap<>();
+
+    /**
+     * Opens the store in the given file, without sharing it with the other callers, as {@link #forUser(String)} does
+     */
+    StatsStore(File file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        load();
+    }
+
+    /**
+     * @return the store of the user, opened on the first call
+     */
+    public static StatsStore forUser(String user) throws IOException {
+        final File folder = new File(Utils.getUserStatsFolder(user));
+        final String key = folder.getAbsolutePath();
+        StatsStore store = stores.get(key);
+        if (store == null) {
+            synchronized (stores) {
+                store = stores.get(key);
+                if (store == null) {
+                    folder.mkdirs();
+                    store = new StatsStore(new File(folder, FILE_NAME));
+                    stores.put(key, store);
+                }
+            }
+        }
+        return store;
+    }
+
+    private void load() throws IOException {
+        final long size = channel.size();
+        if (size == 0) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            header.flip();
+            writeFully(header, 0);
+            channel.force(false);
+            return;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Stats store too large : " + file);
+        }
+
+        final ByteBuffer content = ByteBuffer.allocate((int) size);
+        while (content.hasRemaining()) {
+            if (channel.read(content, content.position()) < 0) {
+                break;
+            }
+        }
+        content.flip();
+        if (content.remaining() < HEADER_SIZE || content.getInt() != MAGIC) {
+            throw new IOException("Not a stats store : " + file);
+        }
+        final int version = content.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported stats store version " + version + " : " + file);
+        }
+
+        final CRC32 crc = new CRC32();
+        int sessionsCount = 0;
+        while (content.remaining() >= RECORD_HEADER_SIZE) {
+            final int recordStart = content.position();
+            final byte[] payload = readRecord(content, crc);
+            if (payload != null) {
+                try {
+                    index(decode(payload));
+                    sessionsCount++;
+                } catch (IOException e) {
+                    log.warn("Stats store {} : skipping unreadable session at {}", file, recordStart, e);
+                }
+                continue;
+            }
+
+            // a record torn by a crash at the end of the file, or a corrupted record followed by valid ones
+            final int nextRecordStart = findNextRecord(content, recordStart + 1, crc);
+            if (nextRecordStart < 0) {
+                content.position(recordStart);
+                break;
+            }
+            log.warn("Stats store {} : skipping {} bytes of corrupted record at {}", file,
+                    nextRecordStart - recordStart, recordStart);
+            content.position(nextRecordStart);
+        }
+
+        if (content.position() < size) {
+            if (isTornTail(content)) {
+                log.warn("Stats store {} : dropping {} bytes of incomplete record", file, size - content.position());
+                channel.truncate(content.position());
+            } else {
+                // kept as is, the sessions appended after it will be found again by the next load
+                log.warn("Stats store {} : skipping {} bytes of corrupted record at the end", file,
+                        size - content.position());
+            }
+        }
+        log.info("Stats store {} : {} sessions loaded", file, sessionsCount);
+    }
+
+    /**
+     * Reads the record at the position of the content, moving after it if it is valid
+     *
+     * @return the payload of the record, or null if it is not valid, the position being then left unchanged
+     */
+    private static byte[] readRecord(ByteBuffer content, CRC32 crc) {
+        final int recordStart = content.position();
+        if (content.remaining() < RECORD_HEADER_SIZE) {
+            return null;
+        }
+        final int length = content.getInt();
+        final int expectedCrc = content.getInt();
+        if (length <= 0 || length > MAX_RECORD_SIZE || length > content.remaining()) {
+            content.position(recordStart);
+            return null;
+        }
+        final byte[] payload = new byte[length];
+        content.get(payload);
+        crc.reset();
+        crc.update(payload);
+        if ((int) crc.getValue() != expectedCrc) {
+            content.position(recordStart);
+            return null;
+        }
+        return payload;
+    }
+
+    /**
+     * @return the start of the first valid record from the given position, or -1 if there is none
+     */
+    private static int findNextRecord(ByteBuffer content, int from, CRC32 crc) {
+        final int recordStart = content.position();
+        try {
+            for (int position = from; position + RECORD_HEADER_SIZE <= content.limit(); position++) {
+                content.position(position);
+                if (readRecord(content, crc) != null) {
+                    return position;
+                }
+            }
+            return -1;
+        } finally {
+            content.position(recordStart);
+        }
+    }
+
+    /**
+     * @return true if the content left is the beginning of a record which was not completely written
+     */
+    private static boolean isTornTail(ByteBuffer content) {
+        if (content.remaining() < RECORD_HEADER_SIZE) {
+            return true;
+        }
+        final int length = content.getInt(content.position());
+        return length > content.remaining() - RECORD_HEADER_SIZE && length <= MAX_RECORD_SIZE;
+    }
+
+    /**
+     * Closes the file of the store, which is opened again by the next call to {@link #forUser(String)}
+     */
+    public void close() {
+        synchronized (stores) {
+            stores.values().remove(this);
+        }
+        synchronized (this) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close stats store {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * Closes the stores of all the users
+     */
+    public static void closeAll() {
+        final List<StatsStore> openStores;
+        synchronized (stores) {
+            openStores = new ArrayList<>(stores.values());
+        }
+        for (StatsStore store : openStores) {
+            store.close();
+        }
+    }
+
+    /**
+     * Appends a session to the store, and forces it to the disk
+     */
+    public synchronized void append(SessionSummary session) throws IOException {
+        final byte[] payload = encode(session);
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        final ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+        record.putInt(payload.length);
+        record.putInt((int) crc.getValue());
+        record.put(payload);
+        record.flip();
+        writeFully(record, channel.size());
+        channel.force(false);
+
+        index(session);
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static byte[] encode(SessionSummary session) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(session.getGameName());
+            out.writeLong(session.getStartTime());
+            out.writeLong(session.getEndTime());
+            out.writeInt(session.getNbGoals());
+            out.writeInt(session.getNbShots());
+            out.writeInt(session.getNbUnCountedShots());
+            out.writeLong(session.getRoundsTotalDuration());
+            out.writeLong(session.getRoundsMedianDuration());
+            out.writeLong(session.getRoundsP90Duration());
+            out.writeDouble(session.getRoundsStandardDeviation());
+            out.writeInt(session.getMetrics().size());
+            for (Map.Entry<String, Double> metric : session.getMetrics().entrySet()) {
+                out.writeUTF(metric.getKey());
+                out.writeDouble(metric.getValue());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static SessionSummary decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            final String gameName = in.readUTF();
+            final long startTime = in.readLong();
+            final long endTime = in.readLong();
+            final int nbGoals = in.readInt();
+            final int nbShots = in.readInt();
+            final int nbUnCountedShots = in.readInt();
+            final long roundsTotalDuration = in.readLong();
+            final long roundsMedianDuration = in.readLong();
+            final long roundsP90Duration = in.readLong();
+            final double roundsStandardDeviation = in.readDouble();
+            final Map<String, Double> metrics = new TreeMap<>();
+            if (in.available() > 0) {
+                final int metricsCount = in.readInt();
+                for (int i = 0; i < metricsCount; i++) {
+                    metrics.put(in.readUTF(), in.readDouble());
+                }
+            }
+            return new SessionSummary(gameName, startTime, endTime, nbGoals, nbShots, nbUnCountedShots,
+                    roundsTotalDuration, roundsMedianDuration, roundsP90Duration, roundsStandardDeviation, metrics);
+        }
+    }
+
+    private void index(SessionSummary session) {
+        final String game = session.getGameName();
+        final LocalDate day = toDay(session.getStartTime());
+        final LocalDate week = day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        sessions.computeIfAbsent(game, k -> new TreeMap<>()).computeIfAbsent(day, k -> new ArrayList<>())
+                .add(session);
+        dailyRollups.computeIfAbsent(game, k -> new TreeMap<>()).computeIfAbsent(day, StatsRollup::new)
+                .add(session);
+        weeklyRollups.computeIfAbsent(game, k -> new TreeMap<>()).computeIfAbsent(week, StatsRollup::new)
+                .add(session);
+    }
+
+    private LocalDate toDay(long time) {
+        return Instant.ofEpochMilli(time).atZone(zone).toLocalDate();
+    }
+
+    /**
+     * @return the names of the games having at least one session, in alphabetical order
+     */
+    public synchronized SortedSet<String> getGameNames() {
+        return new TreeSet<>(sessions.keySet());
+    }
+
+    /**
+     * @return the sessions of a game started between the two days, both included, in the order they were saved
+     */
+    public synchronized List<SessionSummary> getSessions(String gameName, LocalDate from, LocalDate to) {
+        final TreeMap<LocalDate, List<SessionSummary>> days = sessions.get(gameName);
+        if (days == null) {
+            return Collections.emptyList();
+        }
+        final List<SessionSummary> result = new ArrayList<>();
+        for (List<SessionSummary> daySessions : days.subMap(from, true, to, true).values()) {
+            result.addAll(daySessions);
+        }
+        return result;
+    }
+
+    /**
+     * @return a rollup for each day between the two days, both included, having at least one session of the game
+     */
+    public synchronized List<StatsRollup> getDailyRollups(String gameName, LocalDate from, LocalDate to) {
+        return copyRollups(dailyRollups.get(gameName), from, to);
+    }
+
+    /**
+     * @return a rollup for each week, starting on monday, overlapping the two days and having at least one session of
+     *         the game
+     */
+    public synchronized List<StatsRollup> getWeeklyRollups(String gameName, LocalDate from, LocalDate to) {
+        return copyRollups(weeklyRollups.get(gameName),
+                from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), to);
+    }
+
+    private static List<StatsRollup> copyRollups(TreeMap<LocalDate, StatsRollup> rollups, LocalDate from,
+            LocalDate to) {
+        if (rollups == null) {
+            return Collections.emptyList();
+        }
+        final List<StatsRollup> result = new ArrayList<>();
+        for (StatsRollup rollup : rollups.subMap(from, true, to, true).values()) {
+            result.add(new StatsRollup(rollup));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,95 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+
+/**
+ * Summary of a stream of values, updated in constant time and memory for each value : count, sum, minimum, maximum,
+ * mean and variance (Welford's algorithm), median, 90th and 99th percentiles (P-square estimates), and a histogram
+ * with power of two buckets.
+ */
+public class StreamingStatistics {
+
+    /**
+     * bucket 0 counts the values below 1, bucket i the values from 2^(i-1) to 2^i - 1
+     */
+    public static final int HISTOGRAM_BUCKETS = 64;
+
+    @Getter
+    private long count;
+
+    @Getter
+    private long sum;
+
+    @Getter
+    private long min = Long.MAX_VALUE;
+
+    @Getter
+    private long max = Long.MIN_VALUE;
+
+    private double mean;
+
+    /**
+     * sum of the squared differences from the mean
+     */
+    private double m2;
+
+    private final P2QuantileEstimator p50 = new P2QuantileEstimator(0.5);
+
+    private final P2QuantileEstimator p90 = new P2QuantileEstimator(0.9);
+
+    private final P2QuantileEstimator p99 = new P2QuantileEstimator(0.99);
+
+    private final long[] histogram = new long[HISTOGRAM_BUCKETS];
+
+    public void add(long value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+
+        final double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+
+        p50.add(value);
+        p90.add(value);
+        p99.add(value);
+
+        histogram[Math.min(HISTOGRAM_BUCKETS - 1, value <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(value))]++;
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * @return the population variance
+     */
+    public double getVariance() {
+        return m2 / count;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getP50() {
+        return p50.getEstimate();
+    }
+
+    public double getP90() {
+        return p90.getEstimate();
+    }
+
+    public double getP99() {
+        return p99.getEstimate();
+    }
+
+    /**
+     * @return a copy of the histogram
+     */
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+}
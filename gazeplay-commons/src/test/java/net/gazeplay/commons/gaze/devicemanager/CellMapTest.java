@@ -0,0 +1,152 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class CellMapTest {
+
+    private static final int MASK = UniformGridHitTestIndex.CellMap.INITIAL_CAPACITY - 1;
+
+    private UniformGridHitTestIndex.CellMap cells;
+
+    @Before
+    public void before() {
+        cells = new UniformGridHitTestIndex.CellMap();
+    }
+
+    /**
+     * @return keys, from the given one, whose home slot is the given slot
+     */
+    private static List<Long> findKeys(int home, int count, long from) {
+        List<Long> keys = new ArrayList<>();
+        for (long key = from; keys.size() < count; key++) {
+            if (UniformGridHitTestIndex.CellMap.slot(key, MASK) == home) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    @Test
+    public void shouldFindCollidingKeysAfterRemovingFirstOfRun() {
+        List<Long> keys = findKeys(10, 4, 0);
+        List<List<GazeInfos>> lists = new ArrayList<>();
+        for (long key : keys) {
+            lists.add(cells.getOrCreate(key));
+        }
+
+        cells.remove(keys.get(0));
+
+        assertNull(cells.get(keys.get(0)));
+        for (int i = 1; i < keys.size(); i++) {
+            assertSame(lists.get(i), cells.get(keys.get(i)));
+        }
+        assertEquals(3, cells.size());
+    }
+
+    @Test
+    public void shouldFindKeysOfOtherHomesAfterRemovalInRun() {
+        // a run made of keys of home 20, then keys of home 21 displaced after them
+        List<Long> first = findKeys(20, 2, 0);
+        List<Long> second = findKeys(21, 2, 0);
+        List<GazeInfos> first0 = cells.getOrCreate(first.get(0));
+        cells.getOrCreate(first.get(1));
+        List<GazeInfos> second0 = cells.getOrCreate(second.get(0));
+        List<GazeInfos> second1 = cells.getOrCreate(second.get(1));
+
+        cells.remove(first.get(1));
+
+        assertSame(first0, cells.get(first.get(0)));
+        assertNull(cells.get(first.get(1)));
+        assertSame(second0, cells.get(second.get(0)));
+        assertSame(second1, cells.get(second.get(1)));
+    }
+
+    @Test
+    public void shouldNotMoveKeysBeforeTheirHome() {
+        // the key of home 31 is in its home slot and must stay there when the key of home 30 before it is removed
+        long key30 = findKeys(30, 1, 0).get(0);
+        long key31 = findKeys(31, 1, 0).get(0);
+        cells.getOrCreate(key30);
+        List<GazeInfos> list31 = cells.getOrCreate(key31);
+
+        cells.remove(key30);
+
+        assertSame(list31, cells.get(key31));
+        List<Long> others = findKeys(31, 1, key31 + 1);
+        List<GazeInfos> other = cells.getOrCreate(others.get(0));
+        assertSame(list31, cells.get(key31));
+        assertSame(other, cells.get(others.get(0)));
+    }
+
+    @Test
+    public void shouldShiftBackAcrossTheEndOfTheTable() {
+        List<Long> keys = findKeys(MASK, 3, 0);
+        List<List<GazeInfos>> lists = new ArrayList<>();
+        for (long key : keys) {
+            lists.add(cells.getOrCreate(key));
+        }
+        // the run wraps to the slots 0 and 1, then a key of home 0 is displaced after it
+        long key0 = findKeys(0, 1, 0).get(0);
+        List<GazeInfos> list0 = cells.getOrCreate(key0);
+
+        cells.remove(keys.get(0));
+        cells.remove(keys.get(1));
+
+        assertSame(lists.get(2), cells.get(keys.get(2)));
+        assertSame(list0, cells.get(key0));
+        assertNull(cells.get(keys.get(0)));
+        assertNull(cells.get(keys.get(1)));
+        assertEquals(2, cells.size());
+    }
+
+    @Test
+    public void shouldBehaveAsHashMapUnderRandomOperations() {
+        Random random = new Random(5);
+        Map<Long, List<GazeInfos>> expected = new HashMap<>();
+        for (int operation = 0; operation < 100000; operation++) {
+            // few distinct keys, so that the runs are long and keys are often removed and added again
+            long key = ((long) random.nextInt(8) << 32) | random.nextInt(12);
+            if (random.nextInt(3) == 0) {
+                cells.remove(key);
+                expected.remove(key);
+            } else {
+                List<GazeInfos> list = cells.getOrCreate(key);
+                List<GazeInfos> previous = expected.putIfAbsent(key, list);
+                if (previous != null) {
+                    assertSame(previous, list);
+                }
+            }
+            assertEquals(expected.size(), cells.size());
+        }
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 12; y++) {
+                long key = ((long) x << 32) | y;
+                assertSame(expected.get(key), cells.get(key));
+            }
+        }
+    }
+
+    @Test
+    public void shouldBeEmptyAfterClear() {
+        for (long key = 0; key < 100; key++) {
+            cells.getOrCreate(key);
+        }
+        cells.clear();
+        assertEquals(0, cells.size());
+        for (long key = 0; key < 100; key++) {
+            assertNull(cells.get(key));
+        }
+    }
+
+}
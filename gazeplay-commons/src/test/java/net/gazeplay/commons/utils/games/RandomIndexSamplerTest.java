@@ -0,0 +1,98 @@
+package net.gazeplay.commons.utils.games;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RandomIndexSamplerTest {
+
+    @Test
+    public void shouldDrawDistinctIndexesInRange() {
+        RandomIndexSampler sampler = new RandomIndexSampler(20, 5, new Random(1));
+        for (int round = 0; round < 100; round++) {
+            int[] sample = sampler.sample(8);
+            assertEquals(8, sample.length);
+            Set<Integer> distinct = new HashSet<>();
+            for (int index : sample) {
+                assertTrue(index >= 0 && index < 20);
+                assertTrue(distinct.add(index));
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotRepeatIndexesWithinHistory() {
+        int historySize = 12;
+        RandomIndexSampler sampler = new RandomIndexSampler(30, historySize, new Random(2));
+        Deque<Integer> history = new ArrayDeque<>();
+        for (int round = 0; round < 200; round++) {
+            int[] sample = sampler.sample(3);
+            for (int index : sample) {
+                assertFalse("index " + index + " drawn again at round " + round, history.contains(index));
+            }
+            for (int index : sample) {
+                history.addLast(index);
+                if (history.size() > historySize) {
+                    history.removeFirst();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldReleaseOldestIndexesWhenTooFewAreLeft() {
+        RandomIndexSampler sampler = new RandomIndexSampler(5, 5, new Random(3));
+        int[] first = sampler.sample(3);
+        int[] second = sampler.sample(2);
+        Set<Integer> drawn = new HashSet<>();
+        for (int index : first) {
+            drawn.add(index);
+        }
+        for (int index : second) {
+            drawn.add(index);
+        }
+        // the five indexes were drawn once each
+        assertEquals(5, drawn.size());
+
+        // the three indexes drawn first are the oldest, released first
+        int[] third = sampler.sample(3);
+        Arrays.sort(first);
+        Arrays.sort(third);
+        assertArrayEquals(first, third);
+    }
+
+    @Test
+    public void shouldDrawAllIndexesWithoutHistory() {
+        RandomIndexSampler sampler = new RandomIndexSampler(10, 0, new Random(4));
+        for (int round = 0; round < 10; round++) {
+            int[] sample = sampler.sample(10);
+            Arrays.sort(sample);
+            assertArrayEquals(new int[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, sample);
+        }
+    }
+
+    @Test
+    public void shouldDrawSameSequenceFromSameSeed() {
+        RandomIndexSampler sampler = new RandomIndexSampler(50, 10, new Random(42));
+        RandomIndexSampler other = new RandomIndexSampler(50, 10, new Random(42));
+        for (int round = 0; round < 50; round++) {
+            assertArrayEquals(sampler.sample(4), other.sample(4));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectSampleLargerThanCount() {
+        new RandomIndexSampler(3, 0, new Random()).sample(4);
+    }
+
+}
@@ -0,0 +1,133 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class HeatMapFileFormatTest {
+
+    private static final int ROWS = 120;
+
+    private static final int COLUMNS = 160;
+
+    private File file;
+
+    @Before
+    public void before() throws IOException {
+        file = File.createTempFile("heatmap", HeatMapFileFormat.FILE_EXTENSION);
+    }
+
+    @After
+    public void after() {
+        file.delete();
+    }
+
+    /**
+     * @return cells filled with disks, as accumulated from gaze samples
+     */
+    private static double[] createDiskCells() {
+        Random random = new Random(3);
+        double[] cells = new double[ROWS * COLUMNS];
+        for (int k = 0; k < 500; k++) {
+            int centerRow = random.nextInt(ROWS);
+            int centerColumn = random.nextInt(COLUMNS);
+            for (int i = -6; i <= 6; i++) {
+                for (int j = -6; j <= 6; j++) {
+                    int row = centerRow + i;
+                    int column = centerColumn + j;
+                    if (row >= 0 && row < ROWS && column >= 0 && column < COLUMNS && i * i + j * j < 36) {
+                        cells[row * COLUMNS + column]++;
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+
+    private static void assertSameHeader(HeatMapData expected, HeatMapData actual) {
+        assertEquals(expected.getRows(), actual.getRows());
+        assertEquals(expected.getColumns(), actual.getColumns());
+        assertEquals(expected.getCellSize(), actual.getCellSize(), 0);
+        assertEquals(expected.getStartTime(), actual.getStartTime());
+        assertEquals(expected.getEndTime(), actual.getEndTime());
+    }
+
+    @Test
+    public void shouldReadBackIntegralCellsExactly() throws IOException {
+        HeatMapData heatMap = new HeatMapData(ROWS, COLUMNS, 4.8, 1520000000000L, 1520000060000L,
+                createDiskCells());
+        HeatMapFileFormat.write(heatMap, file);
+
+        HeatMapData read = HeatMapFileFormat.read(file);
+        assertSameHeader(heatMap, read);
+        assertArrayEquals(heatMap.getCells(), read.getCells(), 0);
+    }
+
+    @Test
+    public void shouldReadBackOtherCellsAsFloats() throws IOException {
+        double[] cells = createDiskCells();
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] *= 0.37;
+        }
+        HeatMapData heatMap = new HeatMapData(ROWS, COLUMNS, 2.5, 10, 20, cells);
+        HeatMapFileFormat.write(heatMap, file);
+
+        HeatMapData read = HeatMapFileFormat.read(file);
+        assertSameHeader(heatMap, read);
+        for (int i = 0; i < cells.length; i++) {
+            assertEquals((float) cells[i], read.getCells()[i], 0);
+        }
+    }
+
+    @Test
+    public void shouldReadBackEmptyHeatMap() throws IOException {
+        HeatMapData heatMap = new HeatMapData(0, 0, 1, 0, 0, new double[0]);
+        HeatMapFileFormat.write(heatMap, file);
+
+        HeatMapData read = HeatMapFileFormat.read(file);
+        assertSameHeader(heatMap, read);
+        assertEquals(0, read.getCells().length);
+    }
+
+    @Test
+    public void shouldExportCsvLines() throws IOException {
+        HeatMapData heatMap = new HeatMapData(2, 3, 1, 0, 0, new double[] { 0, 1, 2, 3, 4.5, 5 });
+        File csv = File.createTempFile("heatmap", ".csv");
+        try {
+            HeatMapFileFormat.exportCsv(heatMap, csv);
+            List<String> lines = Files.readAllLines(csv.toPath(), StandardCharsets.UTF_8);
+            assertEquals(2, lines.size());
+            assertEquals("0, 1, 2", lines.get(0));
+            assertEquals("3, 4, 5", lines.get(1));
+        } finally {
+            csv.delete();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectTruncatedFile() throws IOException {
+        HeatMapFileFormat.write(new HeatMapData(ROWS, COLUMNS, 4.8, 0, 0, createDiskCells()), file);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() / 2);
+        }
+        HeatMapFileFormat.read(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectOtherFile() throws IOException {
+        Files.write(file.toPath(), "0, 1, 2\n3, 4, 5\n0, 0, 0\n0, 0, 0\n0, 0, 0\n".getBytes(StandardCharsets.UTF_8));
+        HeatMapFileFormat.read(file);
+    }
+
+}
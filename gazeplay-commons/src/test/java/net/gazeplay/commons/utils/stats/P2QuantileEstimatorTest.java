@@ -0,0 +1,89 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class P2QuantileEstimatorTest {
+
+    private static double exactQuantile(double[] values, double quantile) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.round(quantile * (sorted.length - 1))];
+    }
+
+    @Test
+    public void shouldBeNaNWithoutValues() {
+        assertTrue(Double.isNaN(new P2QuantileEstimator(0.5).getEstimate()));
+    }
+
+    @Test
+    public void shouldBeExactWithFewValues() {
+        double[] values = { 7, 3, 9, 1, 5 };
+        for (double quantile : new double[] { 0, 0.25, 0.5, 0.75, 1 }) {
+            P2QuantileEstimator estimator = new P2QuantileEstimator(quantile);
+            for (double value : values) {
+                estimator.add(value);
+            }
+            assertEquals(exactQuantile(values, quantile), estimator.getEstimate(), 0);
+        }
+    }
+
+    @Test
+    public void shouldEstimateQuantilesOfUniformValues() {
+        Random random = new Random(42);
+        double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 1000;
+        }
+
+        for (double quantile : new double[] { 0.1, 0.5, 0.9, 0.99 }) {
+            P2QuantileEstimator estimator = new P2QuantileEstimator(quantile);
+            for (double value : values) {
+                estimator.add(value);
+            }
+            assertEquals(values.length, estimator.getCount());
+            // within 1% of the range
+            assertEquals(exactQuantile(values, quantile), estimator.getEstimate(), 10);
+        }
+    }
+
+    @Test
+    public void shouldEstimateQuantilesOfSkewedValues() {
+        Random random = new Random(7);
+        double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            // exponential distribution of mean 100, like durations
+            values[i] = -100 * Math.log(1 - random.nextDouble());
+        }
+
+        for (double quantile : new double[] { 0.5, 0.9, 0.99 }) {
+            P2QuantileEstimator estimator = new P2QuantileEstimator(quantile);
+            for (double value : values) {
+                estimator.add(value);
+            }
+            double exact = exactQuantile(values, quantile);
+            // within 5% of the exact quantile
+            assertEquals(exact, estimator.getEstimate(), exact * 0.05);
+        }
+    }
+
+    @Test
+    public void shouldEstimateQuantilesOfSortedValues() {
+        P2QuantileEstimator estimator = new P2QuantileEstimator(0.5);
+        for (int i = 0; i <= 1000; i++) {
+            estimator.add(i);
+        }
+        assertEquals(500, estimator.getEstimate(), 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectQuantileOutOfRange() {
+        new P2QuantileEstimator(1.5);
+    }
+
+}
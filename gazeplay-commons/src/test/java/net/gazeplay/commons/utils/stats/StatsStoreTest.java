@@ -0,0 +1,186 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+
+public class StatsStoreTest {
+
+    private static final String GAME = "test-game";
+
+    private static final LocalDate DAY = LocalDate.of(2018, 3, 14);
+
+    private File file;
+
+    /**
+     * size of the file after the header and after each record appended by {@link #appendSessions(int)}
+     */
+    private long[] recordEnds;
+
+    @Before
+    public void before() throws IOException {
+        file = File.createTempFile("stats-store", ".gazestats");
+        file.delete();
+    }
+
+    @After
+    public void after() {
+        file.delete();
+    }
+
+    private static SessionSummary createSession(int number) {
+        long start = DAY.atTime(10, number).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new SessionSummary(GAME, start, start + 60000, number, number * 2, 1, 50000, 4000, 9000, 1.5);
+    }
+
+    private void appendSessions(int count) throws IOException {
+        StatsStore store = new StatsStore(file);
+        recordEnds = new long[count + 1];
+        recordEnds[0] = file.length();
+        for (int i = 1; i <= count; i++) {
+            store.append(createSession(i));
+            recordEnds[i] = file.length();
+        }
+        store.close();
+    }
+
+    private List<SessionSummary> loadSessions() throws IOException {
+        StatsStore store = new StatsStore(file);
+        try {
+            return store.getSessions(GAME, DAY, DAY);
+        } finally {
+            store.close();
+        }
+    }
+
+    private void flipByte(long position) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(position);
+            int value = raf.read();
+            raf.seek(position);
+            raf.write(value ^ 0xFF);
+        }
+    }
+
+    @Test
+    public void shouldLoadAppendedSessions() throws IOException {
+        appendSessions(3);
+
+        List<SessionSummary> sessions = loadSessions();
+        assertEquals(3, sessions.size());
+        for (int i = 0; i < 3; i++) {
+            SessionSummary expected = createSession(i + 1);
+            SessionSummary actual = sessions.get(i);
+            assertEquals(expected.getStartTime(), actual.getStartTime());
+            assertEquals(expected.getEndTime(), actual.getEndTime());
+            assertEquals(expected.getNbGoals(), actual.getNbGoals());
+            assertEquals(expected.getNbShots(), actual.getNbShots());
+            assertEquals(expected.getRoundsP90Duration(), actual.getRoundsP90Duration());
+            assertEquals(expected.getRoundsStandardDeviation(), actual.getRoundsStandardDeviation(), 0);
+        }
+
+        StatsStore store = new StatsStore(file);
+        List<StatsRollup> rollups = store.getDailyRollups(GAME, DAY, DAY);
+        store.close();
+        assertEquals(1, rollups.size());
+        assertEquals(3, rollups.get(0).getSessionsCount());
+        assertEquals(1 + 2 + 3, rollups.get(0).getNbGoals());
+    }
+
+    @Test
+    public void shouldLoadGameSpecificMetrics() throws IOException {
+        Map<String, Double> metrics = new TreeMap<>();
+        metrics.put("shotRatio", 0.75);
+        metrics.put("roundsAverageDuration", 1234.5);
+        long start = DAY.atTime(11, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        StatsStore store = new StatsStore(file);
+        store.append(createSession(1));
+        store.append(new SessionSummary(GAME, start, start + 60000, 1, 2, 1, 50000, 4000, 9000, 1.5, metrics));
+        store.close();
+
+        List<SessionSummary> sessions = loadSessions();
+        assertEquals(2, sessions.size());
+        assertEquals(Collections.emptyMap(), sessions.get(0).getMetrics());
+        assertEquals(metrics, sessions.get(1).getMetrics());
+    }
+
+    @Test
+    public void shouldDropTornTail() throws IOException {
+        appendSessions(3);
+        // the last record is cut in the middle, as by a crash while it was written
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength((recordEnds[2] + recordEnds[3]) / 2);
+        }
+
+        assertEquals(2, loadSessions().size());
+        assertEquals(recordEnds[2], file.length());
+
+        StatsStore store = new StatsStore(file);
+        store.append(createSession(4));
+        store.close();
+        List<SessionSummary> sessions = loadSessions();
+        assertEquals(3, sessions.size());
+        assertEquals(4, sessions.get(2).getNbGoals());
+    }
+
+    @Test
+    public void shouldDropTornRecordHeader() throws IOException {
+        appendSessions(2);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(recordEnds[2] - 1);
+        }
+        // the length of the last record is still readable, but not the whole record
+        assertEquals(1, loadSessions().size());
+        assertEquals(recordEnds[1], file.length());
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(recordEnds[1] + 3);
+        }
+        assertEquals(1, loadSessions().size());
+        assertEquals(recordEnds[1], file.length());
+    }
+
+    @Test
+    public void shouldSkipRecordWithCorruptedCrc() throws IOException {
+        appendSessions(3);
+        // last byte of the payload of the second record
+        flipByte(recordEnds[2] - 1);
+
+        List<SessionSummary> sessions = loadSessions();
+        assertEquals(2, sessions.size());
+        assertEquals(1, sessions.get(0).getNbGoals());
+        assertEquals(3, sessions.get(1).getNbGoals());
+        // a corrupted record is not a torn tail, nothing is truncated
+        assertEquals(recordEnds[3], file.length());
+    }
+
+    @Test
+    public void shouldKeepCorruptedLastRecordAndFindSessionsAppendedAfterIt() throws IOException {
+        appendSessions(2);
+        flipByte(recordEnds[2] - 1);
+
+        StatsStore store = new StatsStore(file);
+        assertEquals(1, store.getSessions(GAME, DAY, DAY).size());
+        assertEquals(recordEnds[2], file.length());
+        store.append(createSession(3));
+        store.close();
+
+        List<SessionSummary> sessions = loadSessions();
+        assertEquals(2, sessions.size());
+        assertEquals(1, sessions.get(0).getNbGoals());
+        assertEquals(3, sessions.get(1).getNbGoals());
+    }
+
+}
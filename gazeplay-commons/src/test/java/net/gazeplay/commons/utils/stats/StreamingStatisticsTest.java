@@ -0,0 +1,101 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StreamingStatisticsTest {
+
+    private long[] durations;
+
+    private StreamingStatistics statistics;
+
+    @Before
+    public void before() {
+        Random random = new Random(2018);
+        durations = new long[5000];
+        statistics = new StreamingStatistics();
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = 200 + (long) (-1500 * Math.log(1 - random.nextDouble()));
+            statistics.add(durations[i]);
+        }
+    }
+
+    /**
+     * the variance as computed before the streaming statistics, with a first pass for the average
+     */
+    private static double twoPassVariance(long[] values) {
+        double average = 0;
+        for (long value : values) {
+            average += value;
+        }
+        average /= values.length;
+        double sum = 0;
+        for (long value : values) {
+            sum += Math.pow((value - average), 2);
+        }
+        return sum / values.length;
+    }
+
+    @Test
+    public void shouldMatchTwoPassCountSumAndExtremes() {
+        assertEquals(durations.length, statistics.getCount());
+        assertEquals(Arrays.stream(durations).sum(), statistics.getSum());
+        assertEquals(Arrays.stream(durations).min().getAsLong(), statistics.getMin());
+        assertEquals(Arrays.stream(durations).max().getAsLong(), statistics.getMax());
+    }
+
+    @Test
+    public void shouldMatchTwoPassMeanAndVariance() {
+        double mean = Arrays.stream(durations).average().getAsDouble();
+        double variance = twoPassVariance(durations);
+        assertEquals(mean, statistics.getMean(), 1e-9 * mean);
+        assertEquals(variance, statistics.getVariance(), 1e-9 * variance);
+        assertEquals(Math.sqrt(variance), statistics.getStandardDeviation(), 1e-9 * Math.sqrt(variance));
+    }
+
+    @Test
+    public void shouldEstimatePercentilesCloseToSortedValues() {
+        long[] sorted = durations.clone();
+        Arrays.sort(sorted);
+        double p50 = sorted[sorted.length / 2];
+        double p90 = sorted[(int) (sorted.length * 0.9)];
+        double p99 = sorted[(int) (sorted.length * 0.99)];
+        assertEquals(p50, statistics.getP50(), p50 * 0.05);
+        assertEquals(p90, statistics.getP90(), p90 * 0.05);
+        assertEquals(p99, statistics.getP99(), p99 * 0.05);
+    }
+
+    @Test
+    public void shouldCountEachValueInItsPowerOfTwoBucket() {
+        StreamingStatistics small = new StreamingStatistics();
+        small.add(0);
+        small.add(1);
+        small.add(2);
+        small.add(3);
+        small.add(4);
+        small.add(1023);
+        small.add(1024);
+
+        long[] histogram = small.getHistogram();
+        assertEquals(1, histogram[0]);
+        assertEquals(1, histogram[1]);
+        assertEquals(2, histogram[2]);
+        assertEquals(1, histogram[3]);
+        assertEquals(1, histogram[10]);
+        assertEquals(1, histogram[11]);
+        assertEquals(durations.length, Arrays.stream(statistics.getHistogram()).sum());
+    }
+
+    @Test
+    public void shouldHaveNoMeanWithoutValues() {
+        assertTrue(Double.isNaN(new StreamingStatistics().getMean()));
+        assertEquals(0, new StreamingStatistics().getCount());
+    }
+
+}
@@ -0,0 +1,211 @@
+package net.gazeplay.data.build;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Packs the small images of the given directories into atlases, run when the data module is built.
+ *
+ * For each directory, the PNG images up to {@link #MAX_SPRITE_SIZE} pixels are packed by rows into pages of at most
+ * {@link #PAGE_SIZE} pixels, written in an atlas sub directory along with an index giving the page and the bounds of
+ * each image. The edges of each image are repeated into the padding around it, so that the neighbouring images do not
+ * bleed when the pages are scaled. The menu images, shown on another screen than the others, get their own pages.
+ *
+ * The packed images are then deleted, so that the jar only holds the pages. The larger images are left alone. The
+ * packed directories are listed in {@link #PACKED_DIRECTORIES_FILE_NAME}, so that their atlases are known to exist.
+ *
+ * Arguments : the output resources directory, then the directories to pack, relative to it.
+ */
+public class AtlasPacker {
+
+    public static final String ATLAS_DIRECTORY = "atlas";
+
+    public static final String INDEX_FILE_NAME = "atlas.index";
+
+    /**
+     * list of the packed directories, written at the root of the resources
+     */
+    public static final String PACKED_DIRECTORIES_FILE_NAME = "atlases.list";
+
+    /**
+     * a page of 1024 x 1024 pixels takes 4 MB once decoded
+     */
+    public static final int PAGE_SIZE = 1024;
+
+    private static final int PADDING = 2;
+
+    public static final int MAX_SPRITE_SIZE = PAGE_SIZE - 2 * PADDING;
+
+    private static final class Sprite {
+
+        private final String name;
+
+        private final BufferedImage image;
+
+        private int page;
+
+        private int x;
+
+        private int y;
+
+        private Sprite(String name, BufferedImage image) {
+            this.name = name;
+            this.image = image;
+        }
+
+        private boolean isMenu() {
+            return name.startsWith("menu");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage : AtlasPacker <resources directory> <directory>...");
+        }
+        final File resourcesDirectory = new File(args[0]);
+        final List<String> packedDirectories = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            if (pack(new File(resourcesDirectory, args[i]))) {
+                packedDirectories.add(args[i].endsWith("/") ? args[i] : args[i] + "/");
+            }
+        }
+
+        try (PrintWriter list = new PrintWriter(new File(resourcesDirectory, PACKED_DIRECTORIES_FILE_NAME),
+                StandardCharsets.UTF_8.name())) {
+            list.println("# directories whose images are packed into atlases");
+            for (String packedDirectory : packedDirectories) {
+                list.println(packedDirectory);
+            }
+        }
+    }
+
+    /**
+     * @return true if images of the directory were packed
+     */
+    private static boolean pack(File directory) throws IOException {
+        final File[] files = directory
+                .listFiles((dir, name) -> name.toLowerCase(Locale.ROOT).endsWith(".png") && !name.startsWith("."));
+        if (files == null) {
+            throw new IOException("Not a directory : " + directory);
+        }
+        Arrays.sort(files);
+
+        final List<Sprite> sprites = new ArrayList<>();
+        for (File file : files) {
+            final BufferedImage image = ImageIO.read(file);
+            if (image == null) {
+                throw new IOException("Cannot read image : " + file);
+            }
+            if (image.getWidth() <= MAX_SPRITE_SIZE && image.getHeight() <= MAX_SPRITE_SIZE) {
+                sprites.add(new Sprite(file.getName(), image));
+            }
+        }
+        if (sprites.isEmpty()) {
+            return false;
+        }
+
+        // the menu images apart, then by rows, the highest images first
+        sprites.sort(Comparator.comparing(Sprite::isMenu)
+                .thenComparingInt((Sprite sprite) -> -sprite.image.getHeight()).thenComparing(sprite -> sprite.name));
+        final List<int[]> pageSizes = new ArrayList<>();
+        int page = 0;
+        int x = 0;
+        int y = 0;
+        int rowHeight = 0;
+        int pageWidth = 0;
+        boolean menu = sprites.get(0).isMenu();
+        for (Sprite sprite : sprites) {
+            final int width = sprite.image.getWidth() + 2 * PADDING;
+            final int height = sprite.image.getHeight() + 2 * PADDING;
+            if (x + width > PAGE_SIZE) {
+                x = 0;
+                y += rowHeight;
+                rowHeight = 0;
+            }
+            if (y + height > PAGE_SIZE || sprite.isMenu() != menu) {
+                pageSizes.add(new int[] { pageWidth, y + rowHeight });
+                page++;
+                x = 0;
+                y = 0;
+                rowHeight = 0;
+                pageWidth = 0;
+                menu = sprite.isMenu();
+            }
+            sprite.page = page;
+            sprite.x = x + PADDING;
+            sprite.y = y + PADDING;
+            x += width;
+            rowHeight = Math.max(rowHeight, height);
+            pageWidth = Math.max(pageWidth, x);
+        }
+        pageSizes.add(new int[] { pageWidth, y + rowHeight });
+
+        final File atlasDirectory = new File(directory, ATLAS_DIRECTORY);
+        if (!atlasDirectory.isDirectory() && !atlasDirectory.mkdirs()) {
+            throw new IOException("Cannot create directory : " + atlasDirectory);
+        }
+        // the pages of a previous build
+        final File[] previousPages = atlasDirectory.listFiles((dir, name) -> name.endsWith(".png"));
+        for (File previousPage : previousPages == null ? new File[0] : previousPages) {
+            if (!previousPage.delete()) {
+                throw new IOException("Cannot delete previous atlas page : " + previousPage);
+            }
+        }
+        for (int i = 0; i < pageSizes.size(); i++) {
+            final BufferedImage pageImage = new BufferedImage(pageSizes.get(i)[0], pageSizes.get(i)[1],
+                    BufferedImage.TYPE_INT_ARGB);
+            for (Sprite sprite : sprites) {
+                if (sprite.page == i) {
+                    draw(sprite, pageImage);
+                }
+            }
+            ImageIO.write(pageImage, "png", new File(atlasDirectory, getPageFileName(i)));
+        }
+
+        try (PrintWriter index = new PrintWriter(new File(atlasDirectory, INDEX_FILE_NAME),
+                StandardCharsets.UTF_8.name())) {
+            index.println("# page x y width height name");
+            for (Sprite sprite : sprites) {
+                index.println(sprite.page + " " + sprite.x + " " + sprite.y + " " + sprite.image.getWidth() + " "
+                        + sprite.image.getHeight() + " " + sprite.name);
+            }
+        }
+
+        for (Sprite sprite : sprites) {
+            final File file = new File(directory, sprite.name);
+            if (!file.delete()) {
+                throw new IOException("Cannot delete packed image : " + file);
+            }
+        }
+        return true;
+    }
+
+    public static String getPageFileName(int page) {
+        return "atlas-" + page + ".png";
+    }
+
+    /**
+     * Draws the image, its edges being repeated into the padding
+     */
+    private static void draw(Sprite sprite, BufferedImage pageImage) {
+        final int width = sprite.image.getWidth();
+        final int height = sprite.image.getHeight();
+        for (int dy = -PADDING; dy < height + PADDING; dy++) {
+            final int sourceY = Math.max(0, Math.min(height - 1, dy));
+            for (int dx = -PADDING; dx < width + PADDING; dx++) {
+                final int sourceX = Math.max(0, Math.min(width - 1, dx));
+                pageImage.setRGB(sprite.x + dx, sprite.y + dy, sprite.image.getRGB(sourceX, sourceY));
+            }
+        }
+    }
+
+}
@@ -15,7 +15,6 @@ import javafx.scene.Cursor;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
@@ -25,25 +24,23 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gaze.devicemanager.GazeDeviceManager;
 import net.gazeplay.commons.gaze.devicemanager.GazeDeviceManagerFactory;
 import net.gazeplay.commons.ui.I18NButton;
 import net.gazeplay.commons.utils.*;
+import net.gazeplay.commons.utils.games.ImageCache;
+import net.gazeplay.commons.utils.games.ImageDirectoryIndex;
+import net.gazeplay.commons.utils.stats.HeatMapAccumulator;
 import net.gazeplay.commons.utils.stats.Stats;
-
-import java.io.IOException;
+import net.gazeplay.commons.utils.stats.StatsPersistenceService;
 
 @Slf4j
 public class GameContext extends GraphicalContext<Pane> {
 
     public static boolean menuOpen = false;
 
-    @Setter
-    private static boolean runAsynchronousStatsPersist = false;
-
     private static final double BUTTON_MIN_HEIGHT = 64;
 
     public static GameContext newInstance(GazePlay gazePlay) {
@@ -77,7 +74,8 @@ public class GameContext extends GraphicalContext<Pane> {
         double buttonSize = getButtonSize();
 
         // Button bt = new Button();
-        ImageView buttonImg = new ImageView(new Image("data/common/images/configuration-button-alt4.png"));
+        ImageView buttonImg = new ImageView(
+                ImageCache.getInstance().get("data/common/images/configuration-button-alt4.png"));
         buttonImg.setFitWidth(buttonSize);
         buttonImg.setFitHeight(buttonSize);
 
@@ -262,6 +260,8 @@ public class GameContext extends GraphicalContext<Pane> {
 
     private final Pane gamingRoot;
 
+    private HeatMapOverlay heatMapOverlay;
+
     private GameContext(GazePlay gazePlay, final Pane root, Pane gamingRoot, Bravo bravo, HBox menuHBox,
             GamePanelDimensionProvider gamePanelDimensionProvider, RandomPositionGenerator randomPositionGenerator,
             GazeDeviceManager gazeDeviceManager, final Pane configPane) {
@@ -329,27 +329,41 @@ public class GameContext extends GraphicalContext<Pane> {
         return homeButton;
     }
 
+    /**
+     * Shows the heatmap of the stats over the game, as it is recorded
+     */
+    public void startHeatMapOverlay(@NonNull Stats stats) {
+        HeatMapAccumulator accumulator = stats.getHeatMapAccumulator();
+        if (accumulator == null) {
+            log.info("HeatMap is disabled, skipping the heatmap overlay");
+            return;
+        }
+        heatMapOverlay = new HeatMapOverlay(accumulator, Configuration.getInstance().getHeatMapOverlayRate());
+        // above the game, below the configuration button
+        root.getChildren().add(root.getChildren().indexOf(gamingRoot) + 1, heatMapOverlay);
+        heatMapOverlay.start();
+    }
+
+    private void stopHeatMapOverlay() {
+        if (heatMapOverlay != null) {
+            heatMapOverlay.stop();
+            root.getChildren().remove(heatMapOverlay);
+            heatMapOverlay = null;
+        }
+    }
+
     private void homeButtonClicked(@NonNull Stats stats, @NonNull GazePlay gazePlay,
             @NonNull GameLifeCycle currentGame) {
         currentGame.dispose();
+        stopHeatMapOverlay();
 
         stats.stop();
         gazeDeviceManager.clear();
         gazeDeviceManager.destroy();
 
-        Runnable asynchronousStatsPersistTask = () -> {
-            try {
-                stats.saveStats();
-            } catch (IOException e) {
-                log.error("Failed to save stats file", e);
-            }
-        };
-
-        if (runAsynchronousStatsPersist) {
-            AsyncUiTaskExecutor.getInstance().getExecutorService().execute(asynchronousStatsPersistTask);
-        } else {
-            asynchronousStatsPersistTask.run();
-        }
+        StatsPersistenceService.getInstance().persist(stats);
+        ImageCache.getInstance().logStatistics();
+        ImageDirectoryIndex.stopWatching();
 
         StatsContext statsContext = StatsContext.newInstance(gazePlay, stats);
 
@@ -330,6 +330,7 @@ public class GameMenuFactory {
 
         final Scene scene = gazePlay.getPrimaryScene();
         final Stats stats = gameLauncher.createNewStats(scene);
+        stats.setGazeSamples(gameContext.getGazeDeviceManager().getGazeSamples());
 
         if (config.isHeatMapDisabled()) {
             log.info("HeatMap is disabled, skipping instanciation of the HeatMap Data model");
@@ -355,6 +356,9 @@ public class GameMenuFactory {
         }
 
         stats.start();
+        if (config.isHeatMapOverlayEnabled()) {
+            gameContext.startHeatMapOverlay(stats);
+        }
         currentGame.launch();
     }
 
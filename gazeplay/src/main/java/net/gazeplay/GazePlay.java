@@ -98,6 +98,9 @@ public class GazePlay extends Application {
 
         primaryStage.setOnCloseRequest((WindowEvent we) -> primaryStage.close());
 
+        primaryStage.iconifiedProperty().addListener((observable, oldValue, newValue) -> GazeDeviceManagerFactory
+                .getInstance().setApplicationMinimized(newValue));
+
         userProfileScreen = UserProfilContext.newInstance(this, config);
 
         lds = LoadingScreen.newInstance(this);
@@ -30,6 +30,7 @@ import net.gazeplay.commons.ui.I18NTitledPane;
 import net.gazeplay.commons.ui.I18NTooltip;
 import net.gazeplay.commons.utils.MarqueeText;
 import net.gazeplay.commons.utils.games.BackgroundMusicManager;
+import net.gazeplay.commons.utils.games.ImageCache;
 
 @Data
 @Slf4j
@@ -148,10 +149,10 @@ public abstract class GraphicalContext<T extends Parent> {
 
         final String label;
         if (isFullScreen) {
-            buttonGraphics = new Image("data/common/images/fullscreen-exit.png");
+            buttonGraphics = ImageCache.getInstance().get("data/common/images/fullscreen-exit.png");
             label = "Exit FullScreen";
         } else {
-            buttonGraphics = new Image("data/common/images/fullscreen-enter.png");
+            buttonGraphics = ImageCache.getInstance().get("data/common/images/fullscreen-enter.png");
             label = "Enter FullScreen";
         }
         ImageView imageView = new ImageView(buttonGraphics);
@@ -8,7 +8,6 @@ import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
@@ -20,6 +19,7 @@ import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.utils.games.ImageCache;
 
 @Slf4j
 public class LoadingScreen extends GraphicalContext<Pane> {
@@ -52,8 +52,10 @@ public class LoadingScreen extends GraphicalContext<Pane> {
         letters = new HBox();
         for (int i = 0; i < 8; i++) {
             StackPane letter = new StackPane();
-            ImageView Back = new ImageView(new Image("data/common/images/GazePlayLetters/" + i + 0 + ".png"));
-            ImageView Front = new ImageView(new Image("data/common/images/GazePlayLetters/" + i + 1 + ".png"));
+            ImageView Back = new ImageView(
+                    ImageCache.getInstance().get("data/common/images/GazePlayLetters/" + i + 0 + ".png"));
+            ImageView Front = new ImageView(
+                    ImageCache.getInstance().get("data/common/images/GazePlayLetters/" + i + 1 + ".png"));
             Back.setPreserveRatio(true);
             Front.setPreserveRatio(true);
             Back.setFitHeight(primaryStage.getHeight() / 10);
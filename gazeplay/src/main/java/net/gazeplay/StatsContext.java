@@ -5,7 +5,6 @@ import javafx.geometry.HPos;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.chart.LineChart;
-import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.text.Text;
 import lombok.Data;
@@ -15,6 +14,7 @@ import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.ui.I18NText;
 import net.gazeplay.commons.ui.Translator;
 import net.gazeplay.commons.utils.ControlPanelConfigurator;
+import net.gazeplay.commons.utils.HeatMapView;
 import net.gazeplay.commons.utils.HomeButton;
 import net.gazeplay.commons.utils.multilinguism.Multilinguism;
 import net.gazeplay.commons.utils.stats.*;
@@ -176,6 +176,18 @@ public class StatsContext extends GraphicalContext<BorderPane> {
             }
         }
 
+        if (stats.getGameName() != null) {
+            // read from the stats store, which the session is added to when its stats are saved
+            final Text sessionsCountValue = new Text("-");
+            addToGrid(grid, currentFormRow, new I18NText(translator, "WeekSessions", COLON), sessionsCountValue);
+
+            final Text totalElapsedDurationValue = new Text("-");
+            addToGrid(grid, currentFormRow, new I18NText(translator, "WeekTotalLength", COLON),
+                    totalElapsedDurationValue);
+
+            StatsDisplay.displayWeekSummary(stats, sessionsCountValue, totalElapsedDurationValue);
+        }
+
         VBox centerPane = new VBox();
         centerPane.setAlignment(Pos.CENTER);
 
@@ -185,7 +197,7 @@ public class StatsContext extends GraphicalContext<BorderPane> {
         }
 
         {
-            ImageView heatMap = StatsDisplay.buildHeatChart(stats, root);
+            HeatMapView heatMap = StatsDisplay.buildHeatChart(stats, root);
             root.widthProperty().addListener((observable, oldValue, newValue) -> {
 
                 heatMap.setFitWidth(newValue.doubleValue() * 0.35);
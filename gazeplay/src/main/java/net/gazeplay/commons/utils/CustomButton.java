@@ -1,10 +1,10 @@
 package net.gazeplay.commons.utils;
 
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import javafx.stage.Screen;
+import net.gazeplay.commons.utils.games.ImageCache;
 
 public class CustomButton extends Rectangle {
 
@@ -19,14 +19,14 @@ public class CustomButton extends Rectangle {
     public CustomButton(String imageResourceLocation) {
         super(0, 0, DEFAULT_SIZE, DEFAULT_SIZE);
 
-        ImagePattern value = new ImagePattern(new Image(imageResourceLocation), 0, 0, 1, 1, true);
+        ImagePattern value = new ImagePattern(ImageCache.getInstance().get(imageResourceLocation), 0, 0, 1, 1, true);
         this.setFill(value);
     }
 
     public CustomButton(String imageResourceLocation, double size) {
         super(0, 0, size, size);
 
-        ImagePattern value = new ImagePattern(new Image(imageResourceLocation), 0, 0, 1, 1, true);
+        ImagePattern value = new ImagePattern(ImageCache.getInstance().get(imageResourceLocation), 0, 0, 1, 1, true);
         this.setFill(value);
     }
 
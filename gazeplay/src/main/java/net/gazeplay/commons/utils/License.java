@@ -4,7 +4,6 @@ import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.scene.Group;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
@@ -13,6 +12,7 @@ import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GazePlay;
+import net.gazeplay.commons.utils.games.ImageCache;
 import org.apache.commons.io.IOUtils;
 
 import java.io.IOException;
@@ -29,7 +29,8 @@ public class License extends Rectangle {
 
         super(X, Y, width, height);
 
-        this.setFill(new ImagePattern(new Image("data/common/images/license.png"), 0, 0, 1, 1, true));
+        this.setFill(
+                new ImagePattern(ImageCache.getInstance().get("data/common/images/license.png"), 0, 0, 1, 1, true));
 
         EventHandler<Event> homeEvent = new EventHandler<javafx.event.Event>() {
             @Override
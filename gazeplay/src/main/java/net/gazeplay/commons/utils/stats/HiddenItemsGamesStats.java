@@ -6,6 +6,7 @@ import net.gazeplay.commons.utils.games.Utils;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Map;
 
 public class HiddenItemsGamesStats extends Stats {
 
@@ -13,6 +14,11 @@ public class HiddenItemsGamesStats extends Stats {
         super(scene);
     }
 
+    @Override
+    protected void addSessionMetrics(Map<String, Double> metrics) {
+        metrics.put("roundsAverageDuration", (double) computeRoundsDurationAverageDuration());
+    }
+
     @Override
     public SavedStatsInfo saveStats() throws IOException {
         super.saveStats();
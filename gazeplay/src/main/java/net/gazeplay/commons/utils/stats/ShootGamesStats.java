@@ -6,6 +6,7 @@ import net.gazeplay.commons.utils.games.Utils;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Map;
 
 public class ShootGamesStats extends Stats {
 
@@ -14,6 +15,13 @@ public class ShootGamesStats extends Stats {
         setAccidentalShotPreventionPeriod(100);
     }
 
+    @Override
+    protected void addSessionMetrics(Map<String, Double> metrics) {
+        metrics.put("shotRatio", (double) getShotRatio());
+        metrics.put("roundsAverageDuration", (double) computeRoundsDurationAverageDuration());
+        metrics.put("accidentalShotPreventionPeriod", (double) getAccidentalShotPreventionPeriod());
+    }
+
     @Override
     public SavedStatsInfo saveStats() throws IOException {
         super.saveStats();
@@ -11,19 +11,23 @@ import javafx.scene.chart.CategoryAxis;
 import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
-import javafx.scene.effect.GaussianBlur;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import javafx.scene.text.Text;
 import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.AsyncUiTaskExecutor;
 import net.gazeplay.GazePlay;
 import net.gazeplay.StatsContext;
+import net.gazeplay.commons.utils.HeatMapView;
 import net.gazeplay.commons.utils.HomeButton;
 import net.gazeplay.games.bubbles.BubblesGamesStats;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -135,19 +139,12 @@ public class StatsDisplay {
         return lineChart;
     }
 
-    public static ImageView buildHeatChart(Stats stats, final Region root) {
-        ImageView heatMap = new ImageView();
-        heatMap.setPreserveRatio(true);
+    public static HeatMapView buildHeatChart(Stats stats, final Region root) {
+        HeatMapView heatMap = new HeatMapView();
 
-        SavedStatsInfo savedStatsInfo = stats.getSavedStatsInfo();
-        savedStatsInfo.addObserver((o, arg) -> {
-            Platform.runLater(() -> heatMap.setImage(new Image(savedStatsInfo.getHeatMapPngFile().toURI().toString())));
-        });
-
-        heatMap.setImage(new Image(savedStatsInfo.getHeatMapPngFile().toURI().toString()));
-        GaussianBlur blur = new GaussianBlur();
-        blur.setRadius(10.0);
-        heatMap.setEffect(blur);
+        // rendered straight from the cells of the heatmap, which may still be being saved meanwhile
+        CompletableFuture.supplyAsync(stats::createHeatMapData, AsyncUiTaskExecutor.getInstance().getExecutorService())
+                .thenAccept(heatMapData -> Platform.runLater(() -> heatMap.setData(heatMapData)));
 
         EventHandler<Event> openHeatMapEvent = createZoomInHeatMapEventHandler(heatMap, root);
         heatMap.addEventHandler(MouseEvent.MOUSE_CLICKED, openHeatMapEvent);
@@ -155,6 +152,42 @@ public class StatsDisplay {
         return heatMap;
     }
 
+    /**
+     * Fills in the number of sessions and the play time of the game over the current week, from the stats store of the
+     * user, once the stats of the session have been saved in it
+     */
+    public static void displayWeekSummary(Stats stats, Text sessionsCountValue, Text totalElapsedDurationValue) {
+        final CompletableFuture<SavedStatsInfo> save = StatsPersistenceService.getInstance().getSave(stats);
+        final CompletableFuture<?> saved = save == null ? CompletableFuture.completedFuture(null)
+                : save.handle((savedStatsInfo, throwable) -> null);
+
+        saved.thenApplyAsync(ignored -> {
+            final LocalDate today = LocalDate.now();
+            try {
+                return StatsStore.forUser(stats.getUserName()).getWeeklyRollups(stats.getGameName(), today, today);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, AsyncUiTaskExecutor.getInstance().getExecutorService()).whenComplete((rollups, throwable) -> {
+            if (throwable != null) {
+                log.warn("Failed to read the sessions of the week", throwable);
+                return;
+            }
+            int sessionsCount = 0;
+            long totalElapsedDuration = 0;
+            for (StatsRollup rollup : rollups) {
+                sessionsCount += rollup.getSessionsCount();
+                totalElapsedDuration += rollup.getTotalElapsedDuration();
+            }
+            final String sessionsCountText = String.valueOf(sessionsCount);
+            final String totalElapsedDurationText = convert(totalElapsedDuration);
+            Platform.runLater(() -> {
+                sessionsCountValue.setText(sessionsCountText);
+                totalElapsedDurationValue.setText(totalElapsedDurationText);
+            });
+        });
+    }
+
     private static void resetToOriginalIndexInParent(Node node, int originalIndexInParent) {
         Parent parent = node.getParent();
 
@@ -204,7 +237,7 @@ public class StatsDisplay {
         };
     }
 
-    private static EventHandler<Event> createZoomOutHeatMapEventHandler(ImageView heatMap, final Region root,
+    private static EventHandler<Event> createZoomOutHeatMapEventHandler(HeatMapView heatMap, final Region root,
             int originalIndexInParent) {
         return new EventHandler<Event>() {
             @Override
@@ -220,7 +253,7 @@ public class StatsDisplay {
         };
     }
 
-    private static EventHandler<Event> createZoomInHeatMapEventHandler(ImageView heatMap, final Region root) {
+    private static EventHandler<Event> createZoomInHeatMapEventHandler(HeatMapView heatMap, final Region root) {
         return new EventHandler<Event>() {
             @Override
             public void handle(Event e) {
@@ -6,7 +6,6 @@ import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.geometry.Dimension2D;
 import javafx.scene.Parent;
-import javafx.scene.image.Image;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
@@ -19,6 +18,7 @@ import net.gazeplay.GameContext;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.games.ImageLibrary;
 import net.gazeplay.commons.utils.games.ImageUtils;
 import net.gazeplay.commons.utils.games.Utils;
@@ -62,6 +62,7 @@ public class Bubble extends Parent implements GameLifeCycle {
         this.image = useBackgroundImage;
 
         imageLibrary = ImageUtils.createImageLibrary(Utils.getImagesSubDirectory("portraits"));
+        imageLibrary.setRequestedImageSize(2 * maxRadius, 2 * maxRadius);
 
         if (useBackgroundImage) {
 
@@ -69,7 +70,8 @@ public class Bubble extends Parent implements GameLifeCycle {
             Rectangle imageRectangle = new Rectangle(0, 0, dimension2D.getWidth(), dimension2D.getHeight());
             int i = (Configuration.getInstance().isBackgroundWhite()) ? 1 : 0;
 
-            imageRectangle.setFill(new ImagePattern(new Image("data/bubble/images/underwater-treasures.jpg")));
+            imageRectangle.setFill(
+                    new ImagePattern(ImageCache.getInstance().get("data/bubble/images/underwater-treasures.jpg")));
             imageRectangle.setOpacity(1 - i * 0.9);
 
             gameContext.getChildren().add(imageRectangle);
@@ -11,13 +11,11 @@ import javafx.event.EventHandler;
 import javafx.geometry.Dimension2D;
 import javafx.scene.Node;
 import javafx.scene.Parent;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
@@ -28,6 +26,7 @@ import net.gazeplay.GameContext;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.utils.ProgressButton;
+import net.gazeplay.commons.utils.games.SpriteAtlas;
 import net.gazeplay.commons.utils.games.Utils;
 import net.gazeplay.commons.utils.stats.Stats;
 
@@ -115,7 +114,7 @@ public class CakeFactory extends Parent implements GameLifeCycle {
         r.setFill(col[0]);
         this.getChildren().add(r);
         Rectangle back = new Rectangle(0, 0, dimension2D.getWidth(), dimension2D.getHeight());
-        back.setFill(new ImagePattern(new Image("data/cake/images/background.png")));
+        back.setFill(SpriteAtlas.createImagePattern("data/cake/images/background.png"));
         back.setMouseTransparent(true);
         this.getChildren().add(back);
 
@@ -323,7 +322,7 @@ public class CakeFactory extends Parent implements GameLifeCycle {
         if (j == 1) {
             aerographAnimation(i, j, dimension2D);
         } else {
-            ImageView temp = new ImageView(new Image("data/cake/images/" + (j - 1) + "" + (i + 1) + ".png"));
+            ImageView temp = SpriteAtlas.createImageView("data/cake/images/" + (j - 1) + "" + (i + 1) + ".png");
             temp.setFitWidth(dimension2D.getWidth() / (4 + currentCake));
             temp.setPreserveRatio(true);
             cake[currentCake].getChildren().set(j - 1, temp);
@@ -333,9 +332,9 @@ public class CakeFactory extends Parent implements GameLifeCycle {
     }
 
     public void aerographAnimation(int i, int j, Dimension2D dimension2D) {
-        double cakeheight = (((ImageView) cake[currentCake].getChildren().get(0)).getImage().getHeight()
+        double cakeheight = (SpriteAtlas.getImageSize((ImageView) cake[currentCake].getChildren().get(0)).getHeight()
                 * ((ImageView) cake[currentCake].getChildren().get(0)).getFitWidth())
-                / ((ImageView) cake[currentCake].getChildren().get(0)).getImage().getWidth();
+                / SpriteAtlas.getImageSize((ImageView) cake[currentCake].getChildren().get(0)).getWidth();
         double cakewidth = ((ImageView) cake[currentCake].getChildren().get(0)).getFitWidth();
 
         double Ypos = cake[currentCake]
@@ -343,15 +342,15 @@ public class CakeFactory extends Parent implements GameLifeCycle {
         double Yppos = Ypos + 7 * cakeheight / 8;
         Ypos = Ypos + 1.9 * cakeheight / 8;
 
-        ImageView aerograph = new ImageView(new Image("data/cake/images/aero.png"));
-        ImageView aerograph2 = new ImageView(new Image("data/cake/images/aero.png"));
+        ImageView aerograph = SpriteAtlas.createImageView("data/cake/images/aero.png");
+        ImageView aerograph2 = SpriteAtlas.createImageView("data/cake/images/aero.png");
         aerograph.setFitWidth(dimension2D.getWidth() / 2.5);
         aerograph2.setFitWidth(dimension2D.getWidth() / 2.5);
         aerograph2.setScaleX(-1);
         aerograph.setPreserveRatio(true);
         aerograph2.setPreserveRatio(true);
-        double height = ((aerograph.getImage().getHeight()) * (dimension2D.getWidth() / 2.5))
-                / aerograph.getImage().getWidth();
+        double height = ((SpriteAtlas.getImageSize(aerograph).getHeight()) * (dimension2D.getWidth() / 2.5))
+                / SpriteAtlas.getImageSize(aerograph).getWidth();
         double offset = aerograph.getFitWidth();
         aerograph.setLayoutX(-offset);
         aerograph2.setLayoutX(dimension2D.getWidth());
@@ -394,7 +393,7 @@ public class CakeFactory extends Parent implements GameLifeCycle {
         FadeTransition ft2 = new FadeTransition(Duration.seconds(2.5), spray2);
         ft2.setToValue(0.5);
         ImageView temp2 = (ImageView) cake[currentCake].getChildren().get(j - 1);
-        ImageView temp = new ImageView(new Image("data/cake/images/" + (j - 1) + "" + (i + 1) + ".png"));
+        ImageView temp = SpriteAtlas.createImageView("data/cake/images/" + (j - 1) + "" + (i + 1) + ".png");
         temp.setFitWidth(dimension2D.getWidth() / (4 + currentCake));
         temp.setPreserveRatio(true);
         cake[currentCake].getChildren().set(j - 1, temp);
@@ -451,7 +450,7 @@ public class CakeFactory extends Parent implements GameLifeCycle {
         bt.setLayoutX((i + 1) * dimension2D.getWidth() / k - buttonSize / 2);
         int index = i;
         int jndex = j - 1;
-        ImageView iv = new ImageView(new Image("data/cake/images/" + (j - 1) + "" + (i + 1) + ".png"));
+        ImageView iv = SpriteAtlas.createImageView("data/cake/images/" + (j - 1) + "" + (i + 1) + ".png");
         iv.setFitWidth(2 * buttonSize / 3);
         iv.setPreserveRatio(true);
         bt.button.setRadius(buttonSize / 2);
@@ -474,7 +473,7 @@ public class CakeFactory extends Parent implements GameLifeCycle {
 
     public void createReturnButton(ProgressButton bt, int j, Dimension2D dimension2D) {
         EventHandler<Event> buttonHandler;
-        ImageView iv = new ImageView(new Image("data/cake/images/return.png"));
+        ImageView iv = SpriteAtlas.createImageView("data/cake/images/return.png");
         iv.setFitWidth(2 * buttonSize / 3);
         iv.setPreserveRatio(true);
         bt.button.setRadius(buttonSize / 2);
@@ -515,16 +514,16 @@ public class CakeFactory extends Parent implements GameLifeCycle {
         }
 
         Pane grab = new Pane();
-        ImageView cakeGrabed = new ImageView(new Image("data/cake/images/01.png"));
+        ImageView cakeGrabed = SpriteAtlas.createImageView("data/cake/images/01.png");
         cakeGrabed.setFitWidth(dimension2D.getWidth() / (4 + i));
         cakeGrabed.setPreserveRatio(true);
-        ImageView grabs = new ImageView(new Image("data/cake/images/grab.png"));
+        ImageView grabs = SpriteAtlas.createImageView("data/cake/images/grab.png");
         grabs.setFitWidth(dimension2D.getWidth() / (4 + i));
         grabs.setPreserveRatio(true);
-        double height = ((grabs.getImage().getHeight()) * (dimension2D.getWidth() / (4 + i)))
-                / grabs.getImage().getWidth();
-        double cakeheight = ((cakeGrabed.getImage().getHeight()) * (dimension2D.getWidth() / (4 + i)))
-                / cakeGrabed.getImage().getWidth();
+        double height = ((SpriteAtlas.getImageSize(grabs).getHeight()) * (dimension2D.getWidth() / (4 + i)))
+                / SpriteAtlas.getImageSize(grabs).getWidth();
+        double cakeheight = ((SpriteAtlas.getImageSize(cakeGrabed).getHeight()) * (dimension2D.getWidth() / (4 + i)))
+                / SpriteAtlas.getImageSize(cakeGrabed).getWidth();
         grabs.setY(cakeheight - height);
         double offset = cakeGrabed.getFitWidth();
         grab.setLayoutX(-cakeGrabed.getFitWidth());
@@ -548,7 +547,7 @@ public class CakeFactory extends Parent implements GameLifeCycle {
                 grab.getChildren().remove(cakeGrabed);
 
                 cake[i] = new StackPane();
-                ImageView base = new ImageView(new Image("data/cake/images/01.png"));
+                ImageView base = SpriteAtlas.createImageView("data/cake/images/01.png");
                 base.setFitWidth(dimension2D.getWidth() / (4 + i));
                 base.setPreserveRatio(true);
                 cake[i].getChildren().addAll(base, new ImageView(), new ImageView(), new ImageView());
@@ -594,11 +593,11 @@ public class CakeFactory extends Parent implements GameLifeCycle {
             ;
             cakeheight = 0;
             for (int j = 0; j < k; j++) {
-                ImageView cakemodel = new ImageView(new Image("data/cake/images/" + j + "" + model[i][j] + ".png"));
+                ImageView cakemodel = SpriteAtlas.createImageView("data/cake/images/" + j + "" + model[i][j] + ".png");
                 cakemodel.setFitWidth(dimension2D.getWidth() / (2 * (4 + i)));
                 cakemodel.setPreserveRatio(true);
-                cakeheight = ((cakemodel.getImage().getHeight()) * (dimension2D.getWidth() / (2 * (4 + i))))
-                        / cakemodel.getImage().getWidth();
+                cakeheight = ((SpriteAtlas.getImageSize(cakemodel).getHeight())
+                        * (dimension2D.getWidth() / (2 * (4 + i)))) / SpriteAtlas.getImageSize(cakemodel).getWidth();
                 if ((i != 0) && (j == 0)) {
                     originY = originY - cakeheight / 2;
                 }
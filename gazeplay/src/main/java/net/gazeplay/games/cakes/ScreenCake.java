@@ -9,6 +9,7 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import net.gazeplay.GameContext;
 import net.gazeplay.commons.utils.ProgressButton;
+import net.gazeplay.commons.utils.games.SpriteAtlas;
 
 import java.util.LinkedList;
 
@@ -52,7 +53,7 @@ public class ScreenCake extends LinkedList {
 
     public void createButton(int i, ProgressButton bt, EventHandler<Event> buttonHandler, CakeFactory cakef) {
         double buttonSize = cakef.getButtonSize();
-        ImageView iv = new ImageView(new Image("data/cake/images/menu" + i + ".png"));
+        ImageView iv = SpriteAtlas.createImageView("data/cake/images/menu" + i + ".png");
         iv.setFitWidth(2 * buttonSize / 3);
         iv.setPreserveRatio(true);
         bt.setImage(iv);
@@ -72,7 +73,7 @@ public class ScreenCake extends LinkedList {
     public void createValidationButton(int i, ProgressButton bt, EventHandler<Event> buttonHandler, CakeFactory cakef) {
         double buttonSize = cakef.getButtonSize();
         Dimension2D dimension2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
-        ImageView iv = new ImageView(new Image("data/cake/images/validate.png"));
+        ImageView iv = SpriteAtlas.createImageView("data/cake/images/validate.png");
         iv.setFitWidth(2 * buttonSize / 3);
         iv.setPreserveRatio(true);
         bt.setImage(iv);
@@ -24,6 +24,7 @@ import net.gazeplay.GazePlay;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.ui.Translator;
 import net.gazeplay.commons.utils.CssUtil;
+import net.gazeplay.commons.utils.games.ImageCache;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
@@ -412,8 +413,8 @@ public class ColorToolBox extends StackPane {
 
         buttonImg = null;
         try {
-            buttonImg = new Image(STOP_COLORIZE_BUTTON_IMAGE_PATH, COLORIZE_BUTTONS_SIZE_PX, COLORIZE_BUTTONS_SIZE_PX,
-                    false, true);
+            buttonImg = ImageCache.getInstance().get(STOP_COLORIZE_BUTTON_IMAGE_PATH, COLORIZE_BUTTONS_SIZE_PX,
+                    COLORIZE_BUTTONS_SIZE_PX, false, true);
         } catch (IllegalArgumentException e) {
             log.warn(e.toString() + " : " + STOP_COLORIZE_BUTTON_IMAGE_PATH);
         }
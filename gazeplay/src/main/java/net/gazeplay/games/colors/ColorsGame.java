@@ -32,6 +32,7 @@ import net.gazeplay.GazePlay;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
 import net.gazeplay.commons.ui.Translator;
+import net.gazeplay.commons.utils.games.ImageCache;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
@@ -221,7 +222,7 @@ public class ColorsGame implements GameLifeCycle {
 
         colorToolBox.widthProperty().addListener(listener);
 
-        Image img = new Image(imgURL);
+        Image img = ImageCache.getInstance().get(imgURL);
 
         if (!img.isError()) {
 
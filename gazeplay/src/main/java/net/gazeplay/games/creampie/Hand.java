@@ -2,10 +2,10 @@ package net.gazeplay.games.creampie;
 
 import javafx.animation.*;
 import javafx.scene.Parent;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 import javafx.util.Duration;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.games.Utils;
 
 /**
@@ -29,12 +29,12 @@ public class Hand extends Parent {
     public Hand() {
         recomputePosition();
 
-        hand = new ImageView(new Image(HAND_IMAGE_PATH));
+        hand = new ImageView(ImageCache.getInstance().get(HAND_IMAGE_PATH));
         hand.setFitWidth(maxSize);
         hand.setFitHeight(maxSize);
         hand.setPreserveRatio(true);
 
-        pie = new ImageView(new Image(PIE_IMAGE_PATH));
+        pie = new ImageView(ImageCache.getInstance().get(PIE_IMAGE_PATH));
         pie.setFitWidth(size);
         pie.setFitHeight(size);
         pie.setPreserveRatio(true);
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GameContext;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.commons.configuration.Configuration;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.stats.Stats;
 import net.gazeplay.games.cups.utils.Action;
 import net.gazeplay.games.cups.utils.PositionCup;
@@ -59,7 +60,7 @@ public class CupsAndBalls implements GameLifeCycle {
     private void init() {
         dimension2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
 
-        Image cupPicture = new Image("data/cups/images/cup.png");
+        Image cupPicture = ImageCache.getInstance().get("data/cups/images/cup.png");
         double imageWidth = dimension2D.getHeight() / (nbColumns * 1.5);
         double imageHeight = dimension2D.getHeight() / nbColumns;
 
@@ -1,13 +1,13 @@
 package net.gazeplay.games.divisor;
 
 import javafx.geometry.Dimension2D;
-import javafx.scene.image.Image;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GameContext;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.commons.configuration.Configuration;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.games.ImageLibrary;
 import net.gazeplay.commons.utils.games.ImageUtils;
 import net.gazeplay.commons.utils.games.Utils;
@@ -39,7 +39,8 @@ public class Divisor implements GameLifeCycle {
             Dimension2D dimension2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
             Rectangle imageRectangle = new Rectangle(0, 0, dimension2D.getWidth(), dimension2D.getHeight());
             try {
-                imageRectangle.setFill(new ImagePattern(new Image("data/divisor/images/Background.png")));
+                imageRectangle.setFill(
+                        new ImagePattern(ImageCache.getInstance().get("data/divisor/images/Background.png")));
                 int coef = (Configuration.getInstance().isBackgroundWhite()) ? 1 : 0;
                 imageRectangle.setOpacity(1 - coef * 0.9);
 
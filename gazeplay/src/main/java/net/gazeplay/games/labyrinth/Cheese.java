@@ -1,9 +1,9 @@
 package net.gazeplay.games.labyrinth;
 
 import javafx.scene.Parent;
-import javafx.scene.image.Image;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
+import net.gazeplay.commons.utils.games.ImageCache;
 
 import java.util.Random;
 
@@ -24,7 +24,8 @@ public class Cheese extends Parent {
         this.gameInstance = gameInstance;
         alreadyCheese = false;
         cheese = new Rectangle(entiereRecX, entiereRecY, width, height);
-        cheese.setFill(new ImagePattern(new Image("data/labyrinth/images/cheese.png"), 5, 5, 1, 1, true));
+        cheese.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/cheese.png"), 5, 5, 1, 1,
+                true));
         indexY = 0;
         indexX = 0;
         cheese.setMouseTransparent(true);
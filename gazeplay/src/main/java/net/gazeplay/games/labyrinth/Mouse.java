@@ -2,10 +2,10 @@ package net.gazeplay.games.labyrinth;
 
 import javafx.scene.Parent;
 import javafx.scene.control.ProgressIndicator;
-import javafx.scene.image.Image;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import net.gazeplay.GameContext;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.stats.Stats;
 
 public abstract class Mouse extends Parent {
@@ -32,7 +32,8 @@ public abstract class Mouse extends Parent {
         this.stats = stats;
 
         this.mouse = new Rectangle(positionX, positionY, width, height);
-        this.mouse.setFill(new ImagePattern(new Image("data/labyrinth/images/mouseFront.png"), 5, 5, 1, 1, true));
+        this.mouse.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseFront.png"), 5, 5,
+                1, 1, true));
         this.getChildren().add(mouse);
 
         this.indiceX = 0;
@@ -51,28 +52,36 @@ public abstract class Mouse extends Parent {
     public void putInBold() {
         if (orientation.equals("back")) {
             this.mouse
-                    .setFill(new ImagePattern(new Image("data/labyrinth/images/mouseBackBold.png"), 5, 5, 1, 1, true));
+                    .setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseBackBold.png"),
+                            5, 5, 1, 1, true));
         } else if (orientation.equals("front")) {
             this.mouse
-                    .setFill(new ImagePattern(new Image("data/labyrinth/images/mouseFrontBold.png"), 5, 5, 1, 1, true));
+                    .setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseFrontBold.png"),
+                            5, 5, 1, 1, true));
         } else if (orientation.equals("left")) {
             this.mouse
-                    .setFill(new ImagePattern(new Image("data/labyrinth/images/mouseLeftBold.png"), 5, 5, 1, 1, true));
+                    .setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseLeftBold.png"),
+                            5, 5, 1, 1, true));
         } else if (orientation.equals("right")) {
             this.mouse
-                    .setFill(new ImagePattern(new Image("data/labyrinth/images/mouseRightBold.png"), 5, 5, 1, 1, true));
+                    .setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseRightBold.png"),
+                            5, 5, 1, 1, true));
         }
     }
 
     public void putInLight() {
         if (orientation.equals("back")) {
-            this.mouse.setFill(new ImagePattern(new Image("data/labyrinth/images/mouseBack.png"), 5, 5, 1, 1, true));
+            this.mouse.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseBack.png"), 5,
+                    5, 1, 1, true));
         } else if (orientation.equals("front")) {
-            this.mouse.setFill(new ImagePattern(new Image("data/labyrinth/images/mouseFront.png"), 5, 5, 1, 1, true));
+            this.mouse.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseFront.png"), 5,
+                    5, 1, 1, true));
         } else if (orientation.equals("left")) {
-            this.mouse.setFill(new ImagePattern(new Image("data/labyrinth/images/mouseLeft.png"), 5, 5, 1, 1, true));
+            this.mouse.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseLeft.png"), 5,
+                    5, 1, 1, true));
         } else if (orientation.equals("right")) {
-            this.mouse.setFill(new ImagePattern(new Image("data/labyrinth/images/mouseRight.png"), 5, 5, 1, 1, true));
+            this.mouse.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseRight.png"), 5,
+                    5, 1, 1, true));
         }
     }
 
@@ -83,21 +92,25 @@ public abstract class Mouse extends Parent {
             if (oldColumn < newColumn) { // Move to the right
                 this.orientation = "right";
                 this.mouse
-                        .setFill(new ImagePattern(new Image("data/labyrinth/images/mouseRight.png"), 5, 5, 1, 1, true));
+                        .setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseRight.png"),
+                                5, 5, 1, 1, true));
             } else { // Move to the Left
                 this.orientation = "left";
                 this.mouse
-                        .setFill(new ImagePattern(new Image("data/labyrinth/images/mouseLeft.png"), 5, 5, 1, 1, true));
+                        .setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseLeft.png"),
+                                5, 5, 1, 1, true));
             }
         } else {
             if (oldRow < newRow) { // Move to the bottom
                 this.orientation = "front";
                 this.mouse
-                        .setFill(new ImagePattern(new Image("data/labyrinth/images/mouseFront.png"), 5, 5, 1, 1, true));
+                        .setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseFront.png"),
+                                5, 5, 1, 1, true));
             } else { // Move to the up
                 this.orientation = "back";
                 this.mouse
-                        .setFill(new ImagePattern(new Image("data/labyrinth/images/mouseBack.png"), 5, 5, 1, 1, true));
+                        .setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/mouseBack.png"),
+                                5, 5, 1, 1, true));
             }
         }
     }
@@ -1,10 +1,10 @@
 package net.gazeplay.games.labyrinth;
 
 import javafx.geometry.Dimension2D;
-import javafx.scene.image.Image;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import net.gazeplay.GameContext;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.stats.Stats;
 
 /*
@@ -35,23 +35,27 @@ public class MouseArrowsV1 extends MouseArrows {
         double x = dimension2D.getWidth() * 0.05;
         double y = dimension2D.getHeight() * 0.4;
         this.buttonUp = new Rectangle(x + delta, y - delta, buttonDimWidth, buttonDimHeight);
-        this.buttonUp.setFill(new ImagePattern(new Image("data/labyrinth/images/upArrow.png"), 5, 5, 1, 1, true));
+        this.buttonUp.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/upArrow.png"), 5, 5,
+                1, 1, true));
         this.indicatorUp = createProgressIndicator(x + delta, y - delta, buttonDimWidth, buttonDimHeight);
 
         y = y + 1.5 * buttonDimHeight;
         this.buttonDown = new Rectangle(x + delta, y - 2.5 * delta, buttonDimWidth, buttonDimHeight);
-        this.buttonDown.setFill(new ImagePattern(new Image("data/labyrinth/images/downArrow.png"), 5, 5, 1, 1, true));
+        this.buttonDown.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/downArrow.png"), 5,
+                5, 1, 1, true));
         this.indicatorDown = createProgressIndicator(x + delta, y - 2.5 * delta, buttonDimWidth, buttonDimHeight);
 
         y = y - 1.1 * buttonDimHeight;
         x = x - 0.4 * buttonDimWidth;
         this.buttonLeft = new Rectangle(x, y, buttonDimHeight, buttonDimWidth);
-        this.buttonLeft.setFill(new ImagePattern(new Image("data/labyrinth/images/leftArrow.png"), 5, 5, 1, 1, true));
+        this.buttonLeft.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/leftArrow.png"), 5,
+                5, 1, 1, true));
         this.indicatorLeft = createProgressIndicator(x, y, buttonDimWidth, buttonDimHeight);
 
         x = x + 1.1 * buttonDimWidth;
         this.buttonRight = new Rectangle(x, y, buttonDimHeight, buttonDimWidth);
-        this.buttonRight.setFill(new ImagePattern(new Image("data/labyrinth/images/rightArrow.png"), 5, 5, 1, 1, true));
+        this.buttonRight.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/rightArrow.png"),
+                5, 5, 1, 1, true));
         this.indicatorRight = createProgressIndicator(x, y, buttonDimWidth, buttonDimHeight);
 
     }
@@ -1,9 +1,9 @@
 package net.gazeplay.games.labyrinth;
 
-import javafx.scene.image.Image;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import net.gazeplay.GameContext;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.stats.Stats;
 
 /*
@@ -35,19 +35,23 @@ public class MouseArrowsV2 extends MouseArrows {
         double dy2 = dy * 0.8;
 
         this.buttonUp = new Rectangle(x, y - 1.2 * dy, buttonDimWidth, buttonDimHeight);
-        this.buttonUp.setFill(new ImagePattern(new Image("data/labyrinth/images/upArrow.png"), 5, 5, 1, 1, true));
+        this.buttonUp.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/upArrow.png"), 5, 5,
+                1, 1, true));
         this.indicatorUp = createProgressIndicator(x, y - 1.2 * dy, buttonDimWidth, buttonDimHeight);
 
         this.buttonDown = new Rectangle(x, y + dy2, buttonDimWidth, buttonDimHeight);
-        this.buttonDown.setFill(new ImagePattern(new Image("data/labyrinth/images/downArrow.png"), 5, 5, 1, 1, true));
+        this.buttonDown.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/downArrow.png"), 5,
+                5, 1, 1, true));
         this.indicatorDown = createProgressIndicator(x, y + dy2, buttonDimWidth, buttonDimHeight);
 
         this.buttonLeft = new Rectangle(x - 1.25 * dx, y, buttonDimHeight, buttonDimWidth);
-        this.buttonLeft.setFill(new ImagePattern(new Image("data/labyrinth/images/leftArrow.png"), 5, 5, 1, 1, true));
+        this.buttonLeft.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/leftArrow.png"), 5,
+                5, 1, 1, true));
         this.indicatorLeft = createProgressIndicator(x - 1.25 * dx, y, buttonDimWidth, buttonDimHeight);
 
         this.buttonRight = new Rectangle(x + dx2, y, buttonDimHeight, buttonDimWidth);
-        this.buttonRight.setFill(new ImagePattern(new Image("data/labyrinth/images/rightArrow.png"), 5, 5, 1, 1, true));
+        this.buttonRight.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/rightArrow.png"),
+                5, 5, 1, 1, true));
         this.indicatorRight = createProgressIndicator(x + dx2, y, buttonDimWidth, buttonDimHeight);
     }
 
@@ -1,10 +1,10 @@
 package net.gazeplay.games.labyrinth;
 
 import javafx.geometry.Dimension2D;
-import javafx.scene.image.Image;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import net.gazeplay.GameContext;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.stats.Stats;
 
 /*
@@ -36,23 +36,27 @@ public class MouseArrowsV3 extends MouseArrows {
         double y = gameInstance.entiereRecY - 2 * delta;
 
         this.buttonUp = new Rectangle(x, y, buttonDimWidth, buttonDimHeight);
-        this.buttonUp.setFill(new ImagePattern(new Image("data/labyrinth/images/upArrow.png"), 5, 5, 1, 1, true));
+        this.buttonUp.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/upArrow.png"), 5, 5,
+                1, 1, true));
         this.indicatorUp = createProgressIndicator(x, y, buttonDimWidth, buttonDimHeight);
 
         y = gameInstance.entiereRecY + gameInstance.entiereRecHeight;
         this.buttonDown = new Rectangle(x, y, buttonDimWidth, buttonDimHeight);
-        this.buttonDown.setFill(new ImagePattern(new Image("data/labyrinth/images/downArrow.png"), 5, 5, 1, 1, true));
+        this.buttonDown.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/downArrow.png"), 5,
+                5, 1, 1, true));
         this.indicatorDown = createProgressIndicator(x, y, buttonDimWidth, buttonDimHeight);
 
         y = gameInstance.entiereRecY + gameInstance.entiereRecHeight / 2 - delta;
         x = gameInstance.entiereRecX - 2.5 * delta;
         this.buttonLeft = new Rectangle(x, y, buttonDimHeight, buttonDimWidth);
-        this.buttonLeft.setFill(new ImagePattern(new Image("data/labyrinth/images/leftArrow.png"), 5, 5, 1, 1, true));
+        this.buttonLeft.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/leftArrow.png"), 5,
+                5, 1, 1, true));
         this.indicatorLeft = createProgressIndicator(x, y, buttonDimWidth, buttonDimHeight);
 
         x = gameInstance.entiereRecX + gameInstance.entiereRecWidth + 0.5 * delta;
         this.buttonRight = new Rectangle(x, y, buttonDimHeight, buttonDimWidth);
-        this.buttonRight.setFill(new ImagePattern(new Image("data/labyrinth/images/rightArrow.png"), 5, 5, 1, 1, true));
+        this.buttonRight.setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/rightArrow.png"),
+                5, 5, 1, 1, true));
         this.indicatorRight = createProgressIndicator(x, y, buttonDimWidth, buttonDimHeight);
 
     }
@@ -1,10 +1,10 @@
 package net.gazeplay.games.labyrinth;
 
 import javafx.scene.control.ProgressIndicator;
-import javafx.scene.image.Image;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import net.gazeplay.GameContext;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.stats.Stats;
 
 /*
@@ -40,22 +40,26 @@ public class MouseTransparentArrows extends MouseArrows {
 
         this.buttonUp = new Rectangle(x, y - dy, buttonDimWidth, buttonDimHeight);
         this.buttonUp
-                .setFill(new ImagePattern(new Image("data/labyrinth/images/TransparentArrow.png"), 5, 5, 1, 1, true));
+                .setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/TransparentArrow.png"), 5,
+                        5, 1, 1, true));
         this.indicatorUp = createProgressIndicator(x, y - dy, buttonDimWidth, buttonDimHeight);
 
         this.buttonDown = new Rectangle(x, y + dy, buttonDimWidth, buttonDimHeight);
         this.buttonDown
-                .setFill(new ImagePattern(new Image("data/labyrinth/images/TransparentArrow.png"), 5, 5, 1, 1, true));
+                .setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/TransparentArrow.png"), 5,
+                        5, 1, 1, true));
         this.indicatorDown = createProgressIndicator(x, y + dy, buttonDimWidth, buttonDimHeight);
 
         this.buttonLeft = new Rectangle(x - dx, y, buttonDimHeight, buttonDimWidth);
         this.buttonLeft
-                .setFill(new ImagePattern(new Image("data/labyrinth/images/TransparentArrow.png"), 5, 5, 1, 1, true));
+                .setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/TransparentArrow.png"), 5,
+                        5, 1, 1, true));
         this.indicatorLeft = createProgressIndicator(x - dx, y, buttonDimWidth, buttonDimHeight);
 
         this.buttonRight = new Rectangle(x + dx, y, buttonDimHeight, buttonDimWidth);
         this.buttonRight
-                .setFill(new ImagePattern(new Image("data/labyrinth/images/TransparentArrow.png"), 5, 5, 1, 1, true));
+                .setFill(new ImagePattern(ImageCache.getInstance().get("data/labyrinth/images/TransparentArrow.png"), 5,
+                        5, 1, 1, true));
         this.indicatorRight = createProgressIndicator(x + dx, y, buttonDimWidth, buttonDimHeight);
     }
 
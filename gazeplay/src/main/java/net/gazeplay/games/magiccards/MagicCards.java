@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GameContext;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.commons.configuration.Configuration;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.games.ImageLibrary;
 import net.gazeplay.commons.utils.games.ImageUtils;
 import net.gazeplay.commons.utils.games.Utils;
@@ -53,6 +54,10 @@ public class MagicCards implements GameLifeCycle {
         this.stats = stats;
 
         imageLibrary = ImageUtils.createImageLibrary(Utils.getImagesSubDirectory("magiccards"));
+
+        Dimension2D gameDimension2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
+        final double cardHeight = computeCardHeight(gameDimension2D, nbLines);
+        imageLibrary.setRequestedImageSize(cardHeight * cardRatio, cardHeight);
     }
 
     @Override
@@ -132,7 +137,7 @@ public class MagicCards implements GameLifeCycle {
                     image = imageLibrary.pickRandomImage();
                 } else {
                     isWinnerCard = false;
-                    image = new Image("data/common/images/error.png");
+                    image = ImageCache.getInstance().get("data/common/images/error.png");
                 }
 
                 double positionX = width / 2 + (width + cardWidth) * currentColumnIndex;
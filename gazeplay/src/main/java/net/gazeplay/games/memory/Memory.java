@@ -69,7 +69,11 @@ public class Memory implements GameLifeCycle {
         final int cardsCount = nbColumns * nbLines;
         HashMap<Integer, Image> res = new HashMap<>();
 
-        Set<Image> images = imageLibrary.pickMultipleRandomDistinctImages(cardsCount / 2);
+        final Dimension2D gameDimension2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
+        final double cardHeight = computeCardHeight(gameDimension2D, nbLines);
+        imageLibrary.setRequestedImageSize(cardHeight * cardRatio, cardHeight);
+
+        List<Image> images = imageLibrary.pickRandomDistinctImages(cardsCount / 2);
 
         int i = 0;
         for (Image image : images) {
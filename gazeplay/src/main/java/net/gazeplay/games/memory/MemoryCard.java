@@ -16,6 +16,7 @@ import javafx.util.Duration;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GameContext;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.stats.Stats;
 
 @Slf4j
@@ -53,7 +54,8 @@ public class MemoryCard extends Parent {
 
         this.card = new Rectangle(positionX, positionY, width, height);
 
-        this.card.setFill(new ImagePattern(new Image("data/magiccards/images/red-card-game.png"), 0, 0, 1, 1, true));
+        this.card.setFill(new ImagePattern(ImageCache.getInstance().get("data/magiccards/images/red-card-game.png"), 0,
+                0, 1, 1, true));
 
         this.image = image;
 
@@ -147,7 +149,8 @@ public class MemoryCard extends Parent {
                 gameInstance.currentRoundDetails.cardList.get(i).turned = false;
                 gameInstance.currentRoundDetails.cardList.get(i).progressIndicator.setOpacity(0);
                 gameInstance.currentRoundDetails.cardList.get(i).card.setFill(
-                        new ImagePattern(new Image("data/magiccards/images/red-card-game.png"), 0, 0, 1, 1, true));
+                        new ImagePattern(ImageCache.getInstance().get("data/magiccards/images/red-card-game.png"), 0, 0,
+                                1, 1, true));
             }
             gameInstance.currentRoundDetails.cardList.get(i).cardAlreadyTurned = -1;
         }
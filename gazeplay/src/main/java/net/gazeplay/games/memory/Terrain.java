@@ -1,6 +1,7 @@
 package net.gazeplay.games.memory;
 
 import javafx.scene.image.Image;
+import net.gazeplay.commons.utils.games.ImageCache;
 
 public class Terrain {
 
@@ -8,7 +9,7 @@ public class Terrain {
 
     public Terrain(int nbHoles) {
 
-        image = new Image("data/magiccards/images/red-card-game.png");
+        image = ImageCache.getInstance().get("data/magiccards/images/red-card-game.png");
 
     }
 
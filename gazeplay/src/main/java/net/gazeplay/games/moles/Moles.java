@@ -4,7 +4,6 @@ import javafx.geometry.Dimension2D;
 import javafx.scene.Parent;
 import javafx.scene.control.Label;
 import javafx.scene.effect.ColorAdjust;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
@@ -15,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GameContext;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.commons.configuration.Configuration;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.stats.Stats;
 
 import java.util.*;
@@ -62,7 +62,7 @@ public class Moles extends Parent implements GameLifeCycle {
         final Configuration config = Configuration.getInstance();
 
         Rectangle imageFond = new Rectangle(0, 0, dimension2D.getWidth(), dimension2D.getHeight());
-        imageFond.setFill(new ImagePattern(new Image("data/whackmole/images/molesGround.jpg")));
+        imageFond.setFill(new ImagePattern(ImageCache.getInstance().get("data/whackmole/images/molesGround.jpg")));
         int coef = (Configuration.getInstance().isBackgroundWhite()) ? 1 : 0;
 
         ColorAdjust colorAdjust = new ColorAdjust();
@@ -78,7 +78,8 @@ public class Moles extends Parent implements GameLifeCycle {
         gameContext.getChildren().add(this);
 
         Rectangle imageFondTrans = new Rectangle(0, 0, dimension2D.getWidth(), dimension2D.getHeight());
-        imageFondTrans.setFill(new ImagePattern(new Image("data/whackmole/images/molesGroundTransparent.png")));
+        imageFondTrans.setFill(
+                new ImagePattern(ImageCache.getInstance().get("data/whackmole/images/molesGroundTransparent.png")));
 
         imageFondTrans.setEffect(colorAdjust);
 
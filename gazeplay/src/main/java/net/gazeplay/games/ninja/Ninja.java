@@ -3,6 +3,7 @@ package net.gazeplay.games.ninja;
 import net.gazeplay.GameContext;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.commons.utils.Portrait;
+import net.gazeplay.commons.utils.games.ImageLibrary;
 import net.gazeplay.commons.utils.stats.Stats;
 
 /**
@@ -14,18 +15,23 @@ public class Ninja implements GameLifeCycle {
 
     private final Stats stats;
 
+    private final ImageLibrary imageLibrary;
+
     private Target portrait;
 
     public Ninja(GameContext gameContext, Stats stats) {
         super();
         this.gameContext = gameContext;
         this.stats = stats;
+
+        // kept from one round to the next, so that the images loaded in advance are used
+        this.imageLibrary = Portrait.createImageLibrary();
+        this.imageLibrary.setRequestedImageSize(2 * Target.radius, 2 * Target.radius);
     }
 
     @Override
     public void launch() {
-        portrait = new Target(gameContext, gameContext.getRandomPositionGenerator(), stats,
-                Portrait.createImageLibrary());
+        portrait = new Target(gameContext, gameContext.getRandomPositionGenerator(), stats, imageLibrary);
 
         gameContext.getChildren().add(portrait);
     }
@@ -28,7 +28,7 @@ import java.util.Random;
 @Slf4j
 public class Target extends Portrait {
 
-    private static final int radius = 100;
+    static final int radius = 100;
 
     private static final int ballRadius = 50;
 
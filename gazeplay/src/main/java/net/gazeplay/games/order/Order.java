@@ -9,7 +9,6 @@ import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
-import javafx.scene.image.Image;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Circle;
 import javafx.util.Duration;
@@ -17,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GameContext;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.commons.configuration.Configuration;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.stats.Stats;
 
 /**
@@ -62,9 +62,10 @@ public class Order implements GameLifeCycle {
 
         Circle c = new Circle(t.getPos().getX(), t.getPos().getY(), t.getRadius());
         if (correct == true) {
-            c.setFill(new ImagePattern(new Image("data/order/images/success.png"), 0, 0, 1, 1, true));
+            c.setFill(new ImagePattern(ImageCache.getInstance().get("data/order/images/success.png"), 0, 0, 1, 1,
+                    true));
         } else {
-            c.setFill(new ImagePattern(new Image("data/order/images/fail.png"), 0, 0, 1, 1, true));
+            c.setFill(new ImagePattern(ImageCache.getInstance().get("data/order/images/fail.png"), 0, 0, 1, 1, true));
         }
         this.gameContext.getChildren().add(c);
 
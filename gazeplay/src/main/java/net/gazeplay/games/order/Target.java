@@ -8,7 +8,6 @@ import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.scene.Parent;
 import javafx.scene.control.ProgressIndicator;
-import javafx.scene.image.Image;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Circle;
@@ -16,6 +15,7 @@ import javafx.util.Duration;
 import net.gazeplay.GameContext;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
 import net.gazeplay.commons.utils.Position;
+import net.gazeplay.commons.utils.games.ImageCache;
 
 /**
  *
@@ -39,7 +39,8 @@ public class Target extends Parent {
         this.radius = 75;
 
         Circle cercle = new Circle(pos.getX(), pos.getY(), this.radius);
-        cercle.setFill(new ImagePattern(new Image("data/order/images/target.png"), 0, 0, 1, 1, true));
+        cercle.setFill(new ImagePattern(ImageCache.getInstance().get("data/order/images/target.png"), 0, 0, 1, 1,
+                true));
         this.getChildren().add(cercle);
 
         this.progressIndicator = createProgressIndicator(100);
@@ -5,16 +5,15 @@ import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.geometry.Dimension2D;
 import javafx.scene.Cursor;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
-import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.Shape;
 import javafx.util.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.utils.games.SpriteAtlas;
 
 @Slf4j
 public class Mypet extends Pane {
@@ -73,7 +72,7 @@ public class Mypet extends Pane {
     private String emotion = "basic";
 
     public Mypet(double height, double width, PetHouse ph) {
-        Image tmp = new Image("data/pet/images/body.png");
+        Dimension2D tmp = SpriteAtlas.getImageSize("data/pet/images/body.png");
 
         double old_valueh = tmp.getHeight();
         double new_valueh = height / 4;
@@ -95,10 +94,10 @@ public class Mypet extends Pane {
     }
 
     public void init() {
-        Image corps = new Image("data/pet/images/body.png");
+        Dimension2D corps = SpriteAtlas.getImageSize("data/pet/images/body.png");
         setBody(new Rectangle(0, 0, corps.getWidth() * wratio, corps.getHeight() * hratio));
 
-        getBody().setFill(new ImagePattern(corps));
+        getBody().setFill(SpriteAtlas.createImagePattern("data/pet/images/body.png"));
 
         bibouleh = 3 * getBody().getHeight() / 2;
         biboulew = 3 * getBody().getWidth() / 2;
@@ -106,50 +105,50 @@ public class Mypet extends Pane {
         getBody().setLayoutX(biboulew / 2 - getBody().getWidth() / 2);
         getBody().setLayoutY(bibouleh - getBody().getHeight());
 
-        Image wings = new Image("data/pet/images/wing.png");
+        Dimension2D wings = SpriteAtlas.getImageSize("data/pet/images/wing.png");
 
-        setLeftWing((new ImageView(wings)));
+        setLeftWing(SpriteAtlas.createImageView("data/pet/images/wing.png"));
         getLeftWing().setPreserveRatio(true);
         getLeftWing().setFitHeight(wings.getHeight() * hratio);
         getLeftWing().setLayoutX(biboulew / 2 - 2 * getBody().getWidth() / 3);
         getLeftWing().setRotate(-30);
 
-        setRightWing((new ImageView(wings)));
+        setRightWing(SpriteAtlas.createImageView("data/pet/images/wing.png"));
         getRightWing().setPreserveRatio(true);
         getRightWing().setFitHeight(wings.getHeight() * hratio);
         getRightWing().setLayoutX(biboulew / 2 + getBody().getWidth() / 3);
         getRightWing().setRotate(30);
 
-        Image mouth = new Image("data/pet/images/mouth.png");
+        Dimension2D mouth = SpriteAtlas.getImageSize("data/pet/images/mouth.png");
         setMouth(new Rectangle(0, 0, mouth.getWidth() * wratio, mouth.getHeight() * hratio));
         getMouth().setX(biboulew / 2 - getMouth().getWidth() / 2);
         getMouth().setY(3 * bibouleh / 4);
-        getMouth().setFill(new ImagePattern(mouth));
+        getMouth().setFill(SpriteAtlas.createImagePattern("data/pet/images/mouth.png"));
         // getMouth().setFHeight(mouth.getHeight() * hratio);
         // getMouth().setFitWidth(mouth.getWidth() * wratio);
 
-        Image eyes = new Image("data/pet/images/eye.png");
+        Dimension2D eyes = SpriteAtlas.getImageSize("data/pet/images/eye.png");
 
         setRightEye(new Rectangle(0, 0, eyes.getWidth() * wratio, eyes.getHeight() * hratio));
         getRightEye().setLayoutX(biboulew / 2 - biboulew / 8 - getRightEye().getWidth() / 2);
         getRightEye().setLayoutY(bibouleh / 2);
-        getRightEye().setFill(new ImagePattern(eyes));
+        getRightEye().setFill(SpriteAtlas.createImagePattern("data/pet/images/eye.png"));
 
         setLeftEye(new Rectangle(0, 0, eyes.getWidth() * wratio, eyes.getHeight() * hratio));
         getLeftEye().setLayoutX(biboulew / 2 + biboulew / 8 - getLeftEye().getWidth() / 2);
         getLeftEye().setLayoutY(bibouleh / 2);
-        getLeftEye().setFill(new ImagePattern(eyes));
+        getLeftEye().setFill(SpriteAtlas.createImagePattern("data/pet/images/eye.png"));
 
     }
 
     public void setBasic() {
         emotion = "basic";
-        getBody().setFill(new ImagePattern(new Image("data/pet/images/body.png")));
-        getLeftWing().setImage(new Image("data/pet/images/wing.png"));
-        getRightWing().setImage(new Image("data/pet/images/wing.png"));
-        getMouth().setFill(new ImagePattern(new Image("data/pet/images/mouth.png")));
-        getRightEye().setFill(new ImagePattern(new Image("data/pet/images/eye.png")));
-        getLeftEye().setFill(new ImagePattern(new Image("data/pet/images/eye.png")));
+        getBody().setFill(SpriteAtlas.createImagePattern("data/pet/images/body.png"));
+        SpriteAtlas.setImage(getLeftWing(), "data/pet/images/wing.png");
+        SpriteAtlas.setImage(getRightWing(), "data/pet/images/wing.png");
+        getMouth().setFill(SpriteAtlas.createImagePattern("data/pet/images/mouth.png"));
+        getRightEye().setFill(SpriteAtlas.createImagePattern("data/pet/images/eye.png"));
+        getLeftEye().setFill(SpriteAtlas.createImagePattern("data/pet/images/eye.png"));
         eyesAreOpen = true;
 
     }
@@ -157,9 +156,9 @@ public class Mypet extends Pane {
     public void setHappy() {
 
         emotion = "happy";
-        getLeftEye().setFill(new ImagePattern(new Image("data/pet/images/eyeclosed.png")));
-        getRightEye().setFill(new ImagePattern(new Image("data/pet/images/eyeclosed.png")));
-        getMouth().setFill(new ImagePattern(new Image("data/pet/images/smile.png")));
+        getLeftEye().setFill(SpriteAtlas.createImagePattern("data/pet/images/eyeclosed.png"));
+        getRightEye().setFill(SpriteAtlas.createImagePattern("data/pet/images/eyeclosed.png"));
+        getMouth().setFill(SpriteAtlas.createImagePattern("data/pet/images/smile.png"));
         eyesAreOpen = false;
 
     }
@@ -167,9 +166,9 @@ public class Mypet extends Pane {
     public void setSmiling() {
 
         emotion = "smile";
-        getLeftEye().setFill(new ImagePattern(new Image("data/pet/images/eye.png")));
-        getRightEye().setFill(new ImagePattern(new Image("data/pet/images/eye.png")));
-        getMouth().setFill(new ImagePattern(new Image("data/pet/images/smile.png")));
+        getLeftEye().setFill(SpriteAtlas.createImagePattern("data/pet/images/eye.png"));
+        getRightEye().setFill(SpriteAtlas.createImagePattern("data/pet/images/eye.png"));
+        getMouth().setFill(SpriteAtlas.createImagePattern("data/pet/images/smile.png"));
         eyesAreOpen = true;
 
     }
@@ -182,7 +181,8 @@ public class Mypet extends Pane {
         ph.refill(1);
         Timeline eat = new Timeline();
         eat.getKeyFrames().add(new KeyFrame(Duration.millis(200),
-                new KeyValue(getMouth().fillProperty(), new ImagePattern(new Image("data/pet/images/mouth.png")))));
+                new KeyValue(getMouth().fillProperty(),
+                        SpriteAtlas.createImagePattern("data/pet/images/mouth.png"))));
 
         eat.setOnFinished(new EventHandler<ActionEvent>() {
             @Override
@@ -190,12 +190,12 @@ public class Mypet extends Pane {
                 if ((eatingBool > 0) && (eatingBool % 2 == 0)) {
                     eat.getKeyFrames().clear();
                     eat.getKeyFrames().add(new KeyFrame(Duration.millis(200), new KeyValue(getMouth().fillProperty(),
-                            new ImagePattern(new Image("data/pet/images/smile.png")))));
+                            SpriteAtlas.createImagePattern("data/pet/images/smile.png"))));
                     eat.play();
                 } else if ((eatingBool > 0) && (eatingBool % 2 == 1)) {
                     eat.getKeyFrames().clear();
                     eat.getKeyFrames().add(new KeyFrame(Duration.millis(200), new KeyValue(getMouth().fillProperty(),
-                            new ImagePattern(new Image("data/pet/images/mouth.png")))));
+                            SpriteAtlas.createImagePattern("data/pet/images/mouth.png"))));
                     eat.play();
                 } else {
                     setBasic();
@@ -243,9 +243,11 @@ public class Mypet extends Pane {
         eyesAreOpen = true;
         t = new Timeline();
         t.getKeyFrames().add(new KeyFrame(Duration.millis(200),
-                new KeyValue(getLeftEye().fillProperty(), new ImagePattern(new Image("data/pet/images/eye.png")))));
+                new KeyValue(getLeftEye().fillProperty(),
+                        SpriteAtlas.createImagePattern("data/pet/images/eye.png"))));
         t.getKeyFrames().add(new KeyFrame(Duration.millis(200),
-                new KeyValue(getRightEye().fillProperty(), new ImagePattern(new Image("data/pet/images/eye.png")))));
+                new KeyValue(getRightEye().fillProperty(),
+                        SpriteAtlas.createImagePattern("data/pet/images/eye.png"))));
 
         t.setOnFinished(new EventHandler<ActionEvent>() {
             @Override
@@ -254,14 +256,14 @@ public class Mypet extends Pane {
                 t.getKeyFrames().clear();
                 if (eyesAreOpen) {
                     t.getKeyFrames().add(new KeyFrame(Duration.millis(time), new KeyValue(getLeftEye().fillProperty(),
-                            new ImagePattern(new Image("data/pet/images/eyeclosed.png")))));
+                            SpriteAtlas.createImagePattern("data/pet/images/eyeclosed.png"))));
                     t.getKeyFrames().add(new KeyFrame(Duration.millis(time), new KeyValue(getRightEye().fillProperty(),
-                            new ImagePattern(new Image("data/pet/images/eyeclosed.png")))));
+                            SpriteAtlas.createImagePattern("data/pet/images/eyeclosed.png"))));
                 } else {
                     t.getKeyFrames().add(new KeyFrame(Duration.millis(200), new KeyValue(getLeftEye().fillProperty(),
-                            new ImagePattern(new Image("data/pet/images/eye.png")))));
+                            SpriteAtlas.createImagePattern("data/pet/images/eye.png"))));
                     t.getKeyFrames().add(new KeyFrame(Duration.millis(200), new KeyValue(getRightEye().fillProperty(),
-                            new ImagePattern(new Image("data/pet/images/eye.png")))));
+                            SpriteAtlas.createImagePattern("data/pet/images/eye.png"))));
                 }
                 eyesAreOpen = !eyesAreOpen;
                 t.play();
@@ -294,7 +296,7 @@ public class Mypet extends Pane {
                 if ((intersect.getBoundsInLocal().getWidth() != -1) && !mouthTouched) {
                     setBlinkingEnabled(false);
                     setHappy();
-                    ph.hand.setFill(new ImagePattern(new Image("data/pet/images/emptyspoon.png")));
+                    ph.hand.setFill(SpriteAtlas.createImagePattern("data/pet/images/emptyspoon.png"));
                     mouthTouched = true;
                 } else if ((intersect.getBoundsInLocal().getWidth() == -1) && mouthTouched && (ph.isSpoonFull())) {
                     setEating();
@@ -328,7 +330,7 @@ public class Mypet extends Pane {
                     log.debug("enter baloon");
                     ph.setBaloonGone(true);
                     ph.rd.stop();
-                    ImageView baloon = new ImageView("data/pet/images/ball.png");
+                    ImageView baloon = SpriteAtlas.createImageView("data/pet/images/ball.png");
                     baloon.setPreserveRatio(true);
                     baloon.fitWidthProperty().bind(ph.hand.widthProperty());
                     ph.getGameContext().getChildren().add(baloon);
@@ -435,23 +437,26 @@ public class Mypet extends Pane {
 
                 if ((intersect.getBoundsInLocal().getWidth() == -1) && (intersect2.getBoundsInLocal().getWidth() == -1)
                         && (eyeTouched[0] == true) && (eyeTouched[1] == true)) {
-                    getLeftEye().setFill(new ImagePattern(new Image("data/pet/images/eye.png")));
-                    getRightEye().setFill(new ImagePattern(new Image("data/pet/images/eye.png")));
+                    getLeftEye().setFill(SpriteAtlas.createImagePattern("data/pet/images/eye.png"));
+                    getRightEye().setFill(SpriteAtlas.createImagePattern("data/pet/images/eye.png"));
                     t.play();
                     eyeTouched[0] = false;
                     eyeTouched[1] = false;
                 } else {
                     if ((intersect.getBoundsInLocal().getWidth() != -1)) {
                         t.stop();
-                        getLeftEye().setFill(new ImagePattern(new Image("data/pet/images/eyeclosed.png")));
-                        getRightEye().setFill(new ImagePattern(new Image("data/pet/images/eye.png")));
+                        getLeftEye().setFill(
+                                SpriteAtlas.createImagePattern("data/pet/images/eyeclosed.png"));
+                        getRightEye().setFill(
+                                SpriteAtlas.createImagePattern("data/pet/images/eye.png"));
                         eyeTouched[0] = true;
                     }
 
                     if ((intersect2.getBoundsInLocal().getWidth() != -1)) {
                         t.stop();
-                        getLeftEye().setFill(new ImagePattern(new Image("data/pet/images/eye.png")));
-                        getRightEye().setFill(new ImagePattern(new Image("data/pet/images/eyeclosed.png")));
+                        getLeftEye().setFill(SpriteAtlas.createImagePattern("data/pet/images/eye.png"));
+                        getRightEye().setFill(
+                                SpriteAtlas.createImagePattern("data/pet/images/eyeclosed.png"));
                         eyeTouched[1] = true;
                     }
                 }
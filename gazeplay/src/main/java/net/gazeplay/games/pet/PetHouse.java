@@ -28,6 +28,8 @@ import net.gazeplay.GameLifeCycle;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
 import net.gazeplay.commons.utils.ProgressButton;
+import net.gazeplay.commons.utils.games.ImageCache;
+import net.gazeplay.commons.utils.games.SpriteAtlas;
 import net.gazeplay.commons.utils.stats.Stats;
 import tobii.Tobii;
 
@@ -393,7 +395,7 @@ public class PetHouse extends Parent implements GameLifeCycle {
             bt.button.setStyle("-fx-background-radius: " + buttonSize + "em; " + "-fx-min-width: " + buttonSize + "px; "
                     + "-fx-min-height: " + buttonSize + "px; " + "-fx-max-width: " + buttonSize + "px; "
                     + "-fx-max-height: " + buttonSize + "px;");
-            ImageView iv = new ImageView(new Image("data/pet/images/menu" + i + ".png"));
+            ImageView iv = SpriteAtlas.createImageView("data/pet/images/menu" + i + ".png");
 
             iv.setFitWidth(2 * buttonSize / 3);
             iv.setPreserveRatio(true);
@@ -442,27 +444,27 @@ public class PetHouse extends Parent implements GameLifeCycle {
             j = 2;
             hand.setWidth(2 * handSize);
             hand.setHeight(2 * handSize);
-            hand.setFill(new ImagePattern(new Image("data/pet/images/" + cursor[number % 4])));
+            hand.setFill(SpriteAtlas.createImagePattern("data/pet/images/" + cursor[number % 4]));
             break;
         case BATH_MODE:
             j = 1;
             hand.setWidth(3 * handSize);
             hand.setHeight(2 * handSize);
-            hand.setFill(new ImagePattern(new Image("data/pet/images/" + cursor[number % 4])));
+            hand.setFill(SpriteAtlas.createImagePattern("data/pet/images/" + cursor[number % 4]));
             turnOnShower();
             break;
         case EAT_MODE:
             j = 1;
             hand.setWidth(3 * handSize);
             hand.setHeight(2 * handSize);
-            hand.setFill(new ImagePattern(new Image("data/pet/images/" + cursor[number % 4])));
+            hand.setFill(SpriteAtlas.createImagePattern("data/pet/images/" + cursor[number % 4]));
             letsEat();
             break;
         case SPORT_MODE:
             j = 1;
             hand.setWidth(2 * handSize);
             hand.setHeight(2 * handSize);
-            hand.setFill(new ImagePattern(new Image("data/pet/images/" + cursor[number % 4])));
+            hand.setFill(SpriteAtlas.createImagePattern("data/pet/images/" + cursor[number % 4]));
             doSport();
             break;
         default:
@@ -474,7 +476,8 @@ public class PetHouse extends Parent implements GameLifeCycle {
         t.getKeyFrames().add(new KeyFrame(Duration.millis(200), new KeyValue(pet.scaleYProperty(), j)));
         t.play();
 
-        zone.setFill(new ImagePattern(new Image("data/pet/images/" + screen[number % 4]), 0, 0, 1, 1, true));
+        zone.setFill(new ImagePattern(ImageCache.getInstance().get("data/pet/images/" + screen[number % 4]), 0, 0, 1, 1,
+                true));
 
     }
 
@@ -635,7 +638,7 @@ public class PetHouse extends Parent implements GameLifeCycle {
 
     public void letsEat() {
 
-        bowl = new ImageView(new Image("data/pet/images/bowl.png"));
+        bowl = SpriteAtlas.createImageView("data/pet/images/bowl.png");
         bowl.setPreserveRatio(true);
         if (zone.getWidth() > zone.getHeight()) {
             bowl.setFitHeight(zone.getHeight() / 5);
@@ -692,7 +695,7 @@ public class PetHouse extends Parent implements GameLifeCycle {
                 pet.setBlinkingEnabled(true);
                 Cursor.setVisible(true);
                 inside = true;
-                hand.setFill(new ImagePattern(new Image("data/pet/images/fullspoon.png")));
+                hand.setFill(SpriteAtlas.createImagePattern("data/pet/images/fullspoon.png"));
                 setSpoonFull(true);
             }
         };
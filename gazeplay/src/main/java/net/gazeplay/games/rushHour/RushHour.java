@@ -10,7 +10,6 @@ import javafx.event.EventHandler;
 import javafx.geometry.Dimension2D;
 import javafx.scene.Parent;
 import javafx.scene.control.ProgressIndicator;
-import javafx.scene.image.Image;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
@@ -21,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.DefaultGamesLocator;
 import net.gazeplay.GameContext;
 import net.gazeplay.GameLifeCycle;
+import net.gazeplay.commons.utils.games.ImageCache;
 
 @Slf4j
 public class RushHour extends Parent implements GameLifeCycle {
@@ -223,9 +223,9 @@ public class RushHour extends Parent implements GameLifeCycle {
         endOfGame = false;
         setLevel(level);
         if (toWin.isDirection()) {
-            toWin.setFill(new ImagePattern(new Image("data/rushHour/taxiH.png")));
+            toWin.setFill(new ImagePattern(ImageCache.getInstance().get("data/rushHour/taxiH.png")));
         } else {
-            toWin.setFill(new ImagePattern(new Image("data/rushHour/taxiV.png")));
+            toWin.setFill(new ImagePattern(ImageCache.getInstance().get("data/rushHour/taxiV.png")));
         }
         toWin.setEffect(null);
         level = (level + 1) % numberLevels;
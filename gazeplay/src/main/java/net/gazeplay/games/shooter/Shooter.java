@@ -8,7 +8,6 @@ import javafx.geometry.Dimension2D;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.StackPane;
@@ -22,6 +21,8 @@ import net.gazeplay.GameContext;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+import net.gazeplay.commons.utils.games.ImageCache;
+import net.gazeplay.commons.utils.games.SpriteAtlas;
 import net.gazeplay.commons.utils.games.Utils;
 import net.gazeplay.commons.utils.stats.Stats;
 
@@ -42,12 +43,7 @@ public class Shooter extends Parent implements GameLifeCycle {
 
     private final GameContext gameContext;
 
-    private final Image blue;
-    private final Image green;
-    private final Image yellow;
-    private final Image orange;
-    private final Image red;
-    private final Image flash;
+    private final SpriteAtlas atlas;
 
     private final String date;
     private Label text;
@@ -84,7 +80,8 @@ public class Shooter extends Parent implements GameLifeCycle {
         Rectangle imageRectangle = new Rectangle(0, 0, dimension2D.getWidth(), dimension2D.getHeight());
         imageRectangle.widthProperty().bind(gameContext.getRoot().widthProperty());
         imageRectangle.heightProperty().bind(gameContext.getRoot().heightProperty());
-        imageRectangle.setFill(new ImagePattern(new Image("data/" + gameType + "/images/Background.jpg")));
+        imageRectangle.setFill(
+                new ImagePattern(ImageCache.getInstance().get("data/" + gameType + "/images/Background.jpg")));
 
         int coef = (Configuration.getInstance().isBackgroundWhite()) ? 1 : 0;
         imageRectangle.setOpacity(1 - coef * 0.9);
@@ -114,14 +111,9 @@ public class Shooter extends Parent implements GameLifeCycle {
         imageRectangle.addEventFilter(MouseEvent.ANY, handEvent);
         this.addEventFilter(GazeEvent.ANY, handEventGaze);
 
-        blue = new Image("data/" + gameType + "/images/Blue.png");
-        green = new Image("data/" + gameType + "/images/Green.png");
-        yellow = new Image("data/" + gameType + "/images/Yellow.png");
-        orange = new Image("data/" + gameType + "/images/Orange.png");
-        red = new Image("data/" + gameType + "/images/Red.png");
-        flash = new Image("data/" + gameType + "/images/Flash.png");
+        atlas = SpriteAtlas.forDirectory("data/" + gameType + "/images/");
 
-        cage = new ImageView(new Image("data/" + gameType + "/images/Cage.png"));
+        cage = atlas.newImageView("Cage.png");
 
         Point[] points = new Point[8];
         // init all points
@@ -338,8 +330,8 @@ public class Shooter extends Parent implements GameLifeCycle {
         sc.setText(cst);
         sc.setTextFill(Color.WHITE);
         Dimension2D dimension2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
-        ImageView iv1 = new ImageView(new Image("data/" + gameType + "/images/hand.png"));
-        ImageView iv2 = new ImageView(new Image("data/" + gameType + "/images/handShot.png"));
+        ImageView iv1 = new ImageView(ImageCache.getInstance().get("data/" + gameType + "/images/hand.png"));
+        ImageView iv2 = new ImageView(ImageCache.getInstance().get("data/" + gameType + "/images/handShot.png"));
 
         StackPane iv = new StackPane();
         double x = dimension2D.getHeight();
@@ -550,12 +542,12 @@ public class Shooter extends Parent implements GameLifeCycle {
 
         Target sp = new Target();
 
-        ImageView b1 = new ImageView(blue);
-        ImageView b2 = new ImageView(green);
-        ImageView b3 = new ImageView(yellow);
-        ImageView b4 = new ImageView(orange);
-        ImageView b5 = new ImageView(red);
-        ImageView f = new ImageView(flash);
+        ImageView b1 = atlas.newImageView("Blue.png");
+        ImageView b2 = atlas.newImageView("Green.png");
+        ImageView b3 = atlas.newImageView("Yellow.png");
+        ImageView b4 = atlas.newImageView("Orange.png");
+        ImageView b5 = atlas.newImageView("Red.png");
+        ImageView f = atlas.newImageView("Flash.png");
 
         resize(b1);
         resize(b2);
@@ -27,6 +27,8 @@ import net.gazeplay.GameContext;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+import net.gazeplay.commons.utils.games.ImageCache;
+import net.gazeplay.commons.utils.games.ImageDirectoryIndex;
 import net.gazeplay.commons.utils.games.ImageDirectoryLocator;
 import net.gazeplay.commons.utils.games.Utils;
 import net.gazeplay.commons.utils.multilinguism.Multilinguism;
@@ -82,6 +84,11 @@ public class WhereIsIt implements GameLifeCycle {
 
     private RoundDetails currentRoundDetails;
 
+    /**
+     * located once, the rounds only going through its index
+     */
+    private File imagesDirectory;
+
     public WhereIsIt(final WhereIsItGameType gameType, final int nbLines, final int nbColumns, final boolean fourThree,
             final GameContext gameContext, final Stats stats) {
         this.gameContext = gameContext;
@@ -267,11 +274,11 @@ public class WhereIsIt implements GameLifeCycle {
 
         final String language = config.getLanguage();
 
-        final File[] imagesFolders = imagesDirectory.listFiles();
+        final List<File> imagesFolders = ImageDirectoryIndex.forDirectory(imagesDirectory).getSubdirectories();
 
         log.debug("imagesFolders " + imagesFolders);
 
-        final int filesCount = imagesFolders == null ? 0 : imagesFolders.length;
+        final int filesCount = imagesFolders.size();
 
         if (filesCount == 0) {
             log.warn("No image found in Directory " + imagesDirectory);
@@ -300,32 +307,39 @@ public class WhereIsIt implements GameLifeCycle {
 
             final int index = (randomFolderIndex + step * i) % filesCount;
 
-            final File folder = imagesFolders[(index) % filesCount];
+            final File folder = imagesFolders.get((index) % filesCount);
 
             log.debug("folder = {}", folder);
 
-            if (!folder.isDirectory())
-                continue;
+            final List<File> files = ImageDirectoryIndex.forDirectory(folder).getImageFiles();
 
-            // final File[] files = folder.listFiles();
-            final File[] files = getFiles(folder);
+            log.debug("files = {}", files);
 
-            log.debug("files = {}", (Object[]) files);
+            if (files.isEmpty())
+                continue;
 
-            final int numFile = random.nextInt(files.length);
+            final int numFile = random.nextInt(files.size());
 
-            final File randomImageFile = files[numFile];
+            File randomImageFile = files.get(numFile);
+            if (!randomImageFile.exists()) {
+                // deleted since the folder was listed
+                ImageDirectoryIndex.onMissingFile(randomImageFile);
+                randomImageFile = files.stream().filter(File::exists).findFirst().orElse(null);
+                if (randomImageFile == null) {
+                    continue;
+                }
+            }
             log.debug("randomImageFile = {}", randomImageFile);
 
             if (winnerImageIndexAmongDisplayedImages == i) {
 
                 log.debug("randomImageFile.getAbsolutePath() " + randomImageFile.getAbsolutePath());
 
-                questionSoundPath = getPathSound(imagesFolders[(index) % filesCount].getName(), language);
+                questionSoundPath = getPathSound(imagesFolders.get((index) % filesCount).getName(), language);
 
-                question = getQuestionText(imagesFolders[(index) % filesCount].getName(), language);
+                question = getQuestionText(imagesFolders.get((index) % filesCount).getName(), language);
 
-                pictograms = getPictogramms(imagesFolders[(index) % filesCount].getName());
+                pictograms = getPictogramms(imagesFolders.get((index) % filesCount).getName());
 
                 log.debug("pathSound = {}", questionSoundPath);
 
@@ -353,38 +367,6 @@ public class WhereIsIt implements GameLifeCycle {
                 pictograms);
     }
 
-    /**
-     * Return all files which don't start with a point
-     */
-    private File[] getFiles(File folder) {
-
-        File[] files = folder.listFiles();
-
-        int nbElementsToKeep = 0;
-
-        for (File file : files) {
-            log.debug("{}", file.getName());
-            if (!file.getName().startsWith(".")) {
-
-                nbElementsToKeep++;
-            }
-        }
-
-        File[] list = new File[nbElementsToKeep];
-
-        int i = 0;
-
-        for (File file : files) {
-            log.debug("{}", file.getName());
-            if (!file.getName().startsWith(".")) {
-
-                list[i++] = file;
-            }
-        }
-
-        return list;
-    }
-
     private void error(String language) {
 
         gameContext.clear();
@@ -402,6 +384,10 @@ public class WhereIsIt implements GameLifeCycle {
 
     private File locateImagesDirectory(Configuration config) {
 
+        if (imagesDirectory != null) {
+            return imagesDirectory;
+        }
+
         File result = null;
 
         if (this.gameType == CUSTOMIZED) {
@@ -417,6 +403,7 @@ public class WhereIsIt implements GameLifeCycle {
                         "data/" + this.gameType.getResourcesDirectoryName() + "/images/");
             }
         }
+        imagesDirectory = result;
         return result;
     }
 
@@ -746,7 +733,7 @@ public class WhereIsIt implements GameLifeCycle {
         }
 
         private Rectangle createErrorImageRectangle() {
-            final Image image = new Image("data/common/images/error.png");
+            final Image image = ImageCache.getInstance().get("data/common/images/error.png");
 
             double imageWidth = image.getWidth();
             double imageHeight = image.getHeight();